@@ -0,0 +1,119 @@
+package callprotector.spring.global.abuse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// FILTER 기준 파일로 ONNX 백엔드의 토크나이저/판정이 FILTER 서버와 같은지 비교
+// - 기준 파일: FILTER에서 python -m export.agreement_fixture --out <model-dir>/agreement.jsonl (문장별 input_ids, abuse/detected/type)
+// - 실행: ./gradlew abuseAgreement -PmodelDir=../FILTER/model/onnx (-Pfixture=<기준 파일>, 기본 <modelDir>/agreement.jsonl)
+// - 토큰 id 완전 일치율과 abuse/detected/type 일치율을 출력하고 불일치 문장은 모두 출력, 불일치가 있으면 종료 코드 1
+// - 판정은 운영 경로와 같이 classifyBatch 한 번으로 실행 (배치 패딩 길이가 FILTER의 max_length 패딩과 달라도 같은 결과여야 함)
+public final class AbuseAgreementHarness {
+
+	private AbuseAgreementHarness() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		if (args.length == 0) {
+			System.err.println("사용법: AbuseAgreementHarness <model-dir> [기준 파일]");
+			System.exit(1);
+		}
+		Path modelDir = Paths.get(args[0]);
+		Path fixturePath = args.length > 1 ? Paths.get(args[1]) : modelDir.resolve("agreement.jsonl");
+
+		ObjectMapper mapper = new ObjectMapper();
+		List<Fixture> fixtures = readFixtures(mapper, fixturePath);
+		System.out.printf("기준 문장 %d개 (%s)%n%n", fixtures.size(), fixturePath);
+
+		int tokenMismatches = compareTokens(mapper, modelDir, fixtures);
+		int verdictMismatches = compareVerdicts(mapper, modelDir, fixtures);
+
+		System.out.printf("%n%-10s %10s%n", "항목", "일치 %");
+		System.out.printf("%-10s %10.2f%n", "input_ids", agreement(fixtures.size(), tokenMismatches));
+		System.out.printf("%-10s %10.2f%n", "verdict", agreement(fixtures.size(), verdictMismatches));
+		System.exit(tokenMismatches + verdictMismatches == 0 ? 0 : 1);
+	}
+
+	private static int compareTokens(ObjectMapper mapper, Path modelDir, List<Fixture> fixtures) throws IOException {
+		JsonNode config = mapper.readTree(modelDir.resolve("classifier.json").toFile());
+		KoBertTokenizer tokenizer = OnnxAbuseClassifier.readTokenizer(config.get("tokenizer"),
+			config.path("max_length").asInt(64));
+
+		int mismatches = 0;
+		for (Fixture fixture : fixtures) {
+			int[] ids = tokenizer.encode(fixture.text());
+			if (!Arrays.equals(ids, fixture.inputIds())) {
+				mismatches++;
+				System.out.printf("[input_ids 불일치] %s%n  FILTER: %s%n  BE:     %s%n", fixture.text(),
+					Arrays.toString(fixture.inputIds()), Arrays.toString(ids));
+			}
+		}
+		return mismatches;
+	}
+
+	private static int compareVerdicts(ObjectMapper mapper, Path modelDir, List<Fixture> fixtures) throws Exception {
+		OnnxAbuseClassifier classifier = new OnnxAbuseClassifier(mapper, new SimpleMeterRegistry(), modelDir.toString(),
+			1, 1, 16);
+		try {
+			List<AbuseResponseDTO.AbuseFilterDTO> results = classifier.classifyBatch(
+				fixtures.stream().map(Fixture::text).toList()).join();
+
+			int mismatches = 0;
+			for (int i = 0; i < fixtures.size(); i++) {
+				Fixture fixture = fixtures.get(i);
+				AbuseResponseDTO.AbuseFilterDTO result = results.get(i);
+				if (result.isAbuse() != fixture.abuse() || result.isDetected() != fixture.detected()
+					|| !fixture.type().equals(result.getType())) {
+					mismatches++;
+					System.out.printf("[판정 불일치] %s%n  FILTER: abuse=%s, detected=%s, type=%s%n  BE:     abuse=%s, detected=%s, type=%s%n",
+						fixture.text(), fixture.abuse(), fixture.detected(), fixture.type(),
+						result.isAbuse(), result.isDetected(), result.getType());
+				}
+			}
+			return mismatches;
+		} finally {
+			classifier.shutdown();
+		}
+	}
+
+	private static double agreement(int total, int mismatches) {
+		return total == 0 ? 0 : 100.0 * (total - mismatches) / total;
+	}
+
+	private static List<Fixture> readFixtures(ObjectMapper mapper, Path path) throws IOException {
+		List<Fixture> fixtures = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				JsonNode node = mapper.readTree(line);
+				JsonNode idsNode = node.get("input_ids");
+				int[] inputIds = new int[idsNode.size()];
+				for (int i = 0; i < inputIds.length; i++) {
+					inputIds[i] = idsNode.get(i).asInt();
+				}
+				fixtures.add(new Fixture(node.get("text").asText(), inputIds, node.get("abuse").asBoolean(),
+					node.get("detected").asBoolean(), node.get("type").asText()));
+			}
+		}
+		return fixtures;
+	}
+
+	private record Fixture(String text, int[] inputIds, boolean abuse, boolean detected, String type) {
+	}
+}
@@ -0,0 +1,150 @@
+package callprotector.spring.global.multimodal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import callprotector.spring.global.replay.CallRecording;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 녹음된 통화(.cprec)의 고객(INBOUND) 음성으로 피치 추정기별 비용과 YIN 대비 일치율을 비교
+// - 실행: ./gradlew pitchAgreement -Precordings=recordings
+// - 통화 1초당 CPU(us), 음성 판정 일치율, 둘 다 음성인 창의 피치 일치율(±5%)을 출력
+// - 피치는 ShoutingDetector와 같이 350Hz 초과 값을 절반으로 접은 뒤 비교
+public final class PitchAgreementHarness {
+
+	private static final int SAMPLE_RATE = 8000;
+	private static final int WINDOW_SIZE = 1024;
+	private static final double GATE_DB = 15.0;
+	private static final double PITCH_TOLERANCE = 0.05;
+
+	private PitchAgreementHarness() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			System.err.println("사용법: PitchAgreementHarness <녹음 파일 또는 디렉터리>...");
+			System.exit(1);
+		}
+		List<float[]> windows = loadInboundWindows(args);
+		double audioSeconds = (double) windows.size() * WINDOW_SIZE / SAMPLE_RATE;
+		System.out.printf("분석 창 %d개 (고객 음성 %.1f초)%n%n", windows.size(), audioSeconds);
+
+		PitchEstimator.PitchEstimate[] reference = run(PitchEstimatorType.YIN, windows).estimates;
+
+		System.out.printf("%-28s %-6s %14s %12s %12s%n", "estimator", "gate", "cpu us/call-s", "voicing %", "pitch %");
+		for (PitchEstimatorType type : PitchEstimatorType.values()) {
+			for (double gateDb : new double[] {AudioLevels.SILENCE_DB, GATE_DB}) {
+				PitchEstimator.Factory factory = type.gated(gateDb, new SimpleMeterRegistry().counter("pitch.gated"));
+				run(factory, windows); // JIT 예열
+				Result result = run(factory, windows);
+				System.out.printf("%-28s %-6s %14.1f %12.2f %12.2f%n",
+					type, gateDb > AudioLevels.SILENCE_DB ? GATE_DB + "dB" : "off",
+					result.elapsedNs / 1_000.0 / audioSeconds,
+					voicingAgreement(reference, result.estimates),
+					pitchAgreement(reference, result.estimates));
+			}
+		}
+	}
+
+	private static Result run(PitchEstimator.Factory factory, List<float[]> windows) {
+		PitchEstimator estimator = factory.create(SAMPLE_RATE, WINDOW_SIZE);
+		PitchEstimator.PitchEstimate[] estimates = new PitchEstimator.PitchEstimate[windows.size()];
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < estimates.length; i++) {
+			estimates[i] = estimator.estimate(windows.get(i));
+		}
+		return new Result(estimates, System.nanoTime() - startedAt);
+	}
+
+	private static double voicingAgreement(PitchEstimator.PitchEstimate[] reference, PitchEstimator.PitchEstimate[] estimates) {
+		int agree = 0;
+		for (int i = 0; i < reference.length; i++) {
+			if (reference[i].isVoiced() == estimates[i].isVoiced()) {
+				agree++;
+			}
+		}
+		return reference.length == 0 ? 0 : 100.0 * agree / reference.length;
+	}
+
+	private static double pitchAgreement(PitchEstimator.PitchEstimate[] reference, PitchEstimator.PitchEstimate[] estimates) {
+		int bothVoiced = 0;
+		int agree = 0;
+		for (int i = 0; i < reference.length; i++) {
+			if (!reference[i].isVoiced() || !estimates[i].isVoiced()) {
+				continue;
+			}
+			bothVoiced++;
+			double expected = folded(reference[i].pitchHz());
+			if (Math.abs(folded(estimates[i].pitchHz()) - expected) <= expected * PITCH_TOLERANCE) {
+				agree++;
+			}
+		}
+		return bothVoiced == 0 ? 0 : 100.0 * agree / bothVoiced;
+	}
+
+	private static double folded(float pitchHz) {
+		return pitchHz > 350f ? pitchHz * 0.5 : pitchHz;
+	}
+
+	// 녹음 파일들의 INBOUND 오디오를 이어 붙여 1024샘플 창으로 자름
+	private static List<float[]> loadInboundWindows(String[] paths) throws IOException {
+		ObjectMapper mapper = new ObjectMapper();
+		List<float[]> windows = new ArrayList<>();
+		float[] current = new float[WINDOW_SIZE];
+		int fill = 0;
+
+		for (Path file : recordingFiles(paths)) {
+			try (CallRecording recording = CallRecording.open(file)) {
+				CallRecording.Message message;
+				while ((message = recording.next()) != null) {
+					if (!message.isMedia()) {
+						continue;
+					}
+					JsonNode media = mapper.readTree(message.getPayload()).path("media");
+					if (!"inbound".equals(media.path("track").asText())) {
+						continue;
+					}
+					byte[] audio = media.path("payload").binaryValue();
+					for (int offset = 0; offset < audio.length; ) {
+						int count = Math.min(WINDOW_SIZE - fill, audio.length - offset);
+						ULawDecoder.decode(audio, offset, count, current, fill);
+						fill += count;
+						offset += count;
+						if (fill == WINDOW_SIZE) {
+							windows.add(current);
+							current = new float[WINDOW_SIZE];
+							fill = 0;
+						}
+					}
+				}
+			}
+		}
+		return windows;
+	}
+
+	private static List<Path> recordingFiles(String[] paths) throws IOException {
+		List<Path> files = new ArrayList<>();
+		for (String path : paths) {
+			Path target = Paths.get(path);
+			if (Files.isDirectory(target)) {
+				try (Stream<Path> listing = Files.list(target)) {
+					listing.filter(file -> file.toString().endsWith(".cprec")).sorted().forEach(files::add);
+				}
+			} else {
+				files.add(target);
+			}
+		}
+		return files;
+	}
+
+	private record Result(PitchEstimator.PitchEstimate[] estimates, long elapsedNs) {
+	}
+}
@@ -0,0 +1,115 @@
+package callprotector.spring.global.abuse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
+import callprotector.spring.global.client.FastClient;
+import callprotector.spring.global.config.FastApiConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 욕설 분류 백엔드별 지연/처리량 비교 (./gradlew jmh -PjmhIncludes=AbuseClassifier)
+// - FASTAPI: 실행 중인 FILTER 서버 필요 (ABUSE_FASTAPI_URL, 기본 http://localhost:8080/api/abuse/filter)
+// - ONNX: export_onnx.py로 내보낸 모델 필요 (ABUSE_ONNX_MODEL_DIR, 기본 ../FILTER/model/onnx)
+// - latency: 호출 1건(문장 batchSize개) 평균 시간, throughput: 8개 스레드가 동시에 호출할 때 초당 호출 수 (문장 수 = 결과 × batchSize)
+// - 강제 차단 단어가 있는 문장은 모델을 거치지 않으므로 사전에 없는 일반 문장만 사용
+@State(Scope.Benchmark)
+public class AbuseClassifierBenchmark {
+
+	private static final String[] SENTENCES = {
+		"주문한 상품이 아직 도착하지 않았어요",
+		"환불은 언제쯤 처리되는지 알려주세요",
+		"상담원 연결이 너무 오래 걸리네요",
+		"지난번에 말씀드린 내용이 처리가 안 됐어요",
+		"배송지 주소를 바꾸고 싶은데 가능할까요",
+		"이번 달 요금이 왜 이렇게 많이 나왔죠",
+		"확인해 보고 바로 다시 연락 주세요",
+		"도대체 몇 번을 전화해야 해결이 되나요"
+	};
+
+	@Param({"FASTAPI", "ONNX"})
+	public AbuseClassifier.Backend backend;
+
+	@Param({"1", "16"})
+	public int batchSize;
+
+	private AbuseClassifier classifier;
+	private List<String> batch;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		classifier = switch (backend) {
+			case FASTAPI -> {
+				FastApiConfig.FastApiProperties properties = new FastApiConfig.FastApiProperties();
+				properties.setUrl(env("ABUSE_FASTAPI_URL", "http://localhost:8080/api/abuse/filter"));
+				properties.setMaxInFlight(256);
+				properties.setDeadlineMs(10_000);
+				properties.setAttemptTimeoutMs(10_000);
+				yield new FastClient(properties, WebClient.builder(), registry);
+			}
+			case ONNX -> new OnnxAbuseClassifier(new ObjectMapper(), registry,
+				env("ABUSE_ONNX_MODEL_DIR", "../FILTER/model/onnx"), 8, 1, 1024);
+		};
+
+		batch = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; i++) {
+			batch.add(SENTENCES[i % SENTENCES.length]);
+		}
+
+		// 첫 요청(커넥션/세션 준비)이 실패하면 측정하지 않음
+		AbuseResponseDTO.AbuseFilterDTO probe = classifier.classify(SENTENCES[0]).join();
+		if (AbuseClassifier.isFailed(probe)) {
+			throw new IllegalStateException(backend + " 백엔드 준비 실패: " + probe.getType());
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public Object latency() {
+		return classify();
+	}
+
+	@Benchmark
+	@Threads(8)
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public Object throughput() {
+		return classify();
+	}
+
+	private Object classify() {
+		return batchSize == 1 ? classifier.classify(batch.get(0)).join() : classifier.classifyBatch(batch).join();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		if (classifier instanceof FastClient fastClient) {
+			fastClient.shutdown();
+		} else if (classifier instanceof OnnxAbuseClassifier onnx) {
+			onnx.shutdown();
+		}
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? defaultValue : value;
+	}
+}
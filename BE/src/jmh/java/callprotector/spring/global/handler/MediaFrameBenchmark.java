@@ -0,0 +1,107 @@
+package callprotector.spring.global.handler;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import callprotector.spring.domain.callsttlog.dto.response.CallSttLogResponseDTO;
+import callprotector.spring.domain.callsttlog.entity.CallSttLog;
+import callprotector.spring.global.common.enums.CallTrack;
+
+// Twilio media 메시지 수신(JSON 파싱 + base64 디코딩)과 상담원 클라이언트 푸시(JSON 직렬화) 비용
+// - 트리 파싱(readTree)과 스트리밍 디코더(TwilioMediaFrameDecoder)를 같은 메시지로 비교
+// - 직렬화는 SttWebSocketHandler가 쓰는 ObjectMapper.writeValueAsString과 같은 경로
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MediaFrameBenchmark {
+
+	private ObjectMapper objectMapper;
+	private TwilioMediaFrameDecoder decoder;
+	private String mediaMessage;
+	private String payload;
+	private CallSttLogResponseDTO interimResponse;
+	private Map<String, Object> finalTranscript;
+	private Map<String, Object> beep;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		decoder = new TwilioMediaFrameDecoder(objectMapper.getFactory());
+
+		byte[] audio = new byte[160];
+		new Random(42).nextBytes(audio);
+		payload = Base64.getEncoder().encodeToString(audio);
+		mediaMessage = "{\"event\":\"media\",\"sequenceNumber\":\"1234\",\"streamSid\":\"MZ00000000000000000000000000000000\","
+			+ "\"media\":{\"track\":\"inbound\",\"chunk\":\"617\",\"timestamp\":\"12340\",\"payload\":\"" + payload + "\"}}";
+
+		interimResponse = new CallSttLogResponseDTO("stt", CallSttLog.builder()
+			.callSessionId(1L)
+			.track(CallTrack.INBOUND)
+			.script("주문한 상품이 아직 도착하지 않았어요")
+			.isFinal(false)
+			.timestamp(LocalDateTime.of(2025, 1, 1, 12, 0))
+			.build());
+		finalTranscript = Map.of(
+			"type", "finalTranscript",
+			"track", CallTrack.INBOUND.name(),
+			"text", "주문한 상품이 아직 도착하지 않았어요");
+		beep = Map.of(
+			"type", "beep",
+			"durationMs", 2000L,
+			"ts", 1_735_700_000_000L);
+	}
+
+	// base64 payload만 디코딩 (프레임마다 byte[] 할당)
+	@Benchmark
+	public byte[] base64Decode() {
+		return Base64.getDecoder().decode(payload);
+	}
+
+	// 스트리밍 파서 + 재사용 버퍼로 media 메시지 해석 (현재 수신 경로)
+	@Benchmark
+	public TwilioMediaFrame decodeStreaming() throws IOException {
+		return decoder.decode(mediaMessage);
+	}
+
+	// JsonNode 트리 파싱 후 payload 디코딩 (start 이벤트 등 비 media 메시지 경로, 비교 기준)
+	@Benchmark
+	public byte[] decodeTree() throws IOException {
+		JsonNode root = objectMapper.readTree(mediaMessage);
+		return root.path("media").path("payload").binaryValue();
+	}
+
+	// 중간 결과 푸시 (CallSttLogResponseDTO)
+	@Benchmark
+	public String serializeInterim() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(interimResponse);
+	}
+
+	// 최종 결과 푸시 (Map)
+	@Benchmark
+	public String serializeFinalTranscript() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(finalTranscript);
+	}
+
+	// 비프 푸시 (Map)
+	@Benchmark
+	public String serializeBeep() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(beep);
+	}
+}
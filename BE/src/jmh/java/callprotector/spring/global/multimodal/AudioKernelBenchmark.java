@@ -0,0 +1,98 @@
+package callprotector.spring.global.multimodal;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// μ-law → float 디코딩과 분석 커널의 이전 구현 대비 비용
+// - legacy*: 16비트 PCM 바이트(ByteBuffer)를 거쳐 다시 float로 바꾸던 이전 경로와 정수 테이블 + 나눗셈 디코딩
+// - scalar* / vector*: AudioKernels의 스칼라 구현과 SIMD 구현 (SIMD는 jdk.incubator.vector 모듈 필요, 없으면 vector*는 실패)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AudioKernelBenchmark {
+
+	private static final int WINDOW_SIZE = 1024; // ShoutingDetector 분석 창 크기
+
+	private byte[] ulaw;
+	private float[] window;
+	private byte[] pcmBytes;
+
+	@Setup
+	public void setUp() {
+		ulaw = new byte[WINDOW_SIZE];
+		new Random(42).nextBytes(ulaw);
+		window = new float[WINDOW_SIZE];
+		ULawDecoder.decode(ulaw, 0, ulaw.length, window, 0);
+		pcmBytes = new byte[WINDOW_SIZE * 2];
+	}
+
+	// 이전 경로: u-law → 16비트 LE PCM 바이트 → (TarsosDSP) float
+	@Benchmark
+	public float[] legacyDecodeViaPcmBytes() {
+		ByteBuffer buffer = ByteBuffer.wrap(pcmBytes).order(ByteOrder.LITTLE_ENDIAN);
+		for (byte b : ulaw) {
+			buffer.putShort((short) ULawDecoder.uLawToPcm(b));
+		}
+		buffer.flip();
+		for (int i = 0; i < WINDOW_SIZE; i++) {
+			window[i] = buffer.getShort() / 32768f;
+		}
+		return window;
+	}
+
+	// 정수 테이블 조회 후 샘플마다 나눗셈
+	@Benchmark
+	public float[] legacyDecodeIntTable() {
+		for (int i = 0; i < WINDOW_SIZE; i++) {
+			window[i] = ULawDecoder.uLawToPcm(ulaw[i]) / 32768f;
+		}
+		return window;
+	}
+
+	// 현재 경로: 정규화된 float 테이블에서 바로 디코딩
+	@Benchmark
+	public float[] decodeFloatTable() {
+		ULawDecoder.decode(ulaw, 0, ulaw.length, window, 0);
+		return window;
+	}
+
+	@Benchmark
+	public double scalarSumOfSquares() {
+		return AudioKernels.scalarSumOfSquares(window, 0, WINDOW_SIZE);
+	}
+
+	@Benchmark
+	public double vectorSumOfSquares() {
+		return AudioKernels.SIMD.sumOfSquares(window, 0, WINDOW_SIZE);
+	}
+
+	@Benchmark
+	public float scalarPeak() {
+		return AudioKernels.scalarPeak(window, 0, WINDOW_SIZE);
+	}
+
+	@Benchmark
+	public float vectorPeak() {
+		return AudioKernels.SIMD.peak(window, 0, WINDOW_SIZE);
+	}
+
+	@Benchmark
+	public int scalarZeroCrossings() {
+		return AudioKernels.scalarZeroCrossings(window, 0, WINDOW_SIZE);
+	}
+
+	@Benchmark
+	public int vectorZeroCrossings() {
+		return AudioKernels.SIMD.zeroCrossings(window, 0, WINDOW_SIZE);
+	}
+}
@@ -0,0 +1,75 @@
+package callprotector.spring.global.multimodal;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import callprotector.spring.global.pipeline.CallPipeline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 통화당 초당 약 100회(양쪽 트랙 × 20ms 프레임) 실행되는 오디오 변환/세기 계산 비용
+// - 프레임 하나(160바이트 μ-law)와 고함 감지 분석 창 하나(1024샘플) 단위로 측정
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AudioLevelBenchmark {
+
+	private static final int FRAME_BYTES = 160;
+	private static final int DISPATCHER_BUFFER = 1024; // ShoutingDetector 분석 창 크기
+
+	private byte[] frame;
+	private float[] floatBuffer;
+	private ShoutingDetector detector;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		frame = new byte[FRAME_BYTES];
+		random.nextBytes(frame);
+
+		floatBuffer = new float[DISPATCHER_BUFFER];
+		for (int i = 0; i < floatBuffer.length; i++) {
+			floatBuffer[i] = ULawDecoder.uLawToPcm(random.nextInt(256)) / 32768f;
+		}
+
+		detector = new ShoutingDetector(new CallPipeline("bench", Runnable::run, 8, new SimpleMeterRegistry()), 8,
+			PitchEstimatorType.YIN, AudioLevels.SILENCE_DB);
+		detector.initialize(8000);
+	}
+
+	// 테이블 조회만 하는 μ-law 디코딩 (프레임 전체)
+	@Benchmark
+	public int uLawToPcm() {
+		int sum = 0;
+		for (byte b : frame) {
+			sum += ULawDecoder.uLawToPcm(b);
+		}
+		return sum;
+	}
+
+	// ShoutingDetector 프레임 처리 전체 (분석 창 디코딩 + 창이 찰 때마다 YIN/세기 분석, 분석은 호출 스레드에서 바로 실행)
+	@Benchmark
+	public ShoutingDetector shoutingDetectorFrame() {
+		detector.transferAudio(frame, 0, frame.length);
+		return detector;
+	}
+
+	// 세기 분석 핸들러의 RMS → dB 계산 (분석 버퍼 단위)
+	@Benchmark
+	public double rmsDecibel() {
+		return AudioLevels.toDecibel(AudioLevels.rms(floatBuffer));
+	}
+
+	// VAD 게이트가 프레임마다 수행하는 μ-law RMS → dB 계산
+	@Benchmark
+	public double uLawRmsDecibel() {
+		return AudioLevels.toDecibel(AudioLevels.rmsOfULaw(frame, 0, frame.length));
+	}
+}
@@ -0,0 +1,61 @@
+package callprotector.spring.global.multimodal;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 피치 추정기별 분석 창(1024샘플 = 128ms) 1개 처리 시간
+// - 통화 1초당 CPU = 결과(us/op) × 7.8 (8kHz 기준 초당 창 수)
+// - 정확도(YIN 대비 일치율)는 녹음 파일로 PitchAgreementHarness에서 확인
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PitchEstimatorBenchmark {
+
+	private static final int SAMPLE_RATE = 8000;
+	private static final int WINDOW_SIZE = 1024;
+
+	@Param({"YIN", "FAST_YIN", "DECIMATED_AUTOCORRELATION"})
+	public PitchEstimatorType estimator;
+
+	@Param({"-100", "15"}) // -100: 항상 추정, 15: 저에너지 창 건너뜀
+	public double gateDb;
+
+	@Param({"VOICED", "SILENT"})
+	public String signal;
+
+	private PitchEstimator pitchEstimator;
+	private float[] window;
+
+	@Setup
+	public void setUp() {
+		pitchEstimator = estimator.gated(gateDb, new SimpleMeterRegistry().counter("pitch.gated")).create(SAMPLE_RATE, WINDOW_SIZE);
+
+		// 180Hz 기본음 + 배음 + 잡음 (VOICED) / 낮은 잡음만 (SILENT)
+		Random random = new Random(42);
+		window = new float[WINDOW_SIZE];
+		for (int i = 0; i < WINDOW_SIZE; i++) {
+			double t = (double) i / SAMPLE_RATE;
+			double noise = 0.002 * random.nextGaussian();
+			window[i] = (float) ("VOICED".equals(signal)
+				? 0.3 * Math.sin(2 * Math.PI * 180 * t) + 0.15 * Math.sin(2 * Math.PI * 360 * t)
+					+ 0.08 * Math.sin(2 * Math.PI * 540 * t) + noise
+				: noise);
+		}
+	}
+
+	@Benchmark
+	public PitchEstimator.PitchEstimate estimate() {
+		return pitchEstimator.estimate(window);
+	}
+}
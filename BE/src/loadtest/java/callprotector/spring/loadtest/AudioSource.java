@@ -0,0 +1,122 @@
+package callprotector.spring.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import callprotector.spring.global.multimodal.AudioLevels;
+import callprotector.spring.global.replay.CallRecording;
+
+// 가상 통화가 20ms마다 보낼 트랙별 μ-law 프레임 (base64 인코딩까지 미리 해 두고 모든 통화가 공유)
+// - 프레임마다 음성 여부를 함께 보관해, 음성 시작 → 서버 푸시까지의 지연을 잴 때 기준으로 사용
+final class AudioSource {
+
+	static final int FRAME_BYTES = 160; // 8kHz μ-law 20ms
+
+	private static final int SAMPLE_RATE = 8000;
+
+	final Track inbound;
+	final Track outbound;
+
+	private AudioSource(Track inbound, Track outbound) {
+		this.inbound = inbound;
+		this.outbound = outbound;
+	}
+
+	static final class Track {
+		final String[] payloads;
+		final boolean[] voiced;
+
+		private Track(List<byte[]> frames, double voiceThresholdDb) {
+			this.payloads = new String[frames.size()];
+			this.voiced = new boolean[frames.size()];
+			for (int i = 0; i < frames.size(); i++) {
+				byte[] frame = frames.get(i);
+				payloads[i] = Base64.getEncoder().encodeToString(frame);
+				voiced[i] = AudioLevels.toDecibel(AudioLevels.rmsOfULaw(frame, 0, frame.length)) >= voiceThresholdDb;
+			}
+		}
+
+		int size() {
+			return payloads.length;
+		}
+	}
+
+	// 실제 통화 녹화에서 트랙별 프레임을 꺼내 반복 재생
+	// - voiceThresholdDb: 음성 프레임 판별 기준 (서버 VAD와 같은 dB 기준)
+	static AudioSource fromRecording(Path path, double voiceThresholdDb) throws IOException {
+		ObjectMapper mapper = new ObjectMapper();
+		List<byte[]> inbound = new ArrayList<>();
+		List<byte[]> outbound = new ArrayList<>();
+
+		try (CallRecording recording = CallRecording.open(path)) {
+			CallRecording.Message message;
+			while ((message = recording.next()) != null) {
+				if (!message.isMedia()) {
+					continue;
+				}
+				JsonNode media = mapper.readTree(message.getPayload()).path("media");
+				byte[] audio = media.path("payload").binaryValue();
+				("inbound".equals(media.path("track").asText()) ? inbound : outbound).add(audio);
+			}
+		}
+		if (inbound.isEmpty() || outbound.isEmpty()) {
+			throw new IOException("녹화 파일에 양쪽 트랙 오디오가 모두 있어야 합니다: " + path);
+		}
+		return new AudioSource(new Track(inbound, voiceThresholdDb), new Track(outbound, voiceThresholdDb));
+	}
+
+	// 합성 음성 - 고객은 4초마다 1.2초 발화, 상담원은 대부분 듣기만 하고 10초마다 0.6초 발화
+	static AudioSource synthetic(double voiceThresholdDb) {
+		return new AudioSource(
+			new Track(toneBursts(4_000, 1_200, 220.0), voiceThresholdDb),
+			new Track(toneBursts(10_000, 600, 140.0), voiceThresholdDb));
+	}
+
+	private static List<byte[]> toneBursts(int periodMs, int toneMs, double frequency) {
+		int frames = periodMs / 20;
+		int toneFrames = toneMs / 20;
+		List<byte[]> result = new ArrayList<>(frames);
+
+		int sample = 0;
+		for (int f = 0; f < frames; f++) {
+			byte[] frame = new byte[FRAME_BYTES];
+			for (int i = 0; i < FRAME_BYTES; i++, sample++) {
+				double pcm = 0;
+				if (f < toneFrames) {
+					// 음절처럼 들리도록 4Hz로 세기를 흔든 배음 섞인 톤
+					double t = (double) sample / SAMPLE_RATE;
+					double envelope = 0.5 + 0.5 * Math.sin(2 * Math.PI * 4 * t);
+					pcm = 8000 * envelope * (Math.sin(2 * Math.PI * frequency * t) + 0.5 * Math.sin(4 * Math.PI * frequency * t));
+				}
+				frame[i] = linearToULaw((int) pcm);
+			}
+			result.add(frame);
+		}
+		return result;
+	}
+
+	// G.711 μ-law 인코딩
+	static byte linearToULaw(int pcm) {
+		final int bias = 0x84;
+		final int clip = 32635;
+
+		int sign = pcm < 0 ? 0x80 : 0;
+		if (sign != 0) {
+			pcm = -pcm;
+		}
+		pcm = Math.min(pcm, clip) + bias;
+
+		int exponent = 7;
+		for (int mask = 0x4000; (pcm & mask) == 0 && exponent > 0; mask >>= 1) {
+			exponent--;
+		}
+		int mantissa = (pcm >> (exponent + 3)) & 0x0F;
+		return (byte) ~(sign | (exponent << 4) | mantissa);
+	}
+}
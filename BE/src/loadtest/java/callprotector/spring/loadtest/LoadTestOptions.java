@@ -0,0 +1,54 @@
+package callprotector.spring.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import callprotector.spring.global.config.SttConfig;
+
+// 부하 테스트 실행 옵션 (--key=value 형식)
+final class LoadTestOptions {
+
+	final URI audioUrl;          // Twilio Media Streams 역할로 접속할 주소
+	final URI sttUrl;            // 상담원 클라이언트 역할로 접속할 주소 (?userId= 는 통화마다 붙임)
+	final URI metricsUrl;        // 서버 힙/스레드 수를 읽을 actuator 주소
+	final String metricsToken;   // actuator 인증용 JWT (없으면 힙/스레드 수는 NaN)
+	final int[] steps;           // 단계별 동시 통화 수 (누적)
+	final long stepSeconds;      // 단계별 유지 시간
+	final long userIdBase;       // 통화 i의 상담원 userId = userIdBase + i
+	final Path recording;        // 통화 녹화 파일(.cprec) - 없으면 합성 음성 사용
+	final double vadThresholdDb; // 음성 프레임 판별 기준 - 서버 stt.vad.threshold-db와 같아야 함 (기본값은 서버 기본값)
+
+	private LoadTestOptions(Map<String, String> args) {
+		String server = args.getOrDefault("server", "localhost:8080");
+		this.audioUrl = URI.create(args.getOrDefault("audio-url", "ws://" + server + "/ws/audio"));
+		this.sttUrl = URI.create(args.getOrDefault("stt-url", "ws://" + server + "/ws/stt"));
+		this.metricsUrl = URI.create(args.getOrDefault("metrics-url", "http://" + server + "/actuator/metrics"));
+		this.metricsToken = args.get("metrics-token");
+		this.steps = Arrays.stream(args.getOrDefault("steps", "10,50,100").split(","))
+			.map(String::trim)
+			.mapToInt(Integer::parseInt)
+			.toArray();
+		this.stepSeconds = Long.parseLong(args.getOrDefault("step-seconds", "60"));
+		this.userIdBase = Long.parseLong(args.getOrDefault("user-id-base", "900000"));
+		this.recording = args.containsKey("recording") ? Paths.get(args.get("recording")) : null;
+		this.vadThresholdDb = args.containsKey("vad-threshold-db")
+			? Double.parseDouble(args.get("vad-threshold-db"))
+			: new SttConfig.Vad().getThresholdDb();
+	}
+
+	static LoadTestOptions parse(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+			}
+			int separator = arg.indexOf('=');
+			values.put(arg.substring(2, separator), arg.substring(separator + 1));
+		}
+		return new LoadTestOptions(values);
+	}
+}
@@ -0,0 +1,52 @@
+package callprotector.spring.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 서버 actuator에서 단계별 힙 사용량/스레드 수를 읽음 (실패 시 NaN)
+// - /actuator/metrics는 인증이 필요하므로 token(로그인 JWT)이 있으면 Bearer 헤더로 전송
+final class ServerMetricsClient {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private final HttpClient http;
+	private final URI metricsUrl;
+	private final String token;
+
+	ServerMetricsClient(HttpClient http, URI metricsUrl, String token) {
+		this.http = http;
+		this.metricsUrl = metricsUrl;
+		this.token = token;
+	}
+
+	double heapUsedMb() {
+		return read("jvm.memory.used?tag=area:heap") / (1024 * 1024);
+	}
+
+	double liveThreads() {
+		return read("jvm.threads.live");
+	}
+
+	private double read(String metric) {
+		try {
+			HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(metricsUrl + "/" + metric))
+				.timeout(Duration.ofSeconds(5))
+				.GET();
+			if (token != null) {
+				request.header("Authorization", "Bearer " + token);
+			}
+			HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+			if (response.statusCode() != 200) {
+				return Double.NaN;
+			}
+			return MAPPER.readTree(response.body()).path("measurements").path(0).path("value").asDouble(Double.NaN);
+		} catch (Exception e) {
+			return Double.NaN;
+		}
+	}
+}
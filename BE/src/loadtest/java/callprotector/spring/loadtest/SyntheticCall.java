@@ -0,0 +1,216 @@
+package callprotector.spring.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.Recorder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 가상 통화 1건
+// - /ws/stt 에 상담원 클라이언트로 먼저 접속한 뒤 /ws/audio 에 Twilio Media Streams처럼 접속
+// - start 이벤트의 customParameters.userId로 두 연결을 묶음 (서버 call.loadtest.accept-user-id=true 필요)
+// - 20ms마다 inbound/outbound 프레임을 1개씩 전송하고, 서버 푸시 지연을 트랙 음성 시작 시점 기준으로 기록
+// - 비프 지연은 고객(inbound) 발화가 시작된 시점 기준 (비프 없이 끝난 발화의 시각은 다음 발화가 시작되면 버림)
+final class SyntheticCall {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	static final long FRAME_INTERVAL_MS = 20;
+	private static final int UTTERANCE_GAP_FRAMES = 25; // 이만큼(500ms) 무음이 이어진 뒤의 음성을 새 발화로 봄 (음절 사이 끊김 제외)
+
+	private final int index;
+	private final long userId;
+	private final String callSid;
+	private final String streamSid;
+	private final LoadTestOptions options;
+	private final AudioSource audio;
+	private final Recorder sttLatency;
+	private final Recorder beepLatency;
+	private final AtomicLong framesSent;
+	private final AtomicLong pushesReceived;
+	private final AtomicLong errors;
+
+	private WebSocket audioSocket;
+	private WebSocket sttSocket;
+	private CompletableFuture<WebSocket> sendChain; // WebSocket은 이전 전송 완료 전에 다음 전송 불가
+	private ScheduledFuture<?> ticker;
+
+	private int frameIndex;
+	private long sequence;
+	private long startedAtMs;
+
+	// 직전 푸시 이후 처음 보낸 음성 프레임 시각 (없으면 -1)
+	private volatile long sttPendingSinceNs = -1;
+	// 비프를 아직 받지 못한 현재 고객 발화의 시작 시각 (없으면 -1)
+	private volatile long beepPendingSinceNs = -1;
+	private int inboundSilentFrames = UTTERANCE_GAP_FRAMES; // 연속 무음 inbound 프레임 수 (pacer 작업에서만 사용)
+
+	SyntheticCall(int index, LoadTestOptions options, AudioSource audio, Recorder sttLatency, Recorder beepLatency,
+		AtomicLong framesSent, AtomicLong pushesReceived, AtomicLong errors) {
+		this.index = index;
+		this.userId = options.userIdBase + index;
+		this.callSid = String.format("CA-load-%06d", index);
+		this.streamSid = String.format("MZ-load-%06d", index);
+		this.options = options;
+		this.audio = audio;
+		this.sttLatency = sttLatency;
+		this.beepLatency = beepLatency;
+		this.framesSent = framesSent;
+		this.pushesReceived = pushesReceived;
+		this.errors = errors;
+	}
+
+	void start(HttpClient http, ScheduledExecutorService pacer) {
+		sttSocket = http.newWebSocketBuilder()
+			.buildAsync(URI.create(options.sttUrl + "?userId=" + userId), new PushListener())
+			.join();
+		audioSocket = http.newWebSocketBuilder()
+			.buildAsync(options.audioUrl, new WebSocket.Listener() {})
+			.join();
+		sendChain = CompletableFuture.completedFuture(audioSocket);
+
+		send("{\"event\":\"connected\",\"protocol\":\"Call\",\"version\":\"1.0.0\"}");
+		send(startEvent());
+		startedAtMs = System.currentTimeMillis();
+
+		// 통화마다 시작 위상을 흩어 20ms 경계에 전송이 몰리지 않게 함
+		ticker = pacer.scheduleAtFixedRate(this::tick, index % FRAME_INTERVAL_MS, FRAME_INTERVAL_MS, TimeUnit.MILLISECONDS);
+	}
+
+	void stop() {
+		if (ticker != null) {
+			ticker.cancel(false);
+		}
+		if (audioSocket != null) {
+			send("{\"event\":\"stop\",\"sequenceNumber\":\"" + (++sequence) + "\",\"streamSid\":\"" + streamSid
+				+ "\",\"stop\":{\"callSid\":\"" + callSid + "\"}}");
+			sendChain.thenCompose(ws -> ws.sendClose(WebSocket.NORMAL_CLOSURE, "load test done"));
+		}
+		if (sttSocket != null) {
+			sttSocket.sendClose(WebSocket.NORMAL_CLOSURE, "load test done");
+		}
+	}
+
+	// 20ms마다 양쪽 트랙 프레임 1개씩 전송 (pacer 스레드)
+	private void tick() {
+		try {
+			long now = System.nanoTime();
+			int inboundAt = frameIndex % audio.inbound.size();
+			int outboundAt = frameIndex % audio.outbound.size();
+			String timestamp = String.valueOf(System.currentTimeMillis() - startedAtMs);
+
+			send(mediaEvent("inbound", timestamp, audio.inbound.payloads[inboundAt]));
+			send(mediaEvent("outbound", timestamp, audio.outbound.payloads[outboundAt]));
+			framesSent.addAndGet(2);
+
+			boolean inboundVoiced = audio.inbound.voiced[inboundAt];
+			if ((inboundVoiced || audio.outbound.voiced[outboundAt]) && sttPendingSinceNs < 0) {
+				sttPendingSinceNs = now;
+			}
+			if (inboundVoiced) {
+				if (inboundSilentFrames >= UTTERANCE_GAP_FRAMES) {
+					beepPendingSinceNs = now; // 발화 경계마다 기준 시각을 새로 잡음
+				}
+				inboundSilentFrames = 0;
+			} else {
+				inboundSilentFrames++;
+			}
+			frameIndex++;
+		} catch (RuntimeException e) {
+			errors.incrementAndGet();
+		}
+	}
+
+	private synchronized void send(String text) {
+		sendChain = sendChain
+			.thenCompose(ws -> ws.sendText(text, true))
+			.exceptionally(e -> {
+				errors.incrementAndGet();
+				return audioSocket;
+			});
+	}
+
+	private String startEvent() {
+		return "{\"event\":\"start\",\"sequenceNumber\":\"" + (++sequence) + "\",\"streamSid\":\"" + streamSid + "\","
+			+ "\"start\":{\"streamSid\":\"" + streamSid + "\",\"callSid\":\"" + callSid + "\","
+			+ "\"tracks\":[\"inbound\",\"outbound\"],"
+			+ "\"mediaFormat\":{\"encoding\":\"audio/x-mulaw\",\"sampleRate\":8000,\"channels\":1},"
+			+ "\"customParameters\":{\"primaryCallSid\":\"" + callSid + "\","
+			+ "\"callerNumber\":\"+8210" + String.format("%08d", index) + "\","
+			+ "\"userId\":\"" + userId + "\"}}}";
+	}
+
+	private String mediaEvent(String track, String timestamp, String payload) {
+		return new StringBuilder(payload.length() + 192)
+			.append("{\"event\":\"media\",\"sequenceNumber\":\"").append(++sequence)
+			.append("\",\"streamSid\":\"").append(streamSid)
+			.append("\",\"media\":{\"track\":\"").append(track)
+			.append("\",\"chunk\":\"").append(frameIndex + 1)
+			.append("\",\"timestamp\":\"").append(timestamp)
+			.append("\",\"payload\":\"").append(payload)
+			.append("\"}}")
+			.toString();
+	}
+
+	// /ws/stt 로 들어오는 서버 푸시 수신
+	private final class PushListener implements WebSocket.Listener {
+
+		private final StringBuilder partial = new StringBuilder();
+
+		@Override
+		public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+			partial.append(data);
+			if (last) {
+				onPush(partial.toString(), System.nanoTime());
+				partial.setLength(0);
+			}
+			webSocket.request(1);
+			return null;
+		}
+
+		@Override
+		public void onError(WebSocket webSocket, Throwable error) {
+			errors.incrementAndGet();
+		}
+
+		private void onPush(String message, long receivedAtNs) {
+			pushesReceived.incrementAndGet();
+			String type;
+			try {
+				JsonNode node = MAPPER.readTree(message);
+				type = node.path("type").asText();
+			} catch (Exception e) {
+				errors.incrementAndGet();
+				return;
+			}
+
+			switch (type) {
+				case "stt", "finalTranscript" -> {
+					long since = sttPendingSinceNs;
+					if (since >= 0) {
+						sttLatency.recordValue((receivedAtNs - since) / 1_000);
+						sttPendingSinceNs = -1;
+					}
+				}
+				case "beep" -> {
+					long since = beepPendingSinceNs;
+					if (since >= 0) {
+						beepLatency.recordValue((receivedAtNs - since) / 1_000);
+						beepPendingSinceNs = -1;
+					}
+				}
+				default -> {
+					// totalAbuseCntUpdate 등은 처리량에만 반영
+				}
+			}
+		}
+	}
+}
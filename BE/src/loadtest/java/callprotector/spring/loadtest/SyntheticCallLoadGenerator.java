@@ -0,0 +1,109 @@
+package callprotector.spring.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+// 가상 통화 부하 생성기
+// - 단계(steps)마다 동시 통화 수를 늘려 가며 stepSeconds 동안 유지하고, 단계별로
+//   STT/비프 푸시 지연 백분위수, 프레임/푸시 처리량, 서버 힙/스레드 수를 출력
+// - 실행: ./gradlew loadTest -Pargs="--server=localhost:8080 --steps=10,50,100 --step-seconds=60"
+// - 서버는 call.loadtest.accept-user-id=true 로 띄워야 가상 상담원(userId) 연결과 통화가 묶임
+// - 서버 힙/스레드 수는 --metrics-token=<로그인 JWT>를 주면 actuator에서 읽음 (없으면 NaN)
+// - 서버 stt.vad.threshold-db를 기본값에서 바꿨다면 --vad-threshold-db=<값>으로 맞춰야 음성 시작 시점이 같아짐
+public final class SyntheticCallLoadGenerator {
+
+	private static final long WARM_UP_MS = 5_000; // 단계 시작 직후 연결/스트림 생성 구간은 측정에서 제외
+
+	private SyntheticCallLoadGenerator() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options = LoadTestOptions.parse(args);
+		AudioSource audio = options.recording != null
+			? AudioSource.fromRecording(options.recording, options.vadThresholdDb)
+			: AudioSource.synthetic(options.vadThresholdDb);
+
+		HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+		ServerMetricsClient serverMetrics = new ServerMetricsClient(http, options.metricsUrl, options.metricsToken);
+		ScheduledExecutorService pacer = Executors.newScheduledThreadPool(
+			Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+				Thread thread = new Thread(runnable, "load-pacer");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+		Recorder sttLatency = new Recorder(3);
+		Recorder beepLatency = new Recorder(3);
+		AtomicLong framesSent = new AtomicLong();
+		AtomicLong pushesReceived = new AtomicLong();
+		AtomicLong errors = new AtomicLong();
+
+		List<SyntheticCall> calls = new ArrayList<>();
+		System.out.printf("%-7s %-10s %-10s %-44s %-44s %-9s %-8s %s%n",
+			"calls", "frames/s", "pushes/s", "stt latency ms (p50/p90/p99/p99.9/max)",
+			"beep latency ms (p50/p90/p99/p99.9/max)", "heap MB", "threads", "errors");
+
+		try {
+			for (int target : options.steps) {
+				while (calls.size() < target) {
+					SyntheticCall call = new SyntheticCall(calls.size(), options, audio, sttLatency, beepLatency,
+						framesSent, pushesReceived, errors);
+					try {
+						call.start(http, pacer);
+						calls.add(call);
+					} catch (RuntimeException e) {
+						errors.incrementAndGet();
+						System.err.printf("통화 #%d 연결 실패: %s%n", calls.size(), e.getMessage());
+						break;
+					}
+				}
+
+				TimeUnit.MILLISECONDS.sleep(Math.min(WARM_UP_MS, options.stepSeconds * 1_000));
+				sttLatency.reset();
+				beepLatency.reset();
+				long frames = framesSent.get();
+				long pushes = pushesReceived.get();
+				long errorCount = errors.get();
+				long measureStart = System.nanoTime();
+
+				TimeUnit.SECONDS.sleep(options.stepSeconds);
+
+				double seconds = (System.nanoTime() - measureStart) / 1e9;
+				System.out.printf("%-7d %-10.0f %-10.1f %-44s %-44s %-9.0f %-8.0f %d%n",
+					calls.size(),
+					(framesSent.get() - frames) / seconds,
+					(pushesReceived.get() - pushes) / seconds,
+					percentiles(sttLatency.getIntervalHistogram()),
+					percentiles(beepLatency.getIntervalHistogram()),
+					serverMetrics.heapUsedMb(),
+					serverMetrics.liveThreads(),
+					errors.get() - errorCount);
+			}
+		} finally {
+			calls.forEach(SyntheticCall::stop);
+			pacer.shutdownNow();
+		}
+	}
+
+	private static String percentiles(Histogram histogram) {
+		if (histogram.getTotalCount() == 0) {
+			return "-";
+		}
+		return String.format("%.0f/%.0f/%.0f/%.0f/%.0f (n=%d)",
+			histogram.getValueAtPercentile(50) / 1_000.0,
+			histogram.getValueAtPercentile(90) / 1_000.0,
+			histogram.getValueAtPercentile(99) / 1_000.0,
+			histogram.getValueAtPercentile(99.9) / 1_000.0,
+			histogram.getMaxValue() / 1_000.0,
+			histogram.getTotalCount());
+	}
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 public class AbuseResponseDTO {
 
     @Builder
@@ -23,4 +25,12 @@ public class AbuseResponseDTO {
         public String getType() { return type; }
     }
 
+    // 배치 분석 응답 (results는 요청 texts와 같은 순서)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AbuseFilterBatchDTO {
+        private List<AbuseFilterDTO> results;
+    }
+
 }
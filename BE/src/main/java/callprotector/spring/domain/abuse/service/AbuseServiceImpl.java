@@ -2,7 +2,7 @@ package callprotector.spring.domain.abuse.service;
 
 import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
 import callprotector.spring.domain.callsession.entity.CallSession;
-import callprotector.spring.global.client.FastClient;
+import callprotector.spring.global.abuse.AbuseClassifier;
 import callprotector.spring.domain.abuse.entity.AbuseLog;
 import callprotector.spring.domain.abuse.entity.AbuseType;
 import callprotector.spring.domain.calllog.entity.CallLog;
@@ -25,7 +25,7 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class AbuseServiceImpl implements AbuseService{
 
-    private final FastClient fastClient;
+    private final AbuseClassifier abuseClassifier;
 
     private final AbuseLogRepository abuseLogRepository;
     private final AbuseTypeRepository abuseTypeRepository;
@@ -35,7 +35,7 @@ public class AbuseServiceImpl implements AbuseService{
 
     @Override
     public AbuseResponseDTO.AbuseFilterDTO analyzeText(String text) {
-        return fastClient.sendTextToFastAPI(text);
+        return abuseClassifier.classify(text).join();
     }
 
     @Override
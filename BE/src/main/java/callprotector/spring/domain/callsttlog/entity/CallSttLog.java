@@ -18,7 +18,7 @@ import org.springframework.data.mongodb.core.mapping.Field;
 
 @Document(collection = "call_stt_log")
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @CompoundIndexes({
@@ -3,15 +3,14 @@ package callprotector.spring.domain.callsttlog.service;
 import callprotector.spring.domain.callsttlog.entity.CallSttLog;
 import callprotector.spring.global.common.enums.CallTrack;
 import callprotector.spring.domain.callsttlog.repository.CallSttLogRepository;
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.Refresh;
+import callprotector.spring.global.elasticsearch.CallSttLogBulkIndexer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 import java.util.LinkedHashSet;
@@ -23,7 +22,8 @@ import java.util.stream.Collectors;
 public class CallSttLogServiceImpl implements CallSttLogService {
     private static final boolean IS_FINAL = true;
     private final CallSttLogRepository callSttLogRepository;
-    private final ElasticsearchClient elasticsearchClient;
+    private final CallSttLogWriteBehind writeBehind;
+    private final ObjectProvider<CallSttLogBulkIndexer> bulkIndexer; // elasticsearch.enabled=false면 색인 생략
 
     @Override
     @Transactional
@@ -40,8 +40,9 @@ public class CallSttLogServiceImpl implements CallSttLogService {
                 .abuseCnt(abuseCnt)
                 .build();
 
-        CallSttLog savedSttLog = callSttLogRepository.save(sttLog);
-        log.info("MongoDB - CallSttLog 저장 완료: id={}", savedSttLog.getId());
+        // Mongo 저장은 write-behind로 넘기고 id/생성 시각이 채워진 문서를 바로 사용 (클라이언트 전송을 막지 않음)
+        CallSttLog savedSttLog = writeBehind.save(sttLog);
+        log.debug("MongoDB - CallSttLog 저장 요청: id={}", savedSttLog.getId());
 
         // 폭언 감지 시 CallSession 객체의 totalAbuseCnt 증가
         // if (isAbuse) {
@@ -49,20 +50,8 @@ public class CallSttLogServiceImpl implements CallSttLogService {
         //     callSessionService.incrementTotalAbuseCnt(callSessionId);
         // }
 
-        // Elasticsearch 인덱싱
-        new Thread(() -> {
-            try {
-                elasticsearchClient.index(i -> i
-                        .index("call_stt_log")
-                        .id(savedSttLog.getId())
-                        .document(savedSttLog)
-                        .refresh(Refresh.WaitFor)
-                );
-                log.info("Elasticsearch - CallSttLog 인덱싱 완료: id={}", savedSttLog.getId());
-            } catch (IOException e) {
-                log.error("❌ Elasticsearch 인덱싱 실패 - id: {}", savedSttLog.getId(), e);
-            }
-        }).start();
+        // Elasticsearch 인덱싱 (bulk로 모아서 전송)
+        bulkIndexer.ifAvailable(indexer -> indexer.index(savedSttLog));
 
         return savedSttLog;
     }
@@ -70,12 +59,14 @@ public class CallSttLogServiceImpl implements CallSttLogService {
     @Override
     @Transactional(readOnly = true)
     public boolean hasAbuseInSession(Long callSessionId) {
+        writeBehind.awaitPersisted(callSessionId);
         return callSttLogRepository.existsByCallSessionIdAndIsAbuseTrue(callSessionId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public String getAbuseTypesBySessionId(Long callSessionId) {
+        writeBehind.awaitPersisted(callSessionId);
         List<CallSttLog> abusiveLogs = callSttLogRepository.findByCallSessionIdAndIsAbuseTrue(callSessionId);
         Set<String> uniqueTypes = abusiveLogs.stream()
                 .map(CallSttLog::getAbuseType)
@@ -87,6 +78,7 @@ public class CallSttLogServiceImpl implements CallSttLogService {
     @Transactional(readOnly = true)
     public List<CallSttLog> getAllBySessionId(Long callSessionId) {
         log.info("getAllBySessionId 호출: callSessionId={}, IS_FINAL={}", callSessionId, IS_FINAL);
+        writeBehind.awaitPersisted(callSessionId); // 방금 발화까지 조회되도록 대기 중인 저장 완료 후 조회
 
         List<CallSttLog> sttList = callSttLogRepository.findByCallSessionIdAndIsFinalOrderByTimestampAsc(callSessionId, IS_FINAL);
         log.info("DB 조회 결과 (sttList) 크기: {}", sttList.size());
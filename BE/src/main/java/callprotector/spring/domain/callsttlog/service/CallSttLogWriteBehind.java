@@ -0,0 +1,460 @@
+package callprotector.spring.domain.callsttlog.service;
+
+import callprotector.spring.domain.callsttlog.entity.CallSttLog;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// CallSttLog write-behind 저장 - STT 응답 처리 스레드는 Mongo 왕복을 기다리지 않음
+// - save는 id/생성 시각을 바로 채워 반환하고, 문서는 전용 스레드(stt-log-writer)가 여러 통화 것을 모아 insertMany로 저장
+// - batchSize건이 모이거나 첫 문서 이후 flushIntervalMs가 지나면 저장
+// - 저장 실패/대기열 초과 시 문서를 spill 파일(JSON lines, 문서 단위 append)로 옮겨 잃지 않고, Mongo가 복구되면(또는 재시작 시) 다시 저장
+// - 대기열 초과분은 overflow 대기열에 넣고 spill 파일 기록(fsync)은 writer 스레드가 함 (둘 다 가득 찬 경우에만 호출 스레드가 기록)
+// - id를 미리 정하므로 재저장 중 중복 키 오류는 이미 저장된 것으로 간주
+// - 조회(통화 기록/요약 등) 전에는 awaitPersisted로 해당 통화의 대기 문서가 저장될 때까지 기다려 방금 발화도 보이게 함
+//   (spill된 문서도 재저장이 끝날 때까지 대기 문서로 셈)
+@Slf4j
+@Component
+public class CallSttLogWriteBehind {
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final String SPILL_FILE = "call_stt_log.spill.jsonl";
+    private static final String REPLAY_FILE = "call_stt_log.replay.jsonl";
+    private static final JsonWriterSettings SPILL_JSON = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED) // Long/날짜 타입을 그대로 복원
+            .build();
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long retryBackoffMs;
+    private final long readWaitMs;
+    private final Path spillFile;
+    private final Path replayFile;
+
+    private final BlockingQueue<Pending> queue;
+    private final BlockingQueue<Pending> overflow; // 대기열 초과분 - writer 스레드가 spill 파일로 옮김
+    private final Map<Long, Integer> pendingBySession = new HashMap<>(); // 아직 Mongo에 없는 통화별 문서 수 (자기 자신으로 동기화)
+    private final Map<Long, Integer> spilledBySession = new HashMap<>(); // 그중 spill 파일에 있는 문서 수 (pendingBySession으로 동기화)
+    private final Object spillLock = new Object();
+    private final Thread writer;
+    private volatile boolean running = true;
+    private long retryAt = 0L; // Mongo 실패 후 다음 저장 시도 시각 (writer 스레드 전용)
+    private boolean replayingLeftover; // replay 파일이 이전 실행에서 남은 문서인지 (writer 스레드 전용)
+
+    private final Timer writeLatency;
+    private final DistributionSummary batchSizes;
+    private final Counter spilled;
+    private final Counter replayed;
+    private final Counter failures;
+
+    public CallSttLogWriteBehind(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${call.stt-log.write-behind.enabled:true}") boolean enabled,
+            @Value("${call.stt-log.write-behind.batch-size:200}") int batchSize,
+            @Value("${call.stt-log.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${call.stt-log.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${call.stt-log.write-behind.retry-backoff-ms:2000}") long retryBackoffMs,
+            @Value("${call.stt-log.write-behind.read-wait-ms:2000}") long readWaitMs,
+            @Value("${call.stt-log.write-behind.spill-directory:stt-log-spill}") String spillDirectory
+    ) throws IOException {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = flushIntervalMs;
+        this.retryBackoffMs = retryBackoffMs;
+        this.readWaitMs = readWaitMs;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.overflow = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        Path directory = Path.of(spillDirectory);
+        Files.createDirectories(directory);
+        this.spillFile = directory.resolve(SPILL_FILE);
+        this.replayFile = directory.resolve(REPLAY_FILE);
+        this.replayingLeftover = enabled && adoptLeftoverSpill();
+
+        this.writeLatency = meterRegistry.timer("stt.log.write.latency");
+        this.batchSizes = DistributionSummary.builder("stt.log.write.batch.size")
+                .description("insertMany 1회에 담긴 CallSttLog 수")
+                .register(meterRegistry);
+        this.spilled = meterRegistry.counter("stt.log.write.spilled");
+        this.replayed = meterRegistry.counter("stt.log.write.replayed");
+        this.failures = meterRegistry.counter("stt.log.write.failures");
+        Gauge.builder("stt.log.write.queued", queue, BlockingQueue::size)
+                .description("저장을 기다리는 CallSttLog 수")
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::writeLoop, "stt-log-writer");
+        this.writer.setDaemon(true);
+        if (enabled) {
+            this.writer.start();
+            log.info("✅ CallSttLog write-behind 시작 - batchSize={}, flushIntervalMs={}, spill={}", this.batchSize,
+                    flushIntervalMs, spillFile.toAbsolutePath());
+        }
+    }
+
+    // id/생성 시각을 채운 문서를 바로 반환 (비활성화 시 기존처럼 동기 저장)
+    public CallSttLog save(CallSttLog sttLog) {
+        CallSttLog prepared = sttLog.toBuilder()
+                .id(sttLog.getId() != null ? sttLog.getId() : new ObjectId().toHexString())
+                .timestamp(sttLog.getTimestamp() != null ? sttLog.getTimestamp() : LocalDateTime.now())
+                .build();
+        if (!enabled) {
+            return mongoTemplate.insert(prepared);
+        }
+
+        Pending pending = new Pending(prepared.getCallSessionId(), toDocument(prepared));
+        markPending(pending.callSessionId, 1);
+        if (running && queue.offer(pending)) {
+            return prepared;
+        }
+        if (running && overflow.offer(pending)) {
+            log.warn("⚠️ CallSttLog 저장 대기열 초과 - spill 파일로 저장 예정: id={}", prepared.getId());
+        } else {
+            // 종료 후이거나 writer 스레드가 overflow도 비우지 못하는 경우
+            log.warn("⚠️ CallSttLog 저장 대기열 초과 - spill 파일로 저장: id={}", prepared.getId());
+            spill(List.of(pending));
+        }
+        return prepared;
+    }
+
+    // 해당 통화의 대기 문서가 Mongo에 저장될 때까지 대기 (최대 readWaitMs)
+    // - spill된 문서는 재저장될 때까지 기다림 (Mongo 장애 중이면 readWaitMs 후 빠진 채로 조회)
+    public void awaitPersisted(Long callSessionId) {
+        if (!enabled || callSessionId == null) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + readWaitMs;
+        synchronized (pendingBySession) {
+            while (pendingBySession.containsKey(callSessionId)) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    log.warn("❗ CallSttLog 저장 대기 시간 초과 - 저장 전 발화는 조회에서 빠질 수 있음: callSessionId={}",
+                            callSessionId);
+                    return;
+                }
+                try {
+                    pendingBySession.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void writeLoop() {
+        replaySpill(); // 이전 실행에서 남은 문서
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty() || !overflow.isEmpty()) {
+            try {
+                spillOverflow();
+                Pending first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replayIfDue();
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        queue.drainTo(batch, batchSize - batch.size());
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    spillOverflow();
+                    queue.drainTo(batch);
+                    write(batch);
+                    break;
+                }
+            } catch (Exception e) {
+                log.error("❌ CallSttLog 저장 처리 중 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 저장 실패 시(또는 실패 후 재시도 대기 중이면) spill 파일로 옮김
+    private void write(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (System.currentTimeMillis() < retryAt || !insert(documentsOf(batch))) {
+            spill(batch);
+            return;
+        }
+        batchSizes.record(batch.size());
+        for (Pending pending : batch) {
+            markPending(pending.callSessionId, -1);
+        }
+        replayIfDue();
+    }
+
+    // 호출 스레드가 넘긴 대기열 초과분을 한 번에 spill 파일로 옮김
+    private void spillOverflow() {
+        if (overflow.isEmpty()) {
+            return;
+        }
+        List<Pending> batch = new ArrayList<>();
+        overflow.drainTo(batch);
+        spill(batch);
+    }
+
+    private boolean insert(List<Document> documents) {
+        long startedAt = System.nanoTime();
+        try {
+            collection().insertMany(documents, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            if (!onlyDuplicates(e)) {
+                return onInsertFailure(documents.size(), e);
+            }
+        } catch (Exception e) {
+            return onInsertFailure(documents.size(), e);
+        }
+        writeLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        retryAt = 0L;
+        return true;
+    }
+
+    private boolean onInsertFailure(int size, Exception e) {
+        failures.increment();
+        retryAt = System.currentTimeMillis() + retryBackoffMs;
+        log.error("🔥 CallSttLog 저장 실패 ({}건) - {}ms 동안 spill 파일에 보관: {}", size, retryBackoffMs, e.toString());
+        return false;
+    }
+
+    // 이전 실패로 쌓인 spill 파일을 다시 저장 (Mongo 정상일 때만)
+    private void replayIfDue() {
+        if (retryAt == 0L || System.currentTimeMillis() >= retryAt) {
+            if (Files.exists(spillFile) || Files.exists(replayFile)) {
+                replaySpill();
+            }
+        }
+    }
+
+    // spill → replay 파일로 옮긴 뒤 batchSize씩 저장, 모두 성공하면 삭제 (중간 실패 시 다음 기회에 처음부터 다시, 중복은 무시됨)
+    // - replay 중 새로 spill된 문서도 이어서 저장
+    private void replaySpill() {
+        try {
+            while (true) {
+                synchronized (spillLock) {
+                    if (!Files.exists(replayFile)) {
+                        if (!Files.exists(spillFile)) {
+                            return;
+                        }
+                        Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                }
+                if (!replayFile()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ CallSttLog spill 파일 재저장 실패: {}", e.toString());
+        }
+    }
+
+    // replay 파일을 저장하고 삭제 (저장 실패 시 false)
+    // - 삭제 후 파일에 있던 통화별 문서 수만큼 대기 문서에서 뺌 (중간 실패 후 다시 읽은 문서를 두 번 빼지 않도록)
+    // - 이전 실행에서 남은 파일은 이번 실행의 대기 문서로 세지 않았으므로 빼지 않음
+    private boolean replayFile() throws IOException {
+        int count = 0;
+        Map<Long, Integer> bySession = new HashMap<>();
+        List<Document> documents = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Document document = Document.parse(line);
+                if (document.get("call_session_id") instanceof Number callSessionId) {
+                    bySession.merge(callSessionId.longValue(), 1, Integer::sum);
+                }
+                documents.add(document);
+                if (documents.size() == batchSize) {
+                    if (!insert(documents)) {
+                        return false;
+                    }
+                    count += documents.size();
+                    documents.clear();
+                }
+            }
+        }
+        if (!documents.isEmpty()) {
+            if (!insert(documents)) {
+                return false;
+            }
+            count += documents.size();
+        }
+        Files.delete(replayFile);
+        replayed.increment(count);
+        if (replayingLeftover) {
+            replayingLeftover = false;
+        } else {
+            markReplayed(bySession);
+        }
+        log.info("♻️ spill 파일의 CallSttLog {}건 재저장 완료", count);
+        return true;
+    }
+
+    // 이전 실행에서 남은 spill/replay 파일을 replay 파일 하나로 합침 (남은 파일이 있으면 true)
+    // - 이번 실행에서 spill한 문서와 섞이지 않아야 재저장 후 대기 문서 수를 정확히 뺄 수 있음
+    private boolean adoptLeftoverSpill() throws IOException {
+        if (Files.exists(spillFile)) {
+            if (Files.exists(replayFile)) {
+                try (OutputStream out = Files.newOutputStream(replayFile, StandardOpenOption.APPEND)) {
+                    Files.copy(spillFile, out);
+                }
+                Files.delete(spillFile);
+            } else {
+                Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        return Files.exists(replayFile);
+    }
+
+    // 문서 단위로 append 후 디스크 동기화 (프로세스가 죽어도 남음)
+    // - 기록한 문서는 재저장될 때까지 대기 문서로 남기고, 기록에 실패한 문서만 대기 문서에서 뺌
+    private void spill(List<Pending> batch) {
+        synchronized (spillLock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC)) {
+                for (Pending pending : batch) {
+                    writer.write(pending.document.toJson(SPILL_JSON));
+                    writer.newLine();
+                }
+            } catch (IOException e) {
+                log.error("❌ CallSttLog spill 파일 기록 실패 - {}건 유실: {}", batch.size(), e.toString());
+                for (Pending pending : batch) {
+                    markPending(pending.callSessionId, -1);
+                }
+                return;
+            }
+        }
+        spilled.increment(batch.size());
+        synchronized (pendingBySession) {
+            for (Pending pending : batch) {
+                if (pending.callSessionId != null) {
+                    spilledBySession.merge(pending.callSessionId, 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    // 재저장된 spill 문서를 대기 문서에서 뺌 (이번 실행에서 spill한 수까지만)
+    private void markReplayed(Map<Long, Integer> bySession) {
+        synchronized (pendingBySession) {
+            bySession.forEach((callSessionId, count) -> {
+                int spilledCount = spilledBySession.getOrDefault(callSessionId, 0);
+                int replayedCount = Math.min(count, spilledCount);
+                if (replayedCount == 0) {
+                    return;
+                }
+                if (replayedCount == spilledCount) {
+                    spilledBySession.remove(callSessionId);
+                } else {
+                    spilledBySession.put(callSessionId, spilledCount - replayedCount);
+                }
+                markPending(callSessionId, -replayedCount);
+            });
+        }
+    }
+
+    private void markPending(Long callSessionId, int delta) {
+        if (callSessionId == null) {
+            return;
+        }
+        synchronized (pendingBySession) {
+            int count = pendingBySession.getOrDefault(callSessionId, 0) + delta;
+            if (count <= 0) {
+                pendingBySession.remove(callSessionId);
+                pendingBySession.notifyAll();
+            } else {
+                pendingBySession.put(callSessionId, count);
+            }
+        }
+    }
+
+    private boolean onlyDuplicates(MongoBulkWriteException e) {
+        for (BulkWriteError error : e.getWriteErrors()) {
+            if (error.getCode() != DUPLICATE_KEY) {
+                return false;
+            }
+        }
+        return e.getWriteConcernError() == null;
+    }
+
+    private Document toDocument(CallSttLog sttLog) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(sttLog, document);
+        return document;
+    }
+
+    private static List<Document> documentsOf(List<Pending> batch) {
+        List<Document> documents = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            documents.add(pending.document);
+        }
+        return documents;
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(CallSttLog.class));
+    }
+
+    // 종료 시 대기 문서를 저장 (실패하면 spill 파일에 남아 다음 기동 시 저장)
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(5000);
+    }
+
+    private record Pending(Long callSessionId, Document document) {
+    }
+}
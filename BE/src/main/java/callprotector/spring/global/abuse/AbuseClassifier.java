@@ -0,0 +1,34 @@
+package callprotector.spring.global.abuse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
+
+// 욕설 분류 모델 백엔드 (abuse.classifier.backend로 배포별 선택)
+// - FASTAPI: FILTER 서버 HTTP 호출 (FastClient)
+// - ONNX: 내보낸 모델을 JVM 안에서 직접 추론 (OnnxAbuseClassifier, 소규모 단일 서버용)
+// - 실패/생략 시에도 예외 없이 failed(사유) 결과로 완료하고, 반환된 Future를 cancel하면 아직 시작하지 않은 작업은 생략
+public interface AbuseClassifier {
+
+	String FAILED_TYPE_PREFIX = "분석 ";
+
+	CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> classify(String text);
+
+	// 결과는 texts와 같은 순서
+	CompletableFuture<List<AbuseResponseDTO.AbuseFilterDTO>> classifyBatch(List<String> texts);
+
+	enum Backend {
+		FASTAPI,
+		ONNX
+	}
+
+	// 분석 실패/생략 결과인지 (실패 사유는 모두 "분석 "으로 시작 - 캐시 등에서 실제 판정과 구분)
+	static boolean isFailed(AbuseResponseDTO.AbuseFilterDTO result) {
+		return !result.isAbuse() && result.getType() != null && result.getType().startsWith(FAILED_TYPE_PREFIX);
+	}
+
+	static AbuseResponseDTO.AbuseFilterDTO failed(String reason) {
+		return new AbuseResponseDTO.AbuseFilterDTO(false, false, reason);
+	}
+}
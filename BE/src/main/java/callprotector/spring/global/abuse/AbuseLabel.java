@@ -0,0 +1,25 @@
+package callprotector.spring.global.abuse;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 욕설 분석 결과 유형 (FILTER 서버 LABEL_NAMES와 같은 한글 라벨을 사용)
+@Getter
+@RequiredArgsConstructor
+public enum AbuseLabel {
+	VERBAL_ABUSE("욕설"),
+	SEXUAL_HARASSMENT("성희롱"),
+	THREAT("협박"),
+	NORMAL("정상");
+
+	private final String label;
+
+	public static AbuseLabel fromLabel(String label) {
+		for (AbuseLabel value : values()) {
+			if (value.label.equals(label) || value.name().equalsIgnoreCase(label)) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("알 수 없는 욕설 유형: " + label);
+	}
+}
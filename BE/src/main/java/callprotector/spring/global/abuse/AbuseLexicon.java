@@ -0,0 +1,169 @@
+package callprotector.spring.global.abuse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 욕설 사전 1벌 (생성 후 변경 없음 - 교체 시 AbusePrefilter가 새 사전으로 바꿔 끼움)
+// JSON 형식:
+// {
+//   "version": "...",
+//   "entries": [ {"word": "씨발", "type": "욕설", "confident": true}, ... ],
+//   "allow":   [ "시발점", ... ]   // 욕설 단어를 포함하지만 정상인 단어 (이 범위 안의 매칭은 무시)
+// }
+// - 매칭은 띄어쓰기로 나뉜 단어 안에서만 일어남 (단어 안의 띄어쓰기는 무시하고 붙여서 등록)
+// - 받침 없는 음절로 끝나는 단어는 다음 글자가 같은 음절의 받침이면 매칭하지 않음 ("씨바"는 "시발"이나 "시반"의 앞부분과 매칭되지 않음)
+final class AbuseLexicon {
+
+	static final AbuseLexicon EMPTY = new AbuseLexicon("empty", List.of(), List.of());
+
+	record Entry(String word, AbuseLabel label, boolean confident) {
+	}
+
+	private final String version;
+	private final List<Entry> entries; // 패턴 인덱스 순서 (allow 단어는 label NORMAL)
+	private final int[] lengths;       // 정규화된 패턴 길이
+	private final boolean[] openEnded; // 받침 없는 음절로 끝나는 패턴 (바로 뒤에 받침이 오면 다른 음절이므로 무시)
+	private final AhoCorasickMatcher matcher;
+	private final int wordCount;
+
+	private AbuseLexicon(String version, List<Entry> words, List<String> allowWords) {
+		// 정규화 결과가 같은 단어는 하나로 합침 (확실한 항목 우선, allow 단어는 항상 우선)
+		Map<String, Entry> byPattern = new LinkedHashMap<>();
+		for (Entry entry : words) {
+			String pattern = patternOf(entry.word());
+			if (pattern.isEmpty()) {
+				continue;
+			}
+			Entry existing = byPattern.get(pattern);
+			if (existing == null || (!existing.confident() && entry.confident())) {
+				byPattern.put(pattern, entry);
+			}
+		}
+		for (String allow : allowWords) {
+			String pattern = patternOf(allow);
+			if (!pattern.isEmpty()) {
+				byPattern.put(pattern, new Entry(allow, AbuseLabel.NORMAL, false));
+			}
+		}
+
+		this.version = version;
+		this.entries = List.copyOf(byPattern.values());
+		List<String> patterns = List.copyOf(byPattern.keySet());
+		this.lengths = patterns.stream().mapToInt(String::length).toArray();
+		this.openEnded = new boolean[patterns.size()];
+		for (int i = 0; i < patterns.size(); i++) {
+			String pattern = patterns.get(i);
+			openEnded[i] = JamoNormalizer.isJungseong(pattern.charAt(pattern.length() - 1));
+		}
+		this.matcher = new AhoCorasickMatcher(patterns);
+		this.wordCount = (int) entries.stream().filter(entry -> entry.label() != AbuseLabel.NORMAL).count();
+	}
+
+	static AbuseLexicon parse(InputStream in, ObjectMapper mapper) throws IOException {
+		JsonNode root = mapper.readTree(in);
+		List<Entry> words = new ArrayList<>();
+		for (JsonNode node : root.path("entries")) {
+			String word = node.path("word").asText("");
+			AbuseLabel label = AbuseLabel.fromLabel(node.path("type").asText(AbuseLabel.VERBAL_ABUSE.getLabel()));
+			if (label == AbuseLabel.NORMAL) {
+				throw new IOException("entries에는 정상 유형을 쓸 수 없습니다 (allow 사용): " + word);
+			}
+			words.add(new Entry(word, label, node.path("confident").asBoolean(false)));
+		}
+		List<String> allow = new ArrayList<>();
+		for (JsonNode node : root.path("allow")) {
+			allow.add(node.asText());
+		}
+		return new AbuseLexicon(root.path("version").asText("unknown"), words, allow);
+	}
+
+	PrefilterVerdict match(String text) {
+		if (entries.isEmpty() || text == null || text.isEmpty()) {
+			return PrefilterVerdict.CLEAN;
+		}
+		String normalized = JamoNormalizer.normalize(text);
+		Hits hits = new Hits(normalized);
+		matcher.match(normalized, hits);
+
+		Entry best = null;
+		for (int i = 0; i < hits.count; i++) {
+			Entry entry = entries.get(hits.patterns[i]);
+			if (entry.label() == AbuseLabel.NORMAL || hits.isAllowed(i)) {
+				continue;
+			}
+			if (best == null || (entry.confident() && !best.confident())) {
+				best = entry;
+			}
+		}
+		if (best == null) {
+			return PrefilterVerdict.CLEAN;
+		}
+		return new PrefilterVerdict(best.confident() ? PrefilterVerdict.Kind.CONFIDENT : PrefilterVerdict.Kind.SUSPECT,
+			best.label(), best.word());
+	}
+
+	private static String patternOf(String word) {
+		return JamoNormalizer.normalize(word).replace(String.valueOf(JamoNormalizer.WORD_BREAK), "");
+	}
+
+	String version() {
+		return version;
+	}
+
+	int wordCount() {
+		return wordCount;
+	}
+
+	int nodeCount() {
+		return matcher.nodeCount();
+	}
+
+	// 한 문장의 매칭 목록 (문장당 매칭은 몇 개뿐이므로 작은 배열로 수집)
+	private final class Hits implements AhoCorasickMatcher.MatchListener {
+		private final String normalized;
+		private int[] patterns = new int[8];
+		private int[] ends = new int[8];
+		private int count;
+
+		private Hits(String normalized) {
+			this.normalized = normalized;
+		}
+
+		@Override
+		public void onMatch(int pattern, int end) {
+			if (openEnded[pattern] && end < normalized.length() && JamoNormalizer.isJongseong(normalized.charAt(end))) {
+				return;
+			}
+			if (count == patterns.length) {
+				patterns = Arrays.copyOf(patterns, count * 2);
+				ends = Arrays.copyOf(ends, count * 2);
+			}
+			patterns[count] = pattern;
+			ends[count] = end;
+			count++;
+		}
+
+		// i번째 매칭이 allow 단어 매칭 범위 안에 있는지
+		private boolean isAllowed(int i) {
+			int start = ends[i] - lengths[patterns[i]];
+			for (int j = 0; j < count; j++) {
+				if (entries.get(patterns[j]).label() != AbuseLabel.NORMAL) {
+					continue;
+				}
+				int allowStart = ends[j] - lengths[patterns[j]];
+				if (allowStart <= start && ends[i] <= ends[j]) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package callprotector.spring.global.abuse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// JVM 내 욕설 사전 사전 판정기 - 최종/중간 STT 결과마다 수 마이크로초 안에 판정
+// - 사전은 abuse.prefilter.lexicon(classpath: 또는 file:)에서 읽고, 파일이면 수정 시각을 주기적으로 확인해 재시작 없이 교체
+// - 새 사전을 읽다 실패하면 기존 사전을 그대로 사용
+// - 사전 교체는 참조 하나만 바꾸므로 판정 중인 스레드와 잠금 없이 공존
+@Slf4j
+@Component
+public class AbusePrefilter {
+
+	private final boolean enabled;
+	private final Resource lexiconResource;
+	private final ObjectMapper mapper;
+	private final Map<PrefilterVerdict.Kind, Counter> verdicts = new EnumMap<>(PrefilterVerdict.Kind.class);
+	private final ScheduledExecutorService reloader;
+
+	private volatile AbuseLexicon lexicon = AbuseLexicon.EMPTY;
+	private volatile long loadedModified;
+
+	public AbusePrefilter(
+		ObjectMapper mapper,
+		MeterRegistry meterRegistry,
+		@Value("${abuse.prefilter.enabled:true}") boolean enabled,
+		@Value("${abuse.prefilter.lexicon:classpath:abuse/lexicon.json}") Resource lexiconResource,
+		@Value("${abuse.prefilter.reload-interval-ms:10000}") long reloadIntervalMs
+	) {
+		this.enabled = enabled;
+		this.lexiconResource = lexiconResource;
+		this.mapper = mapper;
+
+		for (PrefilterVerdict.Kind kind : PrefilterVerdict.Kind.values()) {
+			verdicts.put(kind, Counter.builder("abuse.prefilter.verdicts")
+				.description("욕설 사전 사전 판정 결과 수")
+				.tag("kind", kind.name())
+				.register(meterRegistry));
+		}
+		Gauge.builder("abuse.prefilter.lexicon.words", this, prefilter -> prefilter.lexicon.wordCount())
+			.description("현재 욕설 사전 단어 수")
+			.register(meterRegistry);
+
+		if (enabled) {
+			reload();
+		}
+
+		// 파일 사전만 변경 감시 (classpath 사전은 배포 시에만 바뀜)
+		if (enabled && lexiconResource.isFile() && reloadIntervalMs > 0) {
+			reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "abuse-lexicon-reloader");
+				thread.setDaemon(true);
+				return thread;
+			});
+			reloader.scheduleWithFixedDelay(this::reloadIfModified, reloadIntervalMs, reloadIntervalMs,
+				TimeUnit.MILLISECONDS);
+		} else {
+			reloader = null;
+		}
+	}
+
+	public PrefilterVerdict check(String text) {
+		if (!enabled) {
+			return PrefilterVerdict.CLEAN;
+		}
+		PrefilterVerdict verdict = lexicon.match(text);
+		verdicts.get(verdict.kind()).increment();
+		return verdict;
+	}
+
+	// 사전을 다시 읽어 교체 (실패 시 기존 사전 유지)
+	public synchronized boolean reload() {
+		try {
+			long modified = lexiconResource.isFile() ? lexiconResource.lastModified() : 0L;
+			AbuseLexicon loaded;
+			try (InputStream in = lexiconResource.getInputStream()) {
+				loaded = AbuseLexicon.parse(in, mapper);
+			}
+			lexicon = loaded;
+			loadedModified = modified;
+			log.info("✅ 욕설 사전 적용 - version={}, words={}, nodes={}, source={}", loaded.version(),
+				loaded.wordCount(), loaded.nodeCount(), lexiconResource.getDescription());
+			return true;
+		} catch (Exception e) {
+			log.error("❌ 욕설 사전 읽기 실패 - 기존 사전 유지 (version={}): {}", lexicon.version(), e.getMessage());
+			return false;
+		}
+	}
+
+	private void reloadIfModified() {
+		try {
+			if (lexiconResource.lastModified() != loadedModified) {
+				reload();
+			}
+		} catch (IOException e) {
+			log.warn("⚠️ 욕설 사전 변경 확인 실패: {}", e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (reloader != null) {
+			reloader.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package callprotector.spring.global.abuse;
+
+import java.text.Normalizer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 분류 백엔드 욕설 판정 결과 캐시 (크기 + TTL 제한, LRU)
+// - 키는 정규화한 문장 (NFKC 후 공백/기호 제거, 영문 소문자) → 띄어쓰기/문장부호만 다른 반복 발화와 스트림 교체 후 재전송된 최종 결과가 같은 키
+// - 된소리 접기 등 사전 매칭용 변형은 키에 적용하지 않음 (다른 단어를 같은 판정으로 묶지 않도록)
+// - 같은 문장을 동시에 요청하면 진행 중인 요청 결과를 함께 받음
+// - 분석 실패/생략 결과는 캐시하지 않음
+// - 초당 최종 발화 수 정도의 접근이라 전체 잠금 LinkedHashMap으로 충분
+@Slf4j
+@Component
+public class AbuseResultCache {
+
+	// 항목당 대략적인 고정 메모리 (LinkedHashMap 노드 + 항목 + Future + 결과 DTO + String 헤더)
+	private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+	private final boolean enabled;
+	private final int maxEntries;
+	private final long ttlMs;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+	private long approximateBytes;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	public AbuseResultCache(
+		MeterRegistry meterRegistry,
+		@Value("${abuse.cache.enabled:true}") boolean enabled,
+		@Value("${abuse.cache.max-entries:10000}") int maxEntries,
+		@Value("${abuse.cache.ttl-ms:600000}") long ttlMs
+	) {
+		this.enabled = enabled;
+		this.maxEntries = maxEntries;
+		this.ttlMs = ttlMs;
+
+		FunctionCounter.builder("abuse.cache.requests", this, cache -> cache.read(() -> cache.hits))
+			.description("욕설 판정 캐시 조회 수")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		FunctionCounter.builder("abuse.cache.requests", this, cache -> cache.read(() -> cache.misses))
+			.description("욕설 판정 캐시 조회 수")
+			.tag("result", "miss")
+			.register(meterRegistry);
+		FunctionCounter.builder("abuse.cache.evictions", this, cache -> cache.read(() -> cache.evictions))
+			.description("크기/TTL 초과로 제거된 항목 수")
+			.register(meterRegistry);
+		Gauge.builder("abuse.cache.hit.ratio", this, AbuseResultCache::hitRatio)
+			.description("욕설 판정 캐시 적중률")
+			.register(meterRegistry);
+		Gauge.builder("abuse.cache.size", this, cache -> cache.read(cache.entries::size))
+			.description("욕설 판정 캐시 항목 수")
+			.register(meterRegistry);
+		Gauge.builder("abuse.cache.bytes", this, cache -> cache.read(() -> cache.approximateBytes))
+			.description("욕설 판정 캐시 추정 메모리 (bytes)")
+			.baseUnit("bytes")
+			.register(meterRegistry);
+	}
+
+	// 캐시된 판정이 있으면 그대로, 없으면 loader로 판정 후 저장
+	public CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> get(String text,
+		Function<String, CompletableFuture<AbuseResponseDTO.AbuseFilterDTO>> loader) {
+		String key = enabled ? keyOf(text) : "";
+		if (key.isEmpty()) {
+			return loader.apply(text);
+		}
+
+		long now = System.currentTimeMillis();
+		CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> created = new CompletableFuture<>();
+		synchronized (entries) {
+			Entry cached = entries.get(key);
+			if (cached != null && now - cached.createdAt < ttlMs) {
+				hits++;
+				return cached.result;
+			}
+			if (cached != null) {
+				remove(key, cached);
+				evictions++;
+			}
+			misses++;
+			Entry entry = new Entry(created, now, ENTRY_OVERHEAD_BYTES + 2L * key.length());
+			entries.put(key, entry);
+			approximateBytes += entry.bytes;
+			evictOverflow();
+		}
+
+		loader.apply(text).whenComplete((result, error) -> {
+			if (error != null || result == null || AbuseClassifier.isFailed(result)) {
+				invalidate(key, created);
+			}
+			if (error != null) {
+				created.completeExceptionally(error);
+			} else {
+				created.complete(result);
+			}
+		});
+		return created;
+	}
+
+	// 공백/기호 제거 + 호환 문자 통합 + 영문 소문자
+	static String keyOf(String text) {
+		if (text == null) {
+			return "";
+		}
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+		StringBuilder key = new StringBuilder(normalized.length());
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				key.append(Character.toLowerCase(c));
+			}
+		}
+		return key.toString();
+	}
+
+	public double hitRatio() {
+		synchronized (entries) {
+			long total = hits + misses;
+			return total == 0 ? 0 : (double) hits / total;
+		}
+	}
+
+	private void invalidate(String key, CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> result) {
+		synchronized (entries) {
+			Entry entry = entries.get(key);
+			if (entry != null && entry.result == result) {
+				remove(key, entry);
+			}
+		}
+	}
+
+	private void evictOverflow() {
+		Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+		while (entries.size() > maxEntries && eldest.hasNext()) {
+			Entry entry = eldest.next().getValue();
+			eldest.remove();
+			approximateBytes -= entry.bytes;
+			evictions++;
+		}
+	}
+
+	private void remove(String key, Entry entry) {
+		entries.remove(key);
+		approximateBytes -= entry.bytes;
+	}
+
+	private <T extends Number> double read(Supplier<T> value) {
+		synchronized (entries) {
+			return value.get().doubleValue();
+		}
+	}
+
+	private record Entry(CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> result, long createdAt, long bytes) {
+	}
+}
@@ -0,0 +1,102 @@
+package callprotector.spring.global.abuse;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 정규화된 자모열에서 여러 패턴을 한 번에 찾는 Aho-Corasick 오토마톤
+// - 실패 링크를 미리 펼친 완전 전이표(노드 × 알파벳)라 문자당 배열 조회 1번
+// - 생성 후에는 읽기만 하므로 여러 스레드에서 동시에 사용 가능 (사전 교체 시 새로 생성)
+final class AhoCorasickMatcher {
+
+	@FunctionalInterface
+	interface MatchListener {
+		// pattern: 패턴 인덱스, end: 정규화 문자열에서 매칭이 끝나는 위치(exclusive)
+		void onMatch(int pattern, int end);
+	}
+
+	private static final int ALPHABET = JamoNormalizer.ALPHABET_SIZE;
+
+	private final int[] transitions; // node * ALPHABET + symbol → 다음 노드
+	private final int[] terminal;    // 노드에서 끝나는 패턴 인덱스 (-1: 없음)
+	private final int[] outputLink;  // 접미사 중 패턴이 끝나는 가장 가까운 노드 (-1: 없음)
+
+	// patterns는 JamoNormalizer로 정규화된 문자열 (중복 없음)
+	AhoCorasickMatcher(List<String> patterns) {
+		int maxNodes = 1;
+		for (String pattern : patterns) {
+			maxNodes += pattern.length();
+		}
+		int[] trie = new int[maxNodes * ALPHABET]; // 0: 자식 없음 (루트는 자식이 될 수 없음)
+		int[] ends = new int[maxNodes];
+		Arrays.fill(ends, -1);
+
+		int nodes = 1;
+		for (int p = 0; p < patterns.size(); p++) {
+			int node = 0;
+			String pattern = patterns.get(p);
+			for (int i = 0; i < pattern.length(); i++) {
+				int index = node * ALPHABET + JamoNormalizer.symbolOf(pattern.charAt(i));
+				if (trie[index] == 0) {
+					trie[index] = nodes++;
+				}
+				node = trie[index];
+			}
+			if (ends[node] < 0) {
+				ends[node] = p;
+			}
+		}
+
+		this.transitions = Arrays.copyOf(trie, nodes * ALPHABET);
+		this.terminal = Arrays.copyOf(ends, nodes);
+		this.outputLink = new int[nodes];
+		int[] fail = new int[nodes];
+		outputLink[0] = -1;
+
+		// BFS로 실패 링크 계산 후 없는 전이를 실패 링크의 전이로 채움
+		int[] queue = new int[nodes];
+		int head = 0;
+		int tail = 0;
+		for (int s = 0; s < ALPHABET; s++) {
+			int child = transitions[s];
+			if (child != 0) {
+				fail[child] = 0;
+				outputLink[child] = -1;
+				queue[tail++] = child;
+			}
+		}
+		while (head < tail) {
+			int node = queue[head++];
+			for (int s = 0; s < ALPHABET; s++) {
+				int index = node * ALPHABET + s;
+				int child = transitions[index];
+				int fallback = transitions[fail[node] * ALPHABET + s];
+				if (child == 0) {
+					transitions[index] = fallback;
+					continue;
+				}
+				fail[child] = fallback;
+				outputLink[child] = terminal[fallback] >= 0 ? fallback : outputLink[fallback];
+				queue[tail++] = child;
+			}
+		}
+	}
+
+	void match(CharSequence normalized, MatchListener listener) {
+		int state = 0;
+		for (int i = 0; i < normalized.length(); i++) {
+			int symbol = JamoNormalizer.symbolOf(normalized.charAt(i));
+			if (symbol < 0) {
+				state = 0;
+				continue;
+			}
+			state = transitions[state * ALPHABET + symbol];
+			for (int node = terminal[state] >= 0 ? state : outputLink[state]; node > 0; node = outputLink[node]) {
+				listener.onMatch(terminal[node], i + 1);
+			}
+		}
+	}
+
+	int nodeCount() {
+		return terminal.length;
+	}
+}
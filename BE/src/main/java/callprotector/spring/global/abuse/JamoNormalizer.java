@@ -0,0 +1,112 @@
+package callprotector.spring.global.abuse;
+
+// 욕설 사전 매칭용 한글 자모 정규화
+// - 완성형 음절을 초성/중성/종성(조합형 자모 U+1100대)으로 분해하고, 기호 등 글자가 아닌 문자는 제거 ("씨.발" → "씨발")
+// - 띄어쓰기는 단어 경계(WORD_BREAK) 하나로 남겨 매칭이 단어를 넘지 않게 함
+//   ("세 시 발송"이 "씨발"로, "두 시 반에"가 "씨바"로 잡히지 않도록 - 대신 "씨 발"처럼 띄어 쓴 욕설은 모델 판정에 맡김)
+// - 된소리/비슷한 모음은 하나로 접음 (ㅆ→ㅅ, ㄲ→ㄱ, ㅔ→ㅐ 등) → "시발", "씨발" 같은 변형을 한 항목으로 매칭
+// - 종성은 초성과 다른 코드로 남겨 음절 경계를 넘는 오탐을 막음 ("좆"의 ㅈ-ㅗ-[받침ㅈ]는 "조정"과 매칭되지 않음)
+// - 단독 자모("ㅅㅂ")는 초성/중성으로 취급, 영문은 소문자, 숫자는 그대로
+final class JamoNormalizer {
+
+	private static final char SYLLABLE_BASE = 0xAC00;
+	private static final char SYLLABLE_LAST = 0xD7A3;
+	private static final char CHOSEONG_BASE = 0x1100;   // 19개
+	private static final char JUNGSEONG_BASE = 0x1161;  // 21개
+	private static final char JONGSEONG_BASE = 0x11A7;  // 1~27 (0은 받침 없음)
+
+	private static final int CHOSEONG_COUNT = 19;
+	private static final int JUNGSEONG_COUNT = 21;
+	private static final int JONGSEONG_COUNT = 27;
+
+	static final char WORD_BREAK = ' '; // 매칭 알파벳에 없는 문자 → 매칭 상태 초기화
+
+	// 매칭 알파벳: 초성 19 + 중성 21 + 종성 27 + 영문 26 + 숫자 10
+	static final int ALPHABET_SIZE = CHOSEONG_COUNT + JUNGSEONG_COUNT + JONGSEONG_COUNT + 26 + 10;
+
+	private static final String COMPAT_CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+	private static final String COMPAT_JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+
+	// 된소리 → 예사소리 (ㄲ→ㄱ, ㄸ→ㄷ, ㅃ→ㅂ, ㅆ→ㅅ, ㅉ→ㅈ)
+	private static final int[] CHOSEONG_FOLD = {0, 0, 2, 3, 3, 5, 6, 7, 7, 9, 9, 11, 12, 12, 14, 15, 16, 17, 18};
+	// ㅔ→ㅐ, ㅖ→ㅒ
+	private static final int[] JUNGSEONG_FOLD = {0, 1, 2, 3, 4, 1, 6, 3, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20};
+	// 받침 ㄲ→ㄱ, ㅆ→ㅅ (인덱스 1부터, 0은 받침 없음)
+	private static final int[] JONGSEONG_FOLD = {0, 1, 1, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 19,
+		21, 22, 23, 24, 25, 26, 27};
+
+	private JamoNormalizer() {
+	}
+
+	static String normalize(CharSequence text) {
+		StringBuilder out = new StringBuilder(text.length() * 3);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isWhitespace(c)) {
+				if (out.length() > 0 && out.charAt(out.length() - 1) != WORD_BREAK) {
+					out.append(WORD_BREAK);
+				}
+				continue;
+			}
+			if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+				int syllable = c - SYLLABLE_BASE;
+				int jong = syllable % 28;
+				out.append((char) (CHOSEONG_BASE + CHOSEONG_FOLD[syllable / 588]));
+				out.append((char) (JUNGSEONG_BASE + JUNGSEONG_FOLD[(syllable % 588) / 28]));
+				if (jong > 0) {
+					out.append((char) (JONGSEONG_BASE + JONGSEONG_FOLD[jong]));
+				}
+				continue;
+			}
+			int compat = COMPAT_CHOSEONG.indexOf(c);
+			if (compat >= 0) {
+				out.append((char) (CHOSEONG_BASE + CHOSEONG_FOLD[compat]));
+				continue;
+			}
+			compat = COMPAT_JUNGSEONG.indexOf(c);
+			if (compat >= 0) {
+				out.append((char) (JUNGSEONG_BASE + JUNGSEONG_FOLD[compat]));
+				continue;
+			}
+			if (c < 0x80 && Character.isLetterOrDigit(c)) {
+				out.append(Character.toLowerCase(c));
+			}
+			// 그 외(기호, 이모지 등)는 버림
+		}
+		int end = out.length();
+		if (end > 0 && out.charAt(end - 1) == WORD_BREAK) {
+			out.setLength(end - 1);
+		}
+		return out.toString();
+	}
+
+	// 정규화된 문자가 중성(모음)인지 - 받침 없는 음절로 끝나는 패턴 판별용
+	static boolean isJungseong(char c) {
+		return c >= JUNGSEONG_BASE && c < JUNGSEONG_BASE + JUNGSEONG_COUNT;
+	}
+
+	// 정규화된 문자가 종성(받침)인지
+	static boolean isJongseong(char c) {
+		return c > JONGSEONG_BASE && c <= JONGSEONG_BASE + JONGSEONG_COUNT;
+	}
+
+	// 정규화된 문자의 매칭 알파벳 인덱스 (정규화 결과가 아닌 문자는 -1)
+	static int symbolOf(char c) {
+		if (c >= CHOSEONG_BASE && c < CHOSEONG_BASE + CHOSEONG_COUNT) {
+			return c - CHOSEONG_BASE;
+		}
+		if (c >= JUNGSEONG_BASE && c < JUNGSEONG_BASE + JUNGSEONG_COUNT) {
+			return CHOSEONG_COUNT + (c - JUNGSEONG_BASE);
+		}
+		if (c > JONGSEONG_BASE && c <= JONGSEONG_BASE + JONGSEONG_COUNT) {
+			return CHOSEONG_COUNT + JUNGSEONG_COUNT + (c - JONGSEONG_BASE - 1);
+		}
+		if (c >= 'a' && c <= 'z') {
+			return CHOSEONG_COUNT + JUNGSEONG_COUNT + JONGSEONG_COUNT + (c - 'a');
+		}
+		if (c >= '0' && c <= '9') {
+			return CHOSEONG_COUNT + JUNGSEONG_COUNT + JONGSEONG_COUNT + 26 + (c - '0');
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,169 @@
+package callprotector.spring.global.abuse;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// KoBERT(SentencePiece unigram) 토크나이저 - FILTER export_onnx.py가 내보낸 조각 목록으로 동작
+// - 정규화(NFKC, 공백 정리) 후 단어 앞에 "▁"를 붙이고, 조각 점수 합이 가장 큰 분할을 Viterbi로 선택
+// - 사전에 없는 문자는 [UNK] (SentencePiece와 같은 방식으로 최저 점수 - 10 벌점)
+// - 결과는 [CLS] 문장 [SEP] 형태이며 maxLength로 자르고, 배치는 가장 긴 문장 길이에 맞춰 [PAD]로 채움
+// - 불변 객체라 여러 추론 스레드가 공유
+final class KoBertTokenizer {
+
+	private static final char WORD_BOUNDARY = '\u2581'; // SentencePiece 단어 시작 표시 (▁)
+
+	private final Map<String, Integer> pieceIds;
+	private final float[] scores;
+	private final int maxPieceLength;
+	private final float unknownScore;
+	private final int unkId;
+	private final int padId;
+	private final int clsId;
+	private final int sepId;
+	private final int maxLength;
+
+	// pieces: id 순서의 조각 (special은 분할 후보에서 제외), scores: 조각별 SentencePiece 점수
+	KoBertTokenizer(List<String> pieces, float[] scores, boolean[] special, int unkId, int padId, int clsId, int sepId,
+		int maxLength) {
+		this.pieceIds = new HashMap<>(pieces.size() * 2);
+		this.scores = scores;
+		int longest = 1;
+		float minScore = 0f;
+		for (int id = 0; id < pieces.size(); id++) {
+			if (special[id]) {
+				continue;
+			}
+			String piece = pieces.get(id);
+			pieceIds.putIfAbsent(piece, id);
+			longest = Math.max(longest, piece.length());
+			minScore = Math.min(minScore, scores[id]);
+		}
+		this.maxPieceLength = longest;
+		this.unknownScore = minScore - 10f;
+		this.unkId = unkId;
+		this.padId = padId;
+		this.clsId = clsId;
+		this.sepId = sepId;
+		this.maxLength = maxLength;
+	}
+
+	// 모델 입력 (batchSize × sequenceLength, 행 우선)
+	record Batch(long[] inputIds, long[] attentionMask, int batchSize, int sequenceLength) {
+
+		long[] shape() {
+			return new long[] {batchSize, sequenceLength};
+		}
+	}
+
+	Batch encodeBatch(List<String> texts) {
+		List<int[]> encoded = new ArrayList<>(texts.size());
+		int sequenceLength = 2;
+		for (String text : texts) {
+			int[] ids = encode(text);
+			encoded.add(ids);
+			sequenceLength = Math.max(sequenceLength, ids.length);
+		}
+
+		long[] inputIds = new long[texts.size() * sequenceLength];
+		long[] attentionMask = new long[inputIds.length];
+		Arrays.fill(inputIds, padId);
+		for (int row = 0; row < encoded.size(); row++) {
+			int[] ids = encoded.get(row);
+			int offset = row * sequenceLength;
+			for (int i = 0; i < ids.length; i++) {
+				inputIds[offset + i] = ids[i];
+				attentionMask[offset + i] = 1;
+			}
+		}
+		return new Batch(inputIds, attentionMask, texts.size(), sequenceLength);
+	}
+
+	// [CLS] 조각들 [SEP] (maxLength 이내)
+	int[] encode(String text) {
+		List<Integer> pieces = segment(normalize(text));
+		int length = Math.min(pieces.size(), maxLength - 2);
+		int[] ids = new int[length + 2];
+		ids[0] = clsId;
+		for (int i = 0; i < length; i++) {
+			ids[i + 1] = pieces.get(i);
+		}
+		ids[length + 1] = sepId;
+		return ids;
+	}
+
+	// NFKC + 연속 공백을 ▁ 하나로 + 맨 앞 ▁ (SentencePiece nmt_nfkc + add_dummy_prefix)
+	static String normalize(String text) {
+		String normalized = Normalizer.normalize(text == null ? "" : text, Normalizer.Form.NFKC).strip();
+		if (normalized.isEmpty()) {
+			return normalized; // SentencePiece도 빈 문장에는 ▁를 붙이지 않음
+		}
+		StringBuilder builder = new StringBuilder(normalized.length() + 1).append(WORD_BOUNDARY);
+		boolean space = false;
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (Character.isWhitespace(c)) {
+				space = true;
+				continue;
+			}
+			if (space) {
+				builder.append(WORD_BOUNDARY);
+				space = false;
+			}
+			builder.append(c);
+		}
+		return builder.toString();
+	}
+
+	// 점수 합이 최대인 분할 (best[i]: text[0, i)까지의 최고 점수)
+	List<Integer> segment(String text) {
+		int n = text.length();
+		float[] best = new float[n + 1];
+		int[] start = new int[n + 1];
+		int[] pieceId = new int[n + 1];
+		Arrays.fill(best, Float.NEGATIVE_INFINITY);
+		best[0] = 0f;
+
+		for (int begin = 0; begin < n; begin++) {
+			if (best[begin] == Float.NEGATIVE_INFINITY || Character.isLowSurrogate(text.charAt(begin))) {
+				continue;
+			}
+			boolean matched = false;
+			int limit = Math.min(n, begin + maxPieceLength);
+			for (int end = begin + 1; end <= limit; end++) {
+				Integer id = pieceIds.get(text.substring(begin, end));
+				if (id == null) {
+					continue;
+				}
+				matched |= end == begin + Character.charCount(text.codePointAt(begin));
+				float score = best[begin] + scores[id];
+				if (score > best[end]) {
+					best[end] = score;
+					start[end] = begin;
+					pieceId[end] = id;
+				}
+			}
+			// 한 글자 조각도 없으면 [UNK]로 넘어감
+			if (!matched) {
+				int end = begin + Character.charCount(text.codePointAt(begin));
+				float score = best[begin] + unknownScore;
+				if (score > best[end]) {
+					best[end] = score;
+					start[end] = begin;
+					pieceId[end] = unkId;
+				}
+			}
+		}
+
+		List<Integer> pieces = new ArrayList<>();
+		for (int end = n; end > 0; end = start[end]) {
+			pieces.add(pieceId[end]);
+		}
+		Collections.reverse(pieces);
+		return pieces;
+	}
+}
@@ -0,0 +1,328 @@
+package callprotector.spring.global.abuse;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// JVM 내 ONNX Runtime(CPU) 욕설 분류 백엔드 - FILTER 서버 HTTP 왕복 없이 같은 KoBERT 모델로 판정
+// - modelDir: FILTER export/export_onnx.py 결과 (model.onnx + classifier.json: 라벨, 최대 길이, 토크나이저 조각)
+// - 추론 스레드마다 자기 OrtSession을 가짐 (세션당 intraOpThreads 1개 권장, 메모리는 스레드 수 × 모델 크기)
+// - classifyBatch는 여러 문장을 한 번의 추론으로 처리 (AbuseClassificationBatcher가 통화 간 발화를 모아 호출)
+// - 판정 흐름은 FILTER detect.py is_abuse_batch()와 같음: classifier.json의 force_block 단어가 있으면 모델 없이 욕설,
+//   아니면 모델 확률 + badwords 포함 여부(detected)로 decide() 판정 (FASTAPI 백엔드와 같은 결과)
+// - JVM 욕설 사전(AbusePrefilter)은 두 백엔드 모두 앞단(TranscriptAbuseDetector)에서만 사용
+// - FILTER와의 토크나이저/판정 일치는 ./gradlew abuseAgreement 로 확인
+// - 대기열이 가득 차면 기다리지 않고 "분석 생략" 결과를 반환
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "abuse.classifier.backend", havingValue = "ONNX")
+public class OnnxAbuseClassifier implements AbuseClassifier {
+
+	// FILTER detect.py와 같은 판정 기준
+	private static final double THRESHOLD = 0.9;
+	private static final double DELTA_THRESHOLD = 0.2;
+	private static final double MAX_NORMAL_PROB = 0.3;
+	private static final double UNDETECTED_MIN_PROB = 0.97; // 사전 단어 없이 욕설로 볼 최소 확률 (오탐 보정)
+	private static final double UNDETECTED_MAX_NORMAL_PROB = 0.2;
+	private static final Pattern NON_WORD = Pattern.compile("[^가-힣a-zA-Z0-9\\s]", Pattern.UNICODE_CHARACTER_CLASS); // detect.py normalize()
+
+	private final OrtEnvironment environment;
+	private final Path modelPath;
+	private final int intraOpThreads;
+	private final KoBertTokenizer tokenizer;
+	private final List<String> labels;
+	private final int normalIndex;
+	private final List<String> badwords;
+	private final Set<String> forceBlock;
+
+	private final ThreadPoolExecutor inferencePool;
+	private final ThreadLocal<OrtSession> sessions = ThreadLocal.withInitial(this::openSession);
+	private final Queue<OrtSession> openSessions = new ConcurrentLinkedQueue<>();
+
+	private final Timer latency;
+	private final DistributionSummary batchSizes;
+
+	public OnnxAbuseClassifier(
+		ObjectMapper mapper,
+		MeterRegistry meterRegistry,
+		@Value("${abuse.classifier.onnx.model-dir:model/onnx}") String modelDir,
+		@Value("${abuse.classifier.onnx.threads:2}") int threads,
+		@Value("${abuse.classifier.onnx.intra-op-threads:1}") int intraOpThreads,
+		@Value("${abuse.classifier.onnx.queue-capacity:256}") int queueCapacity
+	) throws IOException {
+		this.environment = OrtEnvironment.getEnvironment();
+		this.modelPath = Path.of(modelDir, "model.onnx");
+		this.intraOpThreads = intraOpThreads;
+		if (!Files.isRegularFile(modelPath)) {
+			throw new IllegalStateException("ONNX 욕설 분류 모델이 없습니다: " + modelPath.toAbsolutePath());
+		}
+
+		JsonNode config = mapper.readTree(Path.of(modelDir, "classifier.json").toFile());
+		this.labels = new ArrayList<>();
+		config.get("labels").forEach(label -> labels.add(label.asText()));
+		this.normalIndex = labels.indexOf(AbuseLabel.NORMAL.getLabel());
+		if (normalIndex < 0) {
+			throw new IllegalStateException("classifier.json labels에 정상 라벨이 없습니다: " + labels);
+		}
+		this.tokenizer = readTokenizer(config.get("tokenizer"), config.path("max_length").asInt(64));
+		this.badwords = readWords(config, "badwords");
+		this.forceBlock = Set.copyOf(readWords(config, "force_block"));
+		if (!config.has("badwords")) {
+			log.warn("⚠️ classifier.json에 단어 사전(badwords/force_block)이 없습니다 - FILTER와 판정이 다를 수 있으니 다시 내보내세요: {}", modelDir);
+		}
+
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.inferencePool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+				Thread thread = new Thread(() -> {
+					try {
+						sessions.get(); // 기동 시 스레드별 세션을 미리 열어 첫 요청 지연 제거
+					} catch (IllegalStateException e) {
+						log.error("❌ {}", e.getMessage(), e.getCause()); // 요청마다 다시 시도하고 "분석 실패"로 완료
+					}
+					runnable.run();
+				}, "onnx-abuse-" + threadIndex.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		this.inferencePool.prestartAllCoreThreads();
+		ExecutorServiceMetrics.monitor(meterRegistry, inferencePool, "abuse.onnx.inference");
+
+		this.latency = meterRegistry.timer("abuse.onnx.latency");
+		this.batchSizes = DistributionSummary.builder("abuse.onnx.batch.size")
+			.description("ONNX 추론 1회에 담긴 문장 수")
+			.register(meterRegistry);
+
+		log.info("✅ ONNX 욕설 분류 백엔드 시작 - model={}, threads={}, intraOpThreads={}, labels={}, badwords={}", modelPath,
+			threads, intraOpThreads, labels, badwords.size());
+	}
+
+	@Override
+	public CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> classify(String text) {
+		CompletableFuture<List<AbuseResponseDTO.AbuseFilterDTO>> batch = classifyBatch(List.of(text));
+		CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> result = batch.thenApply(results -> results.get(0));
+		result.whenComplete((r, e) -> {
+			if (result.isCancelled()) {
+				batch.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public CompletableFuture<List<AbuseResponseDTO.AbuseFilterDTO>> classifyBatch(List<String> texts) {
+		CompletableFuture<List<AbuseResponseDTO.AbuseFilterDTO>> result = new CompletableFuture<>();
+		try {
+			inferencePool.execute(() -> {
+				if (result.isDone()) { // 대기 중 취소됨
+					return;
+				}
+				try {
+					result.complete(infer(texts));
+				} catch (Exception e) {
+					log.error("🔥 ONNX 욕설 분류 실패 ({}건): {}", texts.size(), e.toString());
+					result.complete(Collections.nCopies(texts.size(), AbuseClassifier.failed("분석 실패")));
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.warn("⚠️ ONNX 추론 대기열 초과 - 욕설 분석 생략 ({}건)", texts.size());
+			result.complete(Collections.nCopies(texts.size(), AbuseClassifier.failed("분석 생략(과부하)")));
+		}
+		return result;
+	}
+
+	// 강제 차단 단어가 나온 문장은 모델에 넣지 않고, 나머지만 한 번에 추론 (FILTER is_abuse_batch와 같은 흐름)
+	private List<AbuseResponseDTO.AbuseFilterDTO> infer(List<String> texts) throws OrtException {
+		AbuseResponseDTO.AbuseFilterDTO[] results = new AbuseResponseDTO.AbuseFilterDTO[texts.size()];
+		boolean[] detected = new boolean[texts.size()];
+		List<Integer> pending = new ArrayList<>(texts.size());
+		List<String> pendingTexts = new ArrayList<>(texts.size());
+		for (int i = 0; i < texts.size(); i++) {
+			List<String> words = detectWords(texts.get(i));
+			detected[i] = !words.isEmpty();
+			if (words.stream().anyMatch(forceBlock::contains)) {
+				results[i] = new AbuseResponseDTO.AbuseFilterDTO(true, true, AbuseLabel.VERBAL_ABUSE.getLabel());
+			} else {
+				pending.add(i);
+				pendingTexts.add(texts.get(i));
+			}
+		}
+
+		if (!pending.isEmpty()) {
+			float[][] logits = run(pendingTexts);
+			for (int row = 0; row < pending.size(); row++) {
+				int index = pending.get(row);
+				results[index] = decide(softmax(logits[row]), detected[index], normalIndex, labels);
+			}
+		}
+		return List.of(results);
+	}
+
+	// FILTER detect.py contains_badword(normalize(text)) - 기호 제거/소문자 변환 후 badwords 단어 포함 여부
+	List<String> detectWords(String text) {
+		String normalized = NON_WORD.matcher(text).replaceAll("").toLowerCase(Locale.ROOT).strip();
+		List<String> words = new ArrayList<>();
+		for (String word : badwords) {
+			if (normalized.contains(word)) {
+				words.add(word);
+			}
+		}
+		return words;
+	}
+
+	private float[][] run(List<String> texts) throws OrtException {
+		long startedAt = System.nanoTime();
+		OrtSession session = sessions.get();
+		KoBertTokenizer.Batch batch = tokenizer.encodeBatch(texts);
+		long[] shape = batch.shape();
+
+		Map<String, OnnxTensor> inputs = new HashMap<>();
+		try {
+			inputs.put("input_ids", OnnxTensor.createTensor(environment, LongBuffer.wrap(batch.inputIds()), shape));
+			inputs.put("attention_mask", OnnxTensor.createTensor(environment, LongBuffer.wrap(batch.attentionMask()), shape));
+			if (session.getInputNames().contains("token_type_ids")) {
+				inputs.put("token_type_ids", OnnxTensor.createTensor(environment,
+					LongBuffer.wrap(new long[batch.inputIds().length]), shape));
+			}
+			try (OrtSession.Result result = session.run(inputs)) {
+				float[][] logits = (float[][]) result.get(0).getValue();
+				batchSizes.record(texts.size());
+				latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+				return logits;
+			}
+		} finally {
+			inputs.values().forEach(OnnxTensor::close);
+		}
+	}
+
+	// FILTER detect.py decide() - 모델 확률 + 사전 감지 여부로 최종 판정
+	static AbuseResponseDTO.AbuseFilterDTO decide(double[] probs, boolean detected, int normalIndex,
+		List<String> labels) {
+		int predicted = 0;
+		double maxAbuseProb = 0;
+		for (int i = 0; i < probs.length; i++) {
+			if (probs[i] > probs[predicted]) {
+				predicted = i;
+			}
+			if (i != normalIndex) {
+				maxAbuseProb = Math.max(maxAbuseProb, probs[i]);
+			}
+		}
+		double normalProb = probs[normalIndex];
+
+		boolean abusive = predicted != normalIndex
+			&& maxAbuseProb > THRESHOLD
+			&& maxAbuseProb - normalProb > DELTA_THRESHOLD
+			&& normalProb < MAX_NORMAL_PROB;
+		if (abusive && !detected && (maxAbuseProb < UNDETECTED_MIN_PROB || normalProb > UNDETECTED_MAX_NORMAL_PROB)) {
+			abusive = false;
+		}
+
+		if (!abusive && !detected) {
+			return new AbuseResponseDTO.AbuseFilterDTO(false, false, AbuseLabel.NORMAL.getLabel());
+		}
+		return new AbuseResponseDTO.AbuseFilterDTO(abusive, detected, labels.get(predicted));
+	}
+
+	private static double[] softmax(float[] logits) {
+		double max = Double.NEGATIVE_INFINITY;
+		for (float logit : logits) {
+			max = Math.max(max, logit);
+		}
+		double[] probs = new double[logits.length];
+		double sum = 0;
+		for (int i = 0; i < logits.length; i++) {
+			probs[i] = Math.exp(logits[i] - max);
+			sum += probs[i];
+		}
+		for (int i = 0; i < probs.length; i++) {
+			probs[i] /= sum;
+		}
+		return probs;
+	}
+
+	// 추론 스레드 전용 세션 (ThreadLocal 초기값)
+	private OrtSession openSession() {
+		try (OrtSession.SessionOptions options = new OrtSession.SessionOptions()) {
+			options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+			options.setIntraOpNumThreads(intraOpThreads);
+			options.setInterOpNumThreads(1);
+			OrtSession session = environment.createSession(modelPath.toString(), options);
+			openSessions.add(session);
+			log.info("ONNX 세션 생성 - thread={}", Thread.currentThread().getName());
+			return session;
+		} catch (OrtException e) {
+			throw new IllegalStateException("ONNX 세션 생성 실패: " + modelPath, e);
+		}
+	}
+
+	private static List<String> readWords(JsonNode config, String field) {
+		List<String> words = new ArrayList<>();
+		config.path(field).forEach(word -> words.add(word.asText()));
+		return List.copyOf(words);
+	}
+
+	// classifier.json tokenizer: pieces([조각, 점수] id 순서), special_ids, unk/pad/cls/sep id
+	static KoBertTokenizer readTokenizer(JsonNode node, int maxLength) {
+		JsonNode piecesNode = node.get("pieces");
+		List<String> pieces = new ArrayList<>(piecesNode.size());
+		float[] scores = new float[piecesNode.size()];
+		boolean[] special = new boolean[piecesNode.size()];
+		for (int id = 0; id < piecesNode.size(); id++) {
+			pieces.add(piecesNode.get(id).get(0).asText());
+			scores[id] = (float) piecesNode.get(id).get(1).asDouble();
+		}
+		node.get("special_ids").forEach(id -> special[id.asInt()] = true);
+		return new KoBertTokenizer(pieces, scores, special, node.get("unk_id").asInt(), node.get("pad_id").asInt(),
+			node.get("cls_id").asInt(), node.get("sep_id").asInt(), maxLength);
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		inferencePool.shutdown();
+		inferencePool.awaitTermination(2, TimeUnit.SECONDS);
+		for (OrtSession session : openSessions) {
+			try {
+				session.close();
+			} catch (OrtException e) {
+				log.warn("⚠️ ONNX 세션 종료 실패: {}", e.getMessage());
+			}
+		}
+	}
+}
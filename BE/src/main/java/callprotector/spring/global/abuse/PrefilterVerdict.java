@@ -0,0 +1,18 @@
+package callprotector.spring.global.abuse;
+
+// 욕설 사전 사전 판정 결과
+// - CONFIDENT: 확실한 욕설 단어 매칭 → FastAPI를 기다리지 않고 바로 욕설로 처리
+// - SUSPECT: 문맥에 따라 다른 단어 매칭 → FastAPI 판정에 맡김 (지표/로그용)
+// - CLEAN: 사전 매칭 없음 → FastAPI 판정에 맡김
+public record PrefilterVerdict(Kind kind, AbuseLabel label, String matchedWord) {
+
+	public static final PrefilterVerdict CLEAN = new PrefilterVerdict(Kind.CLEAN, AbuseLabel.NORMAL, null);
+
+	public enum Kind {
+		CONFIDENT, SUSPECT, CLEAN
+	}
+
+	public boolean isConfident() {
+		return kind == Kind.CONFIDENT;
+	}
+}
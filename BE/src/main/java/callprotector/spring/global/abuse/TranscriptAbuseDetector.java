@@ -0,0 +1,55 @@
+package callprotector.spring.global.abuse;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+
+import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
+import callprotector.spring.global.client.AbuseClassificationBatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// STT 발화 욕설 판정 진입점 (SttContext가 사용)
+// - 최종 발화: 욕설 사전에서 확실한 단어가 나오면 바로 욕설로 완료, 아니면 판정 캐시 → 분류 백엔드(배치) 판정
+// - 중간 발화: 욕설 사전만 확인 (분류 백엔드 호출 없음) → 확실한 욕설이면 최종 결과 전에 삐 처리 가능
+// - 추측 분석: 중간 발화의 안정 구간을 분류 백엔드 단건 요청으로 판정 (배치/캐시 없이, 취소 가능)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranscriptAbuseDetector {
+
+	private final AbusePrefilter prefilter;
+	private final AbuseClassificationBatcher batcher;
+	private final AbuseResultCache resultCache;
+	private final AbuseClassifier classifier;
+
+	public CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> classifyFinal(String text) {
+		PrefilterVerdict verdict = prefilter.check(text);
+		if (verdict.isConfident()) {
+			log.info("⚡ 욕설 사전 즉시 판정: type={}, word={}", verdict.label().getLabel(), verdict.matchedWord());
+			return CompletableFuture.completedFuture(
+				new AbuseResponseDTO.AbuseFilterDTO(true, true, verdict.label().getLabel()));
+		}
+		return resultCache.get(text, batcher::classify);
+	}
+
+	public PrefilterVerdict checkInterim(String text) {
+		return prefilter.check(text);
+	}
+
+	// 반환된 Future를 cancel하면 백엔드 요청도 취소됨 - 다른 호출과 공유하지 않도록 캐시를 거치지 않음
+	public CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> classifySpeculative(String text) {
+		PrefilterVerdict verdict = prefilter.check(text);
+		if (verdict.isConfident()) {
+			return CompletableFuture.completedFuture(
+				new AbuseResponseDTO.AbuseFilterDTO(true, true, verdict.label().getLabel()));
+		}
+		return classifier.classify(text);
+	}
+
+	// 공백/기호 차이를 무시하고 같은 문장인지 (추측 분석 결과를 최종 판정에 재사용할 때 사용)
+	public static boolean sameText(String a, String b) {
+		String key = AbuseResultCache.keyOf(a);
+		return !key.isEmpty() && key.equals(AbuseResultCache.keyOf(b));
+	}
+}
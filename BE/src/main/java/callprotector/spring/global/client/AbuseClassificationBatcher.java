@@ -0,0 +1,184 @@
+package callprotector.spring.global.client;
+
+import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
+import callprotector.spring.global.abuse.AbuseClassifier;
+import callprotector.spring.global.config.FastApiConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// 모든 통화(SttContext)의 최종 발화를 짧은 시간(maxDelayMs) 또는 maxSize건까지 모아 분류 백엔드에 한 번에 전달
+// - 호출 측은 문장마다 자기 결과만 CompletableFuture로 받음 (AbuseClassifier.classify와 같은 계약)
+// - 한 건만 모였거나 배치가 꺼져 있으면 단건 분석으로 보냄
+// - 대기열이 가득 차면 배치 없이 바로 단건 요청 (백엔드의 동시 요청 상한/회로 차단기는 그대로 적용)
+// - FASTAPI는 배치 엔드포인트 1회 호출, ONNX는 모델 1회 추론으로 처리
+@Slf4j
+@Component
+public class AbuseClassificationBatcher {
+
+    private final AbuseClassifier classifier;
+    private final FastApiConfig.Batch properties;
+    private final BlockingQueue<Pending> queue;
+    private final DistributionSummary batchSizes;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public AbuseClassificationBatcher(AbuseClassifier classifier, FastApiConfig.FastApiProperties fastApiProperties,
+                                      MeterRegistry meterRegistry) {
+        this.classifier = classifier;
+        this.properties = fastApiProperties.getBatch();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+
+        this.batchSizes = DistributionSummary.builder("fastapi.batch.size")
+                .description("분류 백엔드 요청 1건에 담긴 문장 수")
+                .register(meterRegistry);
+        Gauge.builder("fastapi.batch.queued", queue, BlockingQueue::size)
+                .description("배치 전송을 기다리는 문장 수")
+                .register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "fastapi-batcher");
+        this.dispatcher.setDaemon(true);
+        if (properties.isEnabled()) {
+            this.dispatcher.start();
+            log.info("✅ 욕설 분석 배치 전송 시작 - maxSize={}, maxDelayMs={}", properties.getMaxSize(),
+                    properties.getMaxDelayMs());
+        }
+    }
+
+    public CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> classify(String text) {
+        if (!properties.isEnabled() || !running) {
+            return classifier.classify(text);
+        }
+        Pending pending = new Pending(text);
+        if (!queue.offer(pending)) {
+            log.warn("⚠️ 욕설 분석 배치 대기열 초과({}) - 단건 요청으로 전송", properties.getQueueCapacity());
+            return classifier.classify(text);
+        }
+        return pending.result;
+    }
+
+    // 첫 문장을 받은 뒤 maxDelayMs 동안(또는 maxSize건이 찰 때까지) 모아서 전송
+    private void dispatchLoop() {
+        List<Pending> batch = new ArrayList<>(properties.getMaxSize());
+        while (running) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getMaxDelayMs());
+                while (batch.size() < properties.getMaxSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, properties.getMaxSize() - batch.size());
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                dispatch(List.copyOf(batch));
+            } catch (InterruptedException e) {
+                // 종료 중 모으던 문장은 이미 대기열에서 꺼냈으므로 여기서 단건 요청으로 넘김
+                batch.forEach(this::classifySingle);
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("❌ 욕설 분석 배치 전송 중 오류", e);
+                batch.forEach(AbuseClassificationBatcher::fail);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<Pending> batch) {
+        batchSizes.record(batch.size());
+        if (batch.size() == 1) {
+            classifySingle(batch.get(0));
+            return;
+        }
+
+        List<String> texts = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            texts.add(pending.text);
+        }
+        log.debug("욕설 분석 배치 전송 - {}건", texts.size());
+        classifier.classifyBatch(texts).whenComplete((results, error) -> {
+            try {
+                if (error != null || results == null || results.size() != batch.size()) {
+                    log.error("❌ 욕설 분석 배치 결과 오류 - {}건 실패 처리: {}", batch.size(),
+                            error != null ? error.toString() : "결과 수 불일치");
+                    return;
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    AbuseResponseDTO.AbuseFilterDTO result = results.get(i);
+                    if (result != null && result.isAbuse()) {
+                        log.info("🚨 욕설 분석 결과(배치): abuse={}, detected={}, type={}",
+                                result.isAbuse(), result.isDetected(), result.getType());
+                    }
+                    batch.get(i).result.complete(result != null ? result : AbuseClassifier.failed("분석 실패"));
+                }
+            } finally {
+                // 결과를 받지 못한 문장은 실패 결과로 완료 (이미 완료된 Future는 그대로)
+                batch.forEach(AbuseClassificationBatcher::fail);
+            }
+        });
+    }
+
+    // 단건 분석 결과를 그대로 전달하고, 예외로 끝나면 실패 결과로 완료
+    private void classifySingle(Pending pending) {
+        try {
+            classifier.classify(pending.text).whenComplete((result, error) -> {
+                if (error != null || result == null) {
+                    fail(pending);
+                } else {
+                    pending.result.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("❌ 욕설 단건 분석 요청 실패", e);
+            fail(pending);
+        }
+    }
+
+    private static void fail(Pending pending) {
+        pending.result.complete(AbuseClassifier.failed("분석 실패"));
+    }
+
+    // 종료 시 대기 중인 문장은 단건 요청으로 넘겨 결과를 잃지 않음
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        dispatcher.interrupt();
+        dispatcher.join(1000);
+
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::classifySingle);
+    }
+
+    private static final class Pending {
+        private final String text;
+        private final CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> result = new CompletableFuture<>();
+
+        private Pending(String text) {
+            this.text = text;
+        }
+    }
+}
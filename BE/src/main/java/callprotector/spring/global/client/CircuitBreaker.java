@@ -0,0 +1,80 @@
+package callprotector.spring.global.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 연속 실패 횟수 기반 회로 차단기 (FastClient 전용)
+// - CLOSED: 모든 요청 허용, failureThreshold번 연속 실패하면 OPEN
+// - OPEN: openMs 동안 요청 차단 후 HALF_OPEN
+// - HALF_OPEN: 확인 요청 1건만 허용, 성공하면 CLOSED, 실패하면 다시 OPEN
+@Slf4j
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMs;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probing; // HALF_OPEN 확인 요청이 진행 중인지
+
+    CircuitBreaker(String name, int failureThreshold, long openMs) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+    }
+
+    // 요청 가능 여부 - true를 받은 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나를 호출
+    synchronized boolean allowRequest(long now) {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (now - openedAt < openMs) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probing = true;
+                log.info("🔌 [{}] 회로 차단기 HALF_OPEN - 복구 확인 요청 전송", name);
+                return true;
+            default:
+                if (probing) {
+                    return false;
+                }
+                probing = true;
+                return true;
+        }
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probing = false;
+        if (state != State.CLOSED) {
+            state = State.CLOSED;
+            log.info("✅ [{}] 회로 차단기 CLOSED - 호출 재개", name);
+        }
+    }
+
+    synchronized void onFailure(long now) {
+        consecutiveFailures++;
+        probing = false;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = now;
+            log.warn("⛔ [{}] 회로 차단기 OPEN - 연속 실패 {}회, {}ms 동안 호출 중단", name, consecutiveFailures, openMs);
+        }
+    }
+
+    // 결과와 무관하게 끝난 요청 (호출 측 취소 등) - HALF_OPEN 확인 요청이었다면 다음 요청이 다시 확인
+    synchronized void onIgnored() {
+        probing = false;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
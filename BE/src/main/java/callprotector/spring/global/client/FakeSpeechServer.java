@@ -0,0 +1,386 @@
+package callprotector.spring.global.client;
+
+import callprotector.spring.global.config.SttConfig;
+import callprotector.spring.global.multimodal.AudioLevels;
+import com.google.cloud.speech.v1.SpeechRecognitionAlternative;
+import com.google.cloud.speech.v1.StreamingRecognitionResult;
+import com.google.cloud.speech.v1.StreamingRecognizeRequest;
+import com.google.cloud.speech.v1.StreamingRecognizeResponse;
+import com.google.protobuf.ByteString;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Google Speech v1 StreamingRecognize를 흉내 내는 프로세스 내 gRPC 서버 (네트워크/인증 없이 STT 파이프라인 테스트·벤치마크용)
+// - stt.fake.enabled=true 이면 SpeechClientProvider가 Google 대신 이 서버에 in-process 채널로 연결
+// - 받은 오디오의 음성 구간 길이에 맞춰 스크립트 문장을 중간 결과(단어가 점점 늘어남) → 최종 결과 순으로 응답
+// - 발화 중 closeSend하면 그때까지 들은 단어만 최종 결과로 내고, 교체된 새 스트림은 겹쳐 받은 직전 오디오만큼
+//   그 문장을 앞에서부터 다시 인식 (Google처럼 교체 경계에서 같은 단어가 두 스트림의 최종 결과에 중복됨)
+// - 응답 지연/지터, 임의 스트림 오류(UNAVAILABLE), 스트림 최대 길이 초과(OUT_OF_RANGE), 동시 스트림 제한(RESOURCE_EXHAUSTED) 재현
+// - 스크립트 위치와 난수는 스트림 식별 헤더(통화 id:트랙:스트림 번호)로 정하므로, 같은 설정/입력이면
+//   양쪽 트랙 스트림이 열리는 순서(스레드 스케줄링)와 무관하게 같은 문장/지연/오류를 냄
+//   (헤더 없이 연결한 호출은 열린 순서대로 번호를 매기므로 이 보장이 없음)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stt.fake.enabled", havingValue = "true")
+public class FakeSpeechServer {
+
+    private static final String SERVICE_NAME = "google.cloud.speech.v1.Speech";
+    private static final int FRAME_BYTES = 160; // 8kHz μ-law 20ms
+    private static final long FRAME_MS = 20;
+    private static final int MAX_TRACKED_SCRIPTS = 10_000; // 스크립트 위치를 기억하는 통화/트랙 수 (오래된 것부터 제거)
+
+    // SpeechClientProvider가 스트림마다 붙이는 식별 헤더 (값: 통화 id:트랙:스트림 번호)
+    public static final String STREAM_KEY_HEADER = "x-fake-stt-stream";
+    private static final Metadata.Key<String> STREAM_KEY_METADATA =
+            Metadata.Key.of(STREAM_KEY_HEADER, Metadata.ASCII_STRING_MARSHALLER);
+    private static final Context.Key<String> STREAM_KEY = Context.key(STREAM_KEY_HEADER);
+
+    // google-cloud-speech는 서버 스텁(SpeechGrpc)을 컴파일 의존성으로 노출하지 않으므로 메서드 정의를 직접 구성
+    private static final MethodDescriptor<StreamingRecognizeRequest, StreamingRecognizeResponse> STREAMING_RECOGNIZE =
+            MethodDescriptor.<StreamingRecognizeRequest, StreamingRecognizeResponse>newBuilder()
+                    .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "StreamingRecognize"))
+                    .setRequestMarshaller(ProtoUtils.marshaller(StreamingRecognizeRequest.getDefaultInstance()))
+                    .setResponseMarshaller(ProtoUtils.marshaller(StreamingRecognizeResponse.getDefaultInstance()))
+                    .build();
+
+    private final SttConfig.Fake properties;
+    private final double voiceThresholdDb;
+
+    private final AtomicInteger streamIds = new AtomicInteger();
+    private final AtomicInteger activeStreams = new AtomicInteger();
+    // 통화/트랙별 스크립트 진행 상태 - 스트림 교체 후에도 같은 문장 또는 다음 문장부터 이어서 발화
+    private final Map<String, TrackScript> scripts = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TrackScript> eldest) {
+                    return size() > MAX_TRACKED_SCRIPTS;
+                }
+            });
+    private final List<ManagedChannel> channels = new CopyOnWriteArrayList<>();
+
+    private ScheduledExecutorService scheduler;
+    private Server server;
+
+    public FakeSpeechServer(SttConfig.SttProperties sttProperties) {
+        this.properties = sttProperties.getFake();
+        this.voiceThresholdDb = sttProperties.getVad().getThresholdDb();
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        // 응답 전달은 단일 스레드에서 예약 시각 순으로 처리 (같은 시각이면 예약 순서 유지)
+        scheduler = Executors.newSingleThreadScheduledExecutor(new DefaultThreadFactory("fake-stt", true));
+        // 스트림 식별 헤더를 호출 Context로 옮겨 FakeRecognition 생성 시 읽음
+        ServerInterceptor streamKey = new ServerInterceptor() {
+            @Override
+            public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                    Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+                return Contexts.interceptCall(Context.current().withValue(STREAM_KEY, headers.get(STREAM_KEY_METADATA)),
+                        call, headers, next);
+            }
+        };
+        server = InProcessServerBuilder.forName(properties.getServerName())
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(ServerServiceDefinition.builder(SERVICE_NAME)
+                        .addMethod(STREAMING_RECOGNIZE, ServerCalls.asyncBidiStreamingCall(
+                                responses -> new FakeRecognition((ServerCallStreamObserver<StreamingRecognizeResponse>) responses)))
+                        .build(), streamKey))
+                .build()
+                .start();
+        log.info("🧪 가짜 Google STT 서버 시작 - name={}, latency={}±{}ms, errorRate={}, streamLimit={}ms",
+                properties.getServerName(), properties.getLatencyMs(), properties.getJitterMs(),
+                properties.getErrorRate(), properties.getStreamLimitMs());
+    }
+
+    // SpeechClient 1개가 사용할 in-process 채널 (종료는 이 서버가 담당)
+    public ManagedChannel newChannel() {
+        ManagedChannel channel = InProcessChannelBuilder.forName(properties.getServerName())
+                .directExecutor()
+                .build();
+        channels.add(channel);
+        return channel;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.forEach(ManagedChannel::shutdownNow);
+        if (server != null) {
+            server.shutdownNow();
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // 통화/트랙 하나의 스크립트 진행 상태 (자기 자신으로 동기화)
+    private static class TrackScript {
+        private int nextLine;           // 다음 발화에 쓸 스크립트 문장 번호
+        private FakeRecognition latest; // 가장 최근에 열린 스트림
+    }
+
+    // streamingRecognize 호출 1건의 서버 측 상태 (요청 콜백은 gRPC가 호출 단위로 직렬화해 줌)
+    // - 교체 직후 새 스트림이 이전 스트림의 발화 상태를 읽으므로 발화 상태 변경/조회는 자기 자신으로 동기화
+    private class FakeRecognition implements StreamObserver<StreamingRecognizeRequest> {
+
+        private final ServerCallStreamObserver<StreamingRecognizeResponse> responses;
+        private final String id;             // 통화 id:트랙:스트림 번호
+        private final TrackScript script;    // 같은 통화/트랙의 스트림이 공유
+        private FakeRecognition previous;    // 같은 통화/트랙에서 직전에 열린 스트림 (첫 오디오 처리 후 해제)
+        private final SplittableRandom random;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private final ScheduledFuture<?> limitTask;
+        private ScheduledFuture<?> errorTask;
+
+        private boolean configured;
+        private boolean audioStarted;
+        private volatile boolean failed;  // 서버가 오류로 끝낸 스트림 (교체된 스트림이 발화를 이어받지 않음)
+        private long lastDeliveryAt;  // 응답 순서를 지키기 위한 마지막 예약 시각
+        private long utteranceMs;     // 현재 발화에서 받은 음성 길이
+        private long sinceInterimMs;  // 마지막 중간 결과 이후 받은 음성 길이
+        private long silenceMs;       // 마지막 음성 이후 받은 무음 길이
+        private String[] words;       // 현재 발화 중인 스크립트 문장
+        private int startWord;        // 이 스트림이 인식을 시작한 단어 (이전 스트림에서 이어받은 문장이면 0보다 큼)
+
+        private FakeRecognition(ServerCallStreamObserver<StreamingRecognizeResponse> responses) {
+            this.responses = responses;
+            String key = STREAM_KEY.get();
+            this.id = key != null ? key : "anonymous:" + streamIds.incrementAndGet();
+            this.script = scripts.computeIfAbsent(id.substring(0, id.lastIndexOf(':')), track -> new TrackScript());
+            synchronized (script) {
+                this.previous = script.latest;
+                script.latest = this;
+            }
+            this.random = new SplittableRandom(properties.getSeed() * 1_000_003L + id.hashCode());
+            responses.setOnCancelHandler(this::close);
+
+            if (properties.getMaxConcurrentStreams() > 0 && activeStreams.get() >= properties.getMaxConcurrentStreams()) {
+                limitTask = null;
+                fail(Status.RESOURCE_EXHAUSTED.withDescription("Too many concurrent streams."));
+                return;
+            }
+            activeStreams.incrementAndGet();
+
+            limitTask = scheduler.schedule(() -> fail(Status.OUT_OF_RANGE.withDescription(
+                            "Exceeded maximum allowed stream duration of " + properties.getStreamLimitMs() / 1000 + " seconds.")),
+                    properties.getStreamLimitMs(), TimeUnit.MILLISECONDS);
+            if (random.nextDouble() < properties.getErrorRate()) {
+                long errorAfterMs = random.nextLong(1_000, Math.max(1_001, properties.getStreamLimitMs()));
+                errorTask = scheduler.schedule(() -> fail(Status.UNAVAILABLE.withDescription("Injected fake STT failure.")),
+                        errorAfterMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public synchronized void onNext(StreamingRecognizeRequest request) {
+            if (closed.get()) {
+                return;
+            }
+            if (request.hasStreamingConfig()) {
+                configured = true;
+                return;
+            }
+            if (!configured) {
+                fail(Status.INVALID_ARGUMENT.withDescription("StreamingConfig must be sent before audio."));
+                return;
+            }
+
+            ByteString audio = request.getAudioContent();
+            if (!audioStarted) {
+                audioStarted = true;
+                continueFrom(previous, audio.size() * FRAME_MS / FRAME_BYTES);
+                previous = null;
+            }
+            byte[] frame = new byte[FRAME_BYTES];
+            for (int offset = 0; offset < audio.size(); offset += FRAME_BYTES) {
+                int length = Math.min(FRAME_BYTES, audio.size() - offset);
+                audio.copyTo(frame, offset, 0, length);
+                long frameMs = length * FRAME_MS / FRAME_BYTES;
+
+                if (AudioLevels.toDecibel(AudioLevels.rmsOfULaw(frame, 0, length)) >= voiceThresholdDb) {
+                    onVoice(frameMs);
+                } else {
+                    silenceMs += frameMs;
+                    if (utteranceMs > 0 && silenceMs >= properties.getEndpointSilenceMs()) {
+                        emitFinal();
+                    }
+                }
+            }
+        }
+
+        // 교체 직후 첫 오디오 요청은 SttContext가 겹쳐 보낸 직전 오디오(overlapMs)
+        // - 이전 스트림이 발화 중이었으면 그 문장을 겹친 길이만큼 앞 지점부터 이어서 인식
+        private void continueFrom(FakeRecognition earlier, long overlapMs) {
+            if (earlier == null || earlier.failed) {
+                return;
+            }
+            String[] earlierWords;
+            long earlierMs;
+            synchronized (earlier) {
+                earlierWords = earlier.words;
+                earlierMs = earlier.utteranceMs;
+            }
+            if (earlierWords == null) {
+                return;
+            }
+            words = earlierWords;
+            utteranceMs = Math.max(0, earlierMs - overlapMs);
+            startWord = (int) Math.min(earlierWords.length - 1,
+                    earlierWords.length * utteranceMs / properties.getFinalAfterMs());
+        }
+
+        private void onVoice(long frameMs) {
+            if (words == null) {
+                List<String> lines = properties.getScript();
+                int line;
+                synchronized (script) {
+                    line = script.nextLine++;
+                }
+                words = lines.get(Math.floorMod(line, lines.size())).split(" ");
+                startWord = 0;
+            }
+            silenceMs = 0;
+            utteranceMs += frameMs;
+            sinceInterimMs += frameMs;
+
+            if (utteranceMs >= properties.getFinalAfterMs()) {
+                emitFinal();
+            } else if (sinceInterimMs >= properties.getInterimIntervalMs()) {
+                deliver(result(String.join(" ", Arrays.copyOfRange(words, startWord, heardWords())), false));
+                sinceInterimMs = 0;
+            }
+        }
+
+        // 지금까지 받은 음성 길이만큼의 단어 수 (최소 1단어)
+        private int heardWords() {
+            long heard = (long) Math.ceil(words.length * (double) utteranceMs / properties.getFinalAfterMs());
+            return (int) Math.min(words.length, Math.max(startWord + 1, heard));
+        }
+
+        // 발화 끝(문장 길이 도달/무음) - 문장 전체를 최종 결과로
+        private void emitFinal() {
+            emitFinal(words == null ? 0 : words.length);
+        }
+
+        private void emitFinal(int endWord) {
+            if (words != null) {
+                deliver(result(String.join(" ", Arrays.copyOfRange(words, startWord, endWord)), true));
+            }
+            words = null;
+            startWord = 0;
+            utteranceMs = 0;
+            sinceInterimMs = 0;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            close();
+        }
+
+        // 클라이언트 closeSend - Google처럼 진행 중인 발화를 들은 데까지 최종 결과로 내보낸 뒤 스트림 종료
+        @Override
+        public synchronized void onCompleted() {
+            if (closed.get()) {
+                return;
+            }
+            if (words != null) {
+                emitFinal(heardWords());
+            }
+            schedule(() -> {
+                if (close()) {
+                    responses.onCompleted();
+                }
+            });
+        }
+
+        private StreamingRecognizeResponse result(String transcript, boolean isFinal) {
+            return StreamingRecognizeResponse.newBuilder()
+                    .addResults(StreamingRecognitionResult.newBuilder()
+                            .addAlternatives(SpeechRecognitionAlternative.newBuilder()
+                                    .setTranscript(transcript)
+                                    .setConfidence(isFinal ? 0.9f : 0f))
+                            .setIsFinal(isFinal)
+                            .setStability(isFinal ? 0f : 0.8f))
+                    .build();
+        }
+
+        private void deliver(StreamingRecognizeResponse response) {
+            schedule(() -> {
+                if (!closed.get()) {
+                    responses.onNext(response);
+                }
+            });
+        }
+
+        // 지연 + 지터 후 실행하되, 앞서 예약한 응답보다 먼저 나가지 않도록 예약 시각을 단조 증가시킴
+        private void schedule(Runnable task) {
+            long now = System.currentTimeMillis();
+            long jitter = properties.getJitterMs() > 0 ? random.nextLong(properties.getJitterMs() + 1) : 0;
+            long at = Math.max(now + properties.getLatencyMs() + jitter, lastDeliveryAt);
+            lastDeliveryAt = at;
+            scheduler.schedule(task, at - now, TimeUnit.MILLISECONDS);
+        }
+
+        private void fail(Status status) {
+            failed = true;
+            scheduler.execute(() -> {
+                if (close()) {
+                    log.info("🧪 가짜 STT 스트림 #{} 오류 응답: {}", id, status);
+                    responses.onError(status.asRuntimeException());
+                }
+            });
+        }
+
+        // 최초 1회만 true - 이후 예약된 응답은 모두 버림
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            if (limitTask != null) {
+                limitTask.cancel(false);
+                activeStreams.decrementAndGet();
+            }
+            if (errorTask != null) {
+                errorTask.cancel(false);
+            }
+            return true;
+        }
+    }
+}
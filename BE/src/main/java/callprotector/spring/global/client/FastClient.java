@@ -1,56 +1,232 @@
 package callprotector.spring.global.client;
 
 import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
-import lombok.RequiredArgsConstructor;
+import callprotector.spring.global.abuse.AbuseClassifier;
+import callprotector.spring.global.config.FastApiConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
+// FastAPI 욕설 분석(FILTER) 비동기 클라이언트
+// - 전용 커넥션 풀(WebClient + reactor-netty)을 사용하고, 결과는 CompletableFuture로 전달 (호출 스레드를 막지 않음)
+// - 요청 1회 응답 대기(attemptTimeoutMs)와 재시도 포함 전체 제한 시간(deadlineMs)으로 삐 처리 지연 상한을 보장
+// - 동시 요청 수(maxInFlight)를 넘거나 회로 차단기가 열려 있으면 기다리지 않고 바로 "분석 생략" 결과를 반환
+// - 결과 후속 처리(저장/클라이언트 전송)는 네트워크 스레드가 아닌 전용 콜백 스레드에서 실행
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class FastClient {
+@ConditionalOnProperty(name = "abuse.classifier.backend", havingValue = "FASTAPI", matchIfMissing = true)
+public class FastClient implements AbuseClassifier {
 
-    private final RestTemplate restTemplate;
+    private static final String NAME = "fastapi";
 
-    @Value("${fastapi.url}")
-    private String fastApiUrl;
+    private final FastApiConfig.FastApiProperties properties;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final ExecutorService callbackExecutor;
+    private final Semaphore inFlight;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
 
-    public AbuseResponseDTO.AbuseFilterDTO sendTextToFastAPI(String text) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter inFlightRejections;
+    private final Counter circuitRejections;
+    private final Counter cancellations;
 
-        Map<String, String> requestBody = Map.of("text", text);
-        HttpEntity<Map<String, String>> entity = new HttpEntity<>(requestBody, headers);
+    public FastClient(FastApiConfig.FastApiProperties properties, WebClient.Builder webClientBuilder,
+                      MeterRegistry meterRegistry) {
+        this.properties = properties;
 
+        this.connectionProvider = ConnectionProvider.builder(NAME)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(properties.getDeadlineMs()))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(properties.isHttp2()
+                        ? new HttpProtocol[] {HttpProtocol.HTTP11, HttpProtocol.H2C}
+                        : new HttpProtocol[] {HttpProtocol.HTTP11})
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(properties.getAttemptTimeoutMs()));
+        this.webClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService callbacks = Executors.newFixedThreadPool(properties.getCallbackThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "fastapi-callback-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.callbackExecutor = ExecutorServiceMetrics.monitor(meterRegistry, callbacks, "fastapi.callback");
+
+        this.inFlight = new Semaphore(properties.getMaxInFlight());
+        this.circuitBreaker = new CircuitBreaker(NAME, properties.getCircuitBreaker().getFailureThreshold(),
+                properties.getCircuitBreaker().getOpenMs());
+        this.retry = Retry.backoff(Math.max(0, properties.getRetry().getMaxAttempts() - 1),
+                        Duration.ofMillis(properties.getRetry().getBackoffMs()))
+                .maxBackoff(Duration.ofMillis(properties.getRetry().getMaxBackoffMs()))
+                .jitter(properties.getRetry().getJitter())
+                .filter(FastClient::isRetryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()); // 마지막 실패 원인을 그대로 전달
+
+        this.successTimer = meterRegistry.timer("fastapi.classify.latency", "outcome", "success");
+        this.failureTimer = meterRegistry.timer("fastapi.classify.latency", "outcome", "failure");
+        this.inFlightRejections = meterRegistry.counter("fastapi.classify.rejected", "reason", "in_flight");
+        this.circuitRejections = meterRegistry.counter("fastapi.classify.rejected", "reason", "circuit_open");
+        this.cancellations = meterRegistry.counter("fastapi.classify.cancelled");
+        Gauge.builder("fastapi.classify.in_flight", inFlight,
+                        permits -> properties.getMaxInFlight() - permits.availablePermits())
+                .description("진행 중인 FastAPI 욕설 분석 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("fastapi.circuit.open", circuitBreaker,
+                        breaker -> breaker.state() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("FastAPI 회로 차단기 상태 (0: 정상, 1: 차단/복구 확인 중)")
+                .register(meterRegistry);
+    }
+
+    // 비동기 욕설 분석 - 실패/생략 시에도 예외 없이 "분석 실패" 결과로 완료됨
+    // - 반환된 Future를 cancel하면 진행 중인 HTTP 요청도 취소됨 (중간 발화 추측 분석 등)
+    @Override
+    public CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> classify(String text) {
+        return post(properties.getUrl(), Map.of("text", text), AbuseResponseDTO.AbuseFilterDTO.class,
+                result -> {
+                    if (result == null) {
+                        log.warn("⚠️ FastAPI 응답이 null입니다.");
+                        return AbuseClassifier.failed("분석 실패(null)");
+                    }
+                    log.info("🚨 욕설 분석 결과: abuse={}, detected={}, type={}",
+                            result.isAbuse(), result.isDetected(), result.getType());
+                    return result;
+                },
+                AbuseClassifier::failed);
+    }
+
+    // 여러 문장을 배치 엔드포인트로 한 번에 분석 - 결과는 texts와 같은 순서, 실패 시 모두 "분석 실패"
+    @Override
+    public CompletableFuture<List<AbuseResponseDTO.AbuseFilterDTO>> classifyBatch(List<String> texts) {
+        return post(batchUrl(), Map.of("texts", texts), AbuseResponseDTO.AbuseFilterBatchDTO.class,
+                response -> {
+                    if (response == null || response.getResults() == null || response.getResults().size() != texts.size()) {
+                        log.warn("⚠️ FastAPI 배치 응답 개수 불일치 - 요청 {}건", texts.size());
+                        return Collections.nCopies(texts.size(), AbuseClassifier.failed("분석 실패(배치 응답)"));
+                    }
+                    return response.getResults();
+                },
+                reason -> Collections.nCopies(texts.size(), AbuseClassifier.failed(reason)));
+    }
+
+    private String batchUrl() {
+        String batchUrl = properties.getBatch().getUrl();
+        return batchUrl == null || batchUrl.isBlank() ? properties.getUrl() + "/batch" : batchUrl;
+    }
+
+    // 동시 요청 상한, 회로 차단기, 재시도, 전체 제한 시간을 적용한 POST
+    // - 응답은 onSuccess로, 생략/실패는 fallback(사유)으로 변환해 콜백 스레드에서 완료
+    // - 자원 정리(동시 요청 수 반환, 회로 차단기 기록)는 HTTP 응답 Future에 붙여 호출 측이 취소해도 항상 실행
+    private <T, R> CompletableFuture<R> post(String uri, Object body, Class<T> responseType,
+                                             Function<T, R> onSuccess, Function<String, R> fallback) {
+        if (!inFlight.tryAcquire()) {
+            inFlightRejections.increment();
+            log.warn("⚠️ FastAPI 동시 요청 상한({}) 초과 - 욕설 분석 생략", properties.getMaxInFlight());
+            return CompletableFuture.completedFuture(fallback.apply("분석 생략(과부하)"));
+        }
+        if (!circuitBreaker.allowRequest(System.currentTimeMillis())) {
+            inFlight.release();
+            circuitRejections.increment();
+            log.debug("FastAPI 회로 차단 중 - 욕설 분석 생략");
+            return CompletableFuture.completedFuture(fallback.apply("분석 생략(차단)"));
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> response;
         try {
-            ResponseEntity<AbuseResponseDTO.AbuseFilterDTO> response = restTemplate.postForEntity(
-                    fastApiUrl,
-                    entity,
-                    AbuseResponseDTO.AbuseFilterDTO.class
-            );
-
-            AbuseResponseDTO.AbuseFilterDTO result = response.getBody();
-            if (result == null) {
-                log.warn("⚠️ FastAPI 응답이 null입니다.");
-                return new AbuseResponseDTO.AbuseFilterDTO(false, false, "분석 실패(null)");
+            response = webClient.post()
+                    .uri(uri)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToMono(responseType)
+                    .retryWhen(retry)
+                    .timeout(Duration.ofMillis(properties.getDeadlineMs()))
+                    .toFuture();
+        } catch (RuntimeException e) {
+            // 요청을 만들다 실패하면 record가 불리지 않으므로 여기서 동시 요청 수/회로 차단기 확인 상태를 돌려놓음
+            inFlight.release();
+            circuitBreaker.onIgnored();
+            log.error("❌ FastAPI 요청 생성 실패 - 욕설 분석 생략: {}", e.toString());
+            return CompletableFuture.completedFuture(fallback.apply("분석 실패"));
+        }
+        response.whenComplete((result, error) -> record(error, startedAt));
+
+        CompletableFuture<R> completion = response.handleAsync(
+                (result, error) -> error == null ? onSuccess.apply(result) : fallback.apply("분석 실패"), callbackExecutor);
+        completion.whenComplete((result, error) -> {
+            if (completion.isCancelled()) {
+                response.cancel(true);
             }
+        });
+        return completion;
+    }
 
-            log.info("🚨 욕설 분석 결과: abuse={}, detected={}, type={}",
-                    result.isAbuse(), result.isDetected(), result.getType());
+    private void record(Throwable error, long startedAt) {
+        inFlight.release();
+        long elapsedNs = System.nanoTime() - startedAt;
 
-            return result;
+        if (error == null) {
+            circuitBreaker.onSuccess();
+            successTimer.record(elapsedNs, TimeUnit.NANOSECONDS);
+        } else if (error instanceof CancellationException) {
+            circuitBreaker.onIgnored(); // 호출 측 취소는 서버 상태와 무관
+            cancellations.increment();
+        } else {
+            circuitBreaker.onFailure(System.currentTimeMillis());
+            failureTimer.record(elapsedNs, TimeUnit.NANOSECONDS);
+            log.error("🔥 FastAPI 호출 실패 ({}ms): {}", TimeUnit.NANOSECONDS.toMillis(elapsedNs), error.toString());
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("🔥 FastAPI 호출 실패: {}", e.getMessage(), e);
-            return new AbuseResponseDTO.AbuseFilterDTO(false, false, "분석 실패");
+    // 연결 실패/응답 지연/5xx만 재시도 (4xx는 다시 보내도 같은 결과)
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError();
         }
+        return error instanceof WebClientRequestException;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+        callbackExecutor.shutdown();
     }
 }
@@ -0,0 +1,242 @@
+package callprotector.spring.global.client;
+
+import callprotector.spring.global.common.enums.CallTrack;
+import callprotector.spring.global.config.SttConfig;
+import com.google.api.gax.core.FixedCredentialsProvider;
+import com.google.api.gax.core.FixedExecutorProvider;
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.grpc.GrpcCallContext;
+import com.google.api.gax.grpc.GrpcTransportChannel;
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.FixedTransportChannelProvider;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.speech.v1.SpeechClient;
+import com.google.cloud.speech.v1.SpeechSettings;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.grpc.ManagedChannelBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 모든 통화가 공유하는 Google STT 클라이언트 풀
+// - 채널(SpeechClient) N개를 한 번만 만들고, 스트리밍 호출은 활성 스트림이 가장 적은 채널에 배정
+// - 인증 정보와 백그라운드 실행기도 풀 전체가 공유하므로 통화/스트림 교체마다 채널을 새로 만들지 않음
+// - 인증 정보가 없는 환경에서도 애플리케이션이 뜰 수 있도록 첫 사용 시점에 생성 (warm-up 설정 시 기동 직후 생성)
+// - 연결 대상: 가짜 서버(stt.fake.enabled) > 지정 엔드포인트(stt.client.endpoint) > Google 기본 엔드포인트
+@Slf4j
+@Component
+public class SpeechClientProvider {
+
+    private final SttConfig.Client properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<FakeSpeechServer> fakeSpeechServer;
+
+    private final Object initLock = new Object();
+    private volatile List<Channel> channels;
+    private volatile boolean fake; // 가짜 서버에 연결한 풀인지 (createChannels에서 결정)
+    private ScheduledExecutorService backgroundExecutor;
+
+    private final AtomicLong streamsOpened = new AtomicLong();
+
+    public SpeechClientProvider(SttConfig.SttProperties sttProperties, MeterRegistry meterRegistry,
+                                ObjectProvider<FakeSpeechServer> fakeSpeechServer) {
+        this.properties = sttProperties.getClient();
+        this.meterRegistry = meterRegistry;
+        this.fakeSpeechServer = fakeSpeechServer;
+
+        Gauge.builder("stt.client.streams.active", this, SpeechClientProvider::activeStreams)
+                .description("현재 열려 있는 Google STT 스트리밍 호출 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("stt.client.streams.opened", streamsOpened, AtomicLong::get)
+                .description("풀에서 배정한 Google STT 스트리밍 호출 누적 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isWarmUp()) {
+            return;
+        }
+        try {
+            channels();
+        } catch (IOException e) {
+            log.warn("⚠️ Google STT 채널 미리 생성 실패 - 첫 통화에서 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    // 활성 스트림이 가장 적은 채널을 골라 스트림 1개를 배정 (스트림 종료 시 반드시 Lease.release 호출)
+    public Lease acquire() throws IOException {
+        Channel selected = null;
+        for (Channel channel : channels()) {
+            if (selected == null || channel.activeStreams.get() < selected.activeStreams.get()) {
+                selected = channel;
+            }
+        }
+        selected.activeStreams.incrementAndGet();
+        streamsOpened.incrementAndGet();
+
+        if (selected.activeStreams.get() > properties.getMaxStreamsPerChannel()) {
+            log.warn("⚠️ Google STT 채널 #{} 동시 스트림 {}개 - 채널 수(stt.client.channels) 확장 필요",
+                    selected.index, selected.activeStreams.get());
+        }
+        return new Lease(selected);
+    }
+
+    // streamingRecognize 호출에 붙일 호출 설정 (기본 설정이면 null)
+    // - 가짜 서버 연결 시 스트림 식별값을 헤더로 넘겨, 스크립트/난수가 스트림이 열린 순서와 무관하게 정해지게 함
+    public ApiCallContext streamContext(Long callSessionId, CallTrack track, int generation) {
+        if (!fake) {
+            return null;
+        }
+        return GrpcCallContext.createDefault().withExtraHeaders(Map.of(FakeSpeechServer.STREAM_KEY_HEADER,
+                List.of(callSessionId + ":" + track + ":" + generation)));
+    }
+
+    private List<Channel> channels() throws IOException {
+        List<Channel> current = channels;
+        if (current != null) {
+            return current;
+        }
+        synchronized (initLock) {
+            if (channels == null) {
+                channels = createChannels();
+            }
+            return channels;
+        }
+    }
+
+    private List<Channel> createChannels() throws IOException {
+        long startedAt = System.currentTimeMillis();
+
+        FakeSpeechServer fake = fakeSpeechServer.getIfAvailable();
+        this.fake = fake != null;
+        SpeechSettings.Builder shared = fake == null ? settingsBuilder() : null;
+        backgroundExecutor = Executors.newScheduledThreadPool(
+                properties.getExecutorThreads(), new DefaultThreadFactory("stt-client", true));
+
+        List<Channel> created = new ArrayList<>(properties.getChannels());
+        for (int i = 0; i < properties.getChannels(); i++) {
+            // 가짜 서버는 채널을 직접 만들어 넘기므로 SpeechClient마다 별도 설정 필요
+            SpeechSettings.Builder builder = fake == null ? shared : SpeechSettings.newBuilder()
+                    .setCredentialsProvider(NoCredentialsProvider.create())
+                    .setTransportChannelProvider(FixedTransportChannelProvider.create(
+                            GrpcTransportChannel.create(fake.newChannel())));
+            SpeechSettings settings = builder
+                    .setBackgroundExecutorProvider(FixedExecutorProvider.create(backgroundExecutor))
+                    .build();
+            Channel channel = new Channel(i, SpeechClient.create(settings));
+            created.add(channel);
+
+            String tag = String.valueOf(i);
+            Gauge.builder("stt.client.channel.streams", channel.activeStreams, AtomicInteger::get)
+                    .description("채널별 활성 스트리밍 호출 수")
+                    .tag("channel", tag)
+                    .register(meterRegistry);
+            Gauge.builder("stt.client.channel.utilization", channel.activeStreams,
+                            active -> (double) active.get() / properties.getMaxStreamsPerChannel())
+                    .description("채널별 활성 스트림 / 채널당 최대 동시 스트림")
+                    .tag("channel", tag)
+                    .register(meterRegistry);
+        }
+
+        log.info("✅ Google STT 채널 풀 생성 - channels={}, target={}, elapsed={}ms", created.size(),
+                fake != null ? "fake" : properties.getEndpoint().isBlank() ? "google" : properties.getEndpoint(),
+                System.currentTimeMillis() - startedAt);
+        return List.copyOf(created);
+    }
+
+    // Google 기본 엔드포인트 또는 stt.client.endpoint 로 연결하는 설정
+    private SpeechSettings.Builder settingsBuilder() throws IOException {
+        String endpoint = properties.getEndpoint();
+        SpeechSettings.Builder builder = SpeechSettings.newBuilder();
+
+        if (!endpoint.isBlank() && properties.isPlaintext()) {
+            return builder
+                    .setCredentialsProvider(NoCredentialsProvider.create())
+                    .setTransportChannelProvider(SpeechSettings.defaultGrpcTransportProviderBuilder()
+                            .setEndpoint(endpoint)
+                            .setChannelConfigurator(ManagedChannelBuilder::usePlaintext)
+                            .build());
+        }
+        if (!endpoint.isBlank()) {
+            builder.setEndpoint(endpoint);
+        }
+        GoogleCredentials credentials = GoogleCredentials.getApplicationDefault()
+                .createScoped(SpeechSettings.getDefaultServiceScopes());
+        return builder.setCredentialsProvider(FixedCredentialsProvider.create(credentials));
+    }
+
+    private double activeStreams() {
+        List<Channel> current = channels;
+        if (current == null) {
+            return 0;
+        }
+        return current.stream().mapToInt(channel -> channel.activeStreams.get()).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        List<Channel> current = channels;
+        if (current == null) {
+            return;
+        }
+        for (Channel channel : current) {
+            channel.client.shutdown();
+        }
+        for (Channel channel : current) {
+            if (!channel.client.awaitTermination(5, TimeUnit.SECONDS)) {
+                channel.client.shutdownNow(); // 강제 종료
+            }
+        }
+        backgroundExecutor.shutdownNow();
+        log.info("✅ Google STT 채널 풀 종료 완료");
+    }
+
+    private static class Channel {
+        private final int index;
+        private final SpeechClient client;
+        private final AtomicInteger activeStreams = new AtomicInteger();
+
+        private Channel(int index, SpeechClient client) {
+            this.index = index;
+            this.client = client;
+        }
+    }
+
+    // 스트림 1개가 사용하는 채널 배정 - 클라이언트는 공유 자원이므로 닫지 말고 release만 호출
+    public static class Lease {
+        private final Channel channel;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Lease(Channel channel) {
+            this.channel = channel;
+        }
+
+        public SpeechClient client() {
+            return channel.client;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                channel.activeStreams.decrementAndGet();
+            }
+        }
+    }
+}
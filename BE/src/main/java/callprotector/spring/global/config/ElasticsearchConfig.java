@@ -49,6 +49,21 @@ public class ElasticsearchConfig {
         private String host;
         private int port;
         private boolean enabled;
+        private Bulk bulk = new Bulk();
+    }
+
+    // CallSttLog 색인용 BulkIngester 설정 (CallSttLogBulkIndexer)
+    @Getter
+    @Setter
+    public static class Bulk {
+        private int maxOperations = 500;            // 요청 1건에 담는 최대 문서 수
+        private long maxSizeBytes = 5 * 1024 * 1024; // 요청 1건의 최대 크기
+        private long flushIntervalMs = 1000;        // 문서가 적어도 이 주기마다 전송
+        private int maxConcurrentRequests = 2;      // 동시에 진행하는 bulk 요청 수
+        private int maxPending = 10_000;            // 전송 전/전송 중 문서 상한 (초과 시 offerTimeoutMs 대기 후 버림)
+        private long offerTimeoutMs = 50;           // 상한 도달 시 호출 스레드가 기다리는 최대 시간
+        private int maxRetries = 3;                 // 429/5xx 실패 문서 재시도 횟수
+        private long retryBackoffMs = 500;          // 재시도 간격 (시도마다 2배)
     }
 }
 
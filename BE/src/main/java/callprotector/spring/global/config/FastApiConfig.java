@@ -0,0 +1,60 @@
+package callprotector.spring.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@EnableConfigurationProperties(FastApiConfig.FastApiProperties.class)
+public class FastApiConfig {
+
+    // FastAPI 욕설 분석(FILTER) 서버 호출 설정 (FastClient)
+    @Getter
+    @Setter
+    @ConfigurationProperties(prefix = "fastapi")
+    public static class FastApiProperties {
+        private String url;
+        private boolean http2 = false;          // true면 h2c 업그레이드 시도 (FILTER 서버가 HTTP/2를 지원할 때만)
+        private int maxConnections = 32;        // 커넥션 풀 크기
+        private int maxInFlight = 64;           // 동시 분석 요청 상한 (초과 시 대기 없이 분석 생략)
+        private long connectTimeoutMs = 500;
+        private long attemptTimeoutMs = 800;    // 요청 1회 응답 대기 시간
+        private long deadlineMs = 2000;         // 재시도를 포함한 전체 제한 시간 (삐 처리 지연 상한)
+        private int callbackThreads = 4;        // 분석 결과 후속 처리(저장/전송) 스레드 수
+        private Retry retry = new Retry();
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+        private Batch batch = new Batch();
+    }
+
+    // 연결 실패/5xx/응답 지연 시 재시도 (지수 백오프 + 지터)
+    @Getter
+    @Setter
+    public static class Retry {
+        private int maxAttempts = 2;        // 첫 요청 포함 최대 시도 횟수
+        private long backoffMs = 50;
+        private long maxBackoffMs = 300;
+        private double jitter = 0.5;        // 백오프 시간의 ±비율
+    }
+
+    // 연속 실패 시 일정 시간 호출을 멈추는 회로 차단기
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private int failureThreshold = 5;   // 연속 실패 횟수
+        private long openMs = 5000;         // 차단 유지 시간 (이후 요청 1건으로 복구 확인)
+    }
+
+    // 여러 통화의 최종 발화를 모아 배치 엔드포인트로 보내는 설정 (AbuseClassificationBatcher)
+    @Getter
+    @Setter
+    public static class Batch {
+        private boolean enabled = true;
+        private String url = "";            // 비어 있으면 fastapi.url + "/batch"
+        private int maxSize = 16;           // 배치 1건의 최대 문장 수
+        private long maxDelayMs = 5;        // 첫 문장이 들어온 뒤 배치를 보내기까지 최대 대기 시간
+        private int queueCapacity = 1000;   // 대기 문장 상한 (초과 시 배치 없이 단건 요청)
+    }
+}
@@ -0,0 +1,128 @@
+package callprotector.spring.global.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import callprotector.spring.global.common.enums.CallTrack;
+import callprotector.spring.global.handler.FixedIntervalLifecyclePolicy;
+import callprotector.spring.global.handler.SilenceBoundaryLifecyclePolicy;
+import callprotector.spring.global.handler.StreamLifecyclePolicy;
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@EnableConfigurationProperties(SttConfig.SttProperties.class)
+public class SttConfig {
+
+    // 모든 SttContext(양쪽 트랙)가 공유하는 스트림 교체 정책
+    @Bean
+    public StreamLifecyclePolicy streamLifecyclePolicy(SttProperties sttProperties) {
+        Rotation rotation = sttProperties.getRotation();
+        return switch (rotation.getPolicy()) {
+            case FIXED_INTERVAL -> new FixedIntervalLifecyclePolicy(rotation.getIntervalMs());
+            case SILENCE_BOUNDARY -> new SilenceBoundaryLifecyclePolicy(
+                    rotation.getMinStreamAgeMs(), rotation.getMaxStreamAgeMs(), rotation.getSilenceMs());
+        };
+    }
+
+    @Getter
+    @Setter
+    @ConfigurationProperties(prefix = "stt")
+    public static class SttProperties {
+        private int callbackThreads = 4;    // 최종 결과 후속 처리(저장/삐 처리/전송)와 통화 종료 정리 스레드 수 (SttCallbackExecutor)
+        private Chunk chunk = new Chunk();
+        private Rotation rotation = new Rotation();
+        private Client client = new Client();
+        private Vad vad = new Vad();
+        private Fake fake = new Fake();
+        private Speculative speculative = new Speculative();
+    }
+
+    // Google STT로 보내는 오디오 청크 설정
+    @Getter
+    @Setter
+    public static class Chunk {
+        private long inboundMs = 200;   // INBOUND(고객) 청크 길이
+        private long outboundMs = 200;  // OUTBOUND(상담원) 청크 길이
+        private long flushTickMs = 20;  // 프레임 유입과 무관하게 청크 전송 시점을 확인하는 주기
+
+        public long intervalMs(CallTrack track) {
+            return track == CallTrack.INBOUND ? inboundMs : outboundMs;
+        }
+    }
+
+    // STT 스트림 교체(make-before-break) 설정
+    @Getter
+    @Setter
+    public static class Rotation {
+        private Policy policy = Policy.SILENCE_BOUNDARY;
+        private long minStreamAgeMs = 30_000;   // 이 시간이 지나야 발화 경계 교체 대상이 됨
+        private long maxStreamAgeMs = 240_000;  // 발화 중이어도 이 시간이 지나면 교체 (Google 스트리밍 제한 약 5분)
+        private long silenceMs = 600;           // 마지막 결과 이후 이만큼 조용하면 발화 경계로 판단
+        private long intervalMs = 10_000;       // FIXED_INTERVAL 정책의 교체 주기
+        private long overlapMs = 500;           // 새 스트림에 겹쳐 보내는 직전 오디오 길이
+        private long seamWindowMs = 5000;       // 교체 후 경계 중복 텍스트를 확인하는 시간
+
+        public enum Policy {
+            SILENCE_BOUNDARY,   // 발화 경계 + 최대 수명
+            FIXED_INTERVAL      // 고정 주기
+        }
+    }
+
+    // 모든 통화가 공유하는 Google STT 채널 풀 설정
+    @Getter
+    @Setter
+    public static class Client {
+        private int channels = 4;                   // 풀에 유지하는 gRPC 채널(SpeechClient) 수
+        private int maxStreamsPerChannel = 100;     // 채널당 동시 스트림 상한 (HTTP/2 동시 스트림 기준, 사용률 계산용)
+        private int executorThreads = 4;            // 풀 전체가 공유하는 gax 백그라운드 실행기 스레드 수
+        private boolean warmUp = false;             // 기동 직후 채널을 미리 생성할지 여부
+        private String endpoint = "";               // 비어 있으면 Google 기본 엔드포인트, 아니면 host:port (에뮬레이터 등)
+        private boolean plaintext = false;          // endpoint 연결 시 TLS/인증 없이 접속
+    }
+
+    // STT 전송 전 음성 구간 판별(VAD) 설정
+    @Getter
+    @Setter
+    public static class Vad {
+        private boolean enabled = true;
+        private double thresholdDb = 15.0;  // 이 세기(ShoutingDetector와 같은 dB 기준) 이상이면 음성으로 판단
+        private long hangoverMs = 400;      // 마지막 음성 이후 게이트를 열어 두는 시간 (말끝 보존)
+        private long preRollMs = 200;       // 게이트가 열릴 때 앞에 붙이는 직전 오디오 길이 (첫 음절 보존)
+        private long keepaliveMs = 2000;    // 무음 구간에서 스트림 유지용 무음 프레임을 보내는 주기
+    }
+
+    // INBOUND 중간 결과 추측 욕설 분석 설정 (삐 처리만 앞당기고 저장/카운트는 최종 결과 기준)
+    @Getter
+    @Setter
+    public static class Speculative {
+        private boolean enabled = true;
+        private long debounceMs = 300;      // 안정 구간이 바뀐 뒤 이 시간 동안 새 중간 결과가 없으면 분석 요청
+        private int minStableChars = 4;     // 이보다 짧은 안정 구간은 분석하지 않음
+    }
+
+    // 프로세스 내 가짜 Google STT 서버 설정 (FakeSpeechServer, 오프라인 테스트/벤치마크용)
+    @Getter
+    @Setter
+    public static class Fake {
+        private boolean enabled = false;
+        private String serverName = "fake-speech";   // in-process 채널 이름
+        private long latencyMs = 150;                // 응답 기본 지연
+        private long jitterMs = 100;                 // 응답마다 0~jitterMs 추가 지연
+        private long interimIntervalMs = 300;        // 음성 길이 기준 중간 결과 간격
+        private long finalAfterMs = 1500;            // 한 문장을 최종 결과로 확정하는 음성 길이
+        private long endpointSilenceMs = 500;        // 발화 중 이만큼 무음이면 문장을 앞당겨 최종 확정
+        private double errorRate = 0.0;              // 스트림마다 UNAVAILABLE 오류를 낼 확률
+        private long streamLimitMs = 305_000;        // 스트림 최대 길이 (초과 시 OUT_OF_RANGE)
+        private int maxConcurrentStreams = 0;        // 동시 스트림 상한 (초과 시 RESOURCE_EXHAUSTED, 0이면 무제한)
+        private long seed = 42;
+        private List<String> script = List.of(
+                "안녕하세요 고객센터입니다 무엇을 도와드릴까요",
+                "주문한 상품이 아직 도착하지 않았어요",
+                "확인해 보고 바로 다시 연락드리겠습니다");
+    }
+}
@@ -63,7 +63,8 @@ public class WebSecurityConfig
                                             "/chatsessionstream.html", // [상담별 Chat 관련] 임시 프론트 테스트용 HTML 직접 접근 허용
                                             "/api/chatbot/analyze/**",
                                             "/callchatstream.html", // [상담별 Chat 후속 관련] 임시 프론트 테스트용 HTML 직접 접근 허용
-                                            "/api/call-chat/stream"
+                                            "/api/call-chat/stream",
+                                            "/actuator/health" // 모니터링용 (metrics 등 나머지 actuator는 인증 필요)
                                     )
                                     .permitAll()
                                     .anyRequest().authenticated()
@@ -0,0 +1,227 @@
+package callprotector.spring.global.elasticsearch;
+
+import callprotector.spring.domain.callsttlog.entity.CallSttLog;
+import callprotector.spring.global.config.ElasticsearchConfig;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// CallSttLog Elasticsearch 색인 - 문서마다 스레드/단건 요청/refresh 대기를 하지 않고 BulkIngester로 모아서 전송
+// - maxOperations건, maxSizeBytes, flushIntervalMs 중 먼저 도달하는 기준으로 bulk 요청 1건 전송 (동시 요청 maxConcurrentRequests개)
+// - 색인 반영은 인덱스 refresh 주기를 따름 (문서별 refresh 없음)
+// - 전송 전/전송 중 문서는 maxPending건까지만 받고, 가득 차면 호출 스레드가 offerTimeoutMs만 기다린 뒤 버림 (원본은 MongoDB에 있음)
+// - 429/5xx로 실패한 문서와 요청 자체가 실패한 문서는 retryBackoffMs(시도마다 2배) 후 maxRetries회까지 다시 넣음
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+@Slf4j
+@Component
+public class CallSttLogBulkIndexer {
+
+    private static final String INDEX_NAME = "call_stt_log";
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final ElasticsearchConfig.Bulk settings;
+    private final Semaphore pending;
+    private final ScheduledExecutorService retryScheduler;
+    private final BulkIngester<Attempt> ingester;
+    private final Map<Long, Long> startedAt = new ConcurrentHashMap<>(); // bulk executionId → 전송 시작 시각
+
+    private final Timer requestLatency;
+    private final DistributionSummary requestSizes;
+    private final Counter indexed;
+    private final Counter failed;
+    private final Counter retried;
+    private final Counter dropped;
+
+    public CallSttLogBulkIndexer(ElasticsearchClient esClient,
+                                 ElasticsearchConfig.ElasticsearchProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.settings = properties.getBulk();
+        this.pending = new Semaphore(Math.max(1, settings.getMaxPending()));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "es-bulk-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ingester = BulkIngester.of(b -> b
+                .client(esClient)
+                .maxOperations(settings.getMaxOperations())
+                .maxSize(settings.getMaxSizeBytes())
+                .maxConcurrentRequests(settings.getMaxConcurrentRequests())
+                .flushInterval(settings.getFlushIntervalMs(), TimeUnit.MILLISECONDS)
+                .listener(new Listener())
+        );
+
+        this.requestLatency = meterRegistry.timer("es.bulk.request.latency");
+        this.requestSizes = DistributionSummary.builder("es.bulk.request.size")
+                .description("bulk 요청 1건에 담긴 CallSttLog 수")
+                .register(meterRegistry);
+        this.indexed = meterRegistry.counter("es.bulk.indexed");
+        this.failed = meterRegistry.counter("es.bulk.failed");
+        this.retried = meterRegistry.counter("es.bulk.retried");
+        this.dropped = meterRegistry.counter("es.bulk.dropped");
+        Gauge.builder("es.bulk.pending", pending, p -> settings.getMaxPending() - p.availablePermits())
+                .description("색인이 끝나지 않은 CallSttLog 수 (버퍼 + 전송 중 + 재시도 대기)")
+                .register(meterRegistry);
+        Gauge.builder("es.bulk.in_flight", ingester, BulkIngester::pendingRequests)
+                .description("진행 중인 bulk 요청 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("es.bulk.contentions", ingester, BulkIngester::requestContentionsCount)
+                .description("동시 요청 상한 때문에 전송을 기다린 횟수")
+                .register(meterRegistry);
+
+        log.info("✅ CallSttLog bulk 색인 시작 - maxOperations={}, maxSizeBytes={}, flushIntervalMs={}, maxConcurrentRequests={}",
+                settings.getMaxOperations(), settings.getMaxSizeBytes(), settings.getFlushIntervalMs(),
+                settings.getMaxConcurrentRequests());
+    }
+
+    // 호출 스레드는 버퍼에 넣기만 함 (상한 도달 시 최대 offerTimeoutMs 대기)
+    public void index(CallSttLog sttLog) {
+        try {
+            if (!pending.tryAcquire(settings.getOfferTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                dropped.increment();
+                log.warn("⚠️ Elasticsearch 색인 대기 문서 초과({}건) - 색인 생략: id={}", settings.getMaxPending(), sttLog.getId());
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+            return;
+        }
+        add(new Attempt(sttLog, 0));
+    }
+
+    private void add(Attempt attempt) {
+        try {
+            ingester.add(op -> op.index(i -> i
+                    .index(INDEX_NAME)
+                    .id(attempt.sttLog().getId())
+                    .document(attempt.sttLog())
+            ), attempt);
+        } catch (RuntimeException e) {
+            // 종료 후 들어온 재시도 등
+            failed.increment();
+            pending.release();
+            log.error("❌ Elasticsearch 색인 요청 추가 실패 - id: {}: {}", attempt.sttLog().getId(), e.toString());
+        }
+    }
+
+    // 재시도 예약 시 true, 재시도 횟수를 다 썼거나 종료 중이면 실패 처리 후 false
+    private boolean retry(Attempt attempt) {
+        if (attempt.count() < settings.getMaxRetries()) {
+            long delayMs = settings.getRetryBackoffMs() << attempt.count();
+            try {
+                retryScheduler.schedule(() -> add(attempt.next()), delayMs, TimeUnit.MILLISECONDS);
+                retried.increment();
+                return true;
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+            }
+        }
+        failed.increment();
+        pending.release();
+        return false;
+    }
+
+    private class Listener implements BulkListener<Attempt> {
+
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request, List<Attempt> contexts) {
+            startedAt.put(executionId, System.nanoTime());
+            requestSizes.record(contexts.size());
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<Attempt> contexts, BulkResponse response) {
+            recordLatency(executionId);
+            List<BulkResponseItem> items = response.items();
+            int succeeded = 0;
+            int retrying = 0;
+            int gaveUp = 0;
+            String lastReason = null;
+            for (int i = 0; i < contexts.size(); i++) {
+                Attempt attempt = contexts.get(i);
+                BulkResponseItem item = i < items.size() ? items.get(i) : null;
+                if (item != null && item.error() == null) {
+                    succeeded++;
+                    pending.release();
+                    continue;
+                }
+
+                lastReason = item == null ? "응답 누락" : item.status() + " " + item.error().type() + ": " + item.error().reason();
+                boolean retryable = item == null || item.status() == TOO_MANY_REQUESTS || item.status() >= 500;
+                if (retryable && retry(attempt)) {
+                    retrying++;
+                } else {
+                    if (!retryable) {
+                        failed.increment();
+                        pending.release();
+                    }
+                    gaveUp++;
+                    log.error("❌ Elasticsearch 인덱싱 실패 - id: {}, 원인: {}", attempt.sttLog().getId(), lastReason);
+                }
+            }
+            indexed.increment(succeeded);
+            if (retrying > 0) {
+                log.warn("⚠️ Elasticsearch bulk 일부 실패 - 성공 {}건, 재시도 {}건, 실패 {}건 (예: {})", succeeded, retrying, gaveUp,
+                        lastReason);
+            }
+            log.debug("Elasticsearch - CallSttLog bulk 색인 완료: {}/{}건", succeeded, contexts.size());
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<Attempt> contexts, Throwable failure) {
+            recordLatency(executionId);
+            int gaveUp = 0;
+            for (Attempt attempt : contexts) {
+                if (!retry(attempt)) {
+                    gaveUp++;
+                }
+            }
+            log.error("🔥 Elasticsearch bulk 요청 실패 ({}건, 재시도 {}건 / 포기 {}건): {}", contexts.size(), contexts.size() - gaveUp,
+                    gaveUp, failure.toString());
+        }
+
+        private void recordLatency(long executionId) {
+            Long started = startedAt.remove(executionId);
+            if (started != null) {
+                requestLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    // 버퍼에 남은 문서를 전송하고 진행 중인 요청을 기다림 (이후 재시도는 생략, 원본은 MongoDB에 있음)
+    @PreDestroy
+    public void shutdown() {
+        ingester.close();
+        retryScheduler.shutdownNow();
+    }
+
+    private record Attempt(CallSttLog sttLog, int count) {
+
+        Attempt next() {
+            return new Attempt(sttLog, count + 1);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package callprotector.spring.global.handler;
+
+import java.util.Arrays;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+// Google STT로 보낼 오디오 청크를 모으는 버퍼 (SttContext당 1개)
+// - 프레임은 내부 배열에 바로 이어 붙이고, 전송 시 detach()로 배열 소유권을 ByteString에 넘김 (복사 없음)
+// - 넘긴 배열은 gRPC가 직렬화를 마칠 때까지 참조할 수 있으므로 다시 쓰지 않고 새 배열로 교체함
+public class AudioChunkBuffer {
+
+	private final int chunkCapacity;
+	private byte[] data;
+	private int length;
+
+	public AudioChunkBuffer(int chunkCapacity) {
+		this.chunkCapacity = chunkCapacity;
+		this.data = new byte[chunkCapacity];
+	}
+
+	public void write(byte[] src, int offset, int len) {
+		if (length + len > data.length) {
+			data = Arrays.copyOf(data, Math.max(length + len, data.length * 2));
+		}
+		System.arraycopy(src, offset, data, length, len);
+		length += len;
+	}
+
+	// 지금까지 모인 오디오를 ByteString으로 넘기고, 이후 쓰기는 새 배열에서 시작
+	public ByteString detach() {
+		ByteString chunk = UnsafeByteOperations.unsafeWrap(data, 0, length);
+		data = new byte[chunkCapacity];
+		length = 0;
+		return chunk;
+	}
+
+	// 아직 넘기지 않은 오디오는 소유권이 그대로이므로 배열을 재사용
+	public void reset() {
+		length = 0;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public int size() {
+		return length;
+	}
+}
@@ -0,0 +1,47 @@
+package callprotector.spring.global.handler;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+// Twilio media 프레임의 base64 payload를 디코딩해 담는 재사용 버퍼 (연결당 1개)
+// - 내용은 다음 프레임을 디코딩하기 전까지만 유효하므로, 보관이 필요하면 호출 측에서 복사해야 함
+public class AudioFrameBuffer extends OutputStream {
+
+	private byte[] data;
+	private int length;
+
+	public AudioFrameBuffer(int initialCapacity) {
+		this.data = new byte[initialCapacity];
+	}
+
+	@Override
+	public void write(int b) {
+		ensureCapacity(length + 1);
+		data[length++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] src, int offset, int len) {
+		ensureCapacity(length + len);
+		System.arraycopy(src, offset, data, length, len);
+		length += len;
+	}
+
+	public void reset() {
+		length = 0;
+	}
+
+	public byte[] getData() {
+		return data;
+	}
+
+	public int getLength() {
+		return length;
+	}
+
+	private void ensureCapacity(int required) {
+		if (required > data.length) {
+			data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+		}
+	}
+}
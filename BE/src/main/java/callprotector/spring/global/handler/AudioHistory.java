@@ -0,0 +1,53 @@
+package callprotector.spring.global.handler;
+
+// 가장 최근에 받은 오디오 N바이트를 보관하는 순환 버퍼 (SttContext당 1개)
+// - STT 스트림을 교체할 때 새 스트림에 직전 오디오를 겹쳐 보내기 위해 사용
+// - 프레임 처리 스레드(CallPipeline)에서만 접근하므로 스레드 안전하지 않음
+public class AudioHistory {
+
+	private final byte[] data;
+	private int position; // 다음에 쓸 위치
+	private int size;
+
+	public AudioHistory(int capacity) {
+		this.data = new byte[capacity];
+	}
+
+	public void append(byte[] src, int offset, int length) {
+		if (data.length == 0) {
+			return;
+		}
+		// 용량보다 긴 입력은 마지막 용량만큼만 남김
+		if (length >= data.length) {
+			System.arraycopy(src, offset + length - data.length, data, 0, data.length);
+			position = 0;
+			size = data.length;
+			return;
+		}
+
+		int first = Math.min(length, data.length - position);
+		System.arraycopy(src, offset, data, position, first);
+		System.arraycopy(src, offset + first, data, 0, length - first);
+		position = (position + length) % data.length;
+		size = Math.min(size + length, data.length);
+	}
+
+	// 보관 중인 오디오를 오래된 순서대로 새 배열에 복사 (반환 배열은 호출 측 소유)
+	public byte[] toByteArray() {
+		byte[] out = new byte[size];
+		int start = (position - size + data.length) % data.length;
+		int first = Math.min(size, data.length - start);
+		System.arraycopy(data, start, out, 0, first);
+		System.arraycopy(data, 0, out, first, size - first);
+		return out;
+	}
+
+	public void clear() {
+		position = 0;
+		size = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+}
@@ -0,0 +1,16 @@
+package callprotector.spring.global.handler;
+
+// 발화 여부와 관계없이 일정 주기마다 스트림을 교체하는 정책 (기존 10초 주기 교체 방식)
+public class FixedIntervalLifecyclePolicy implements StreamLifecyclePolicy {
+
+	private final long intervalMs;
+
+	public FixedIntervalLifecyclePolicy(long intervalMs) {
+		this.intervalMs = intervalMs;
+	}
+
+	@Override
+	public RotationReason evaluate(StreamStatus status, long now) {
+		return now - status.getLastStreamStartTime() >= intervalMs ? RotationReason.INTERVAL : null;
+	}
+}
@@ -0,0 +1,31 @@
+package callprotector.spring.global.handler;
+
+// 발화 경계에서 스트림을 교체하는 기본 정책
+// - 최소 수명이 지난 뒤, 마지막 결과가 최종으로 확정되고 silenceMs 동안 새 결과가 없으면 교체 (발화를 자르지 않음)
+// - 말이 계속 이어지더라도 최대 수명에 도달하면 교체 (Google 스트리밍 시간 제한 이전에 교체)
+public class SilenceBoundaryLifecyclePolicy implements StreamLifecyclePolicy {
+
+	private final long minStreamAgeMs;
+	private final long maxStreamAgeMs;
+	private final long silenceMs;
+
+	public SilenceBoundaryLifecyclePolicy(long minStreamAgeMs, long maxStreamAgeMs, long silenceMs) {
+		this.minStreamAgeMs = minStreamAgeMs;
+		this.maxStreamAgeMs = maxStreamAgeMs;
+		this.silenceMs = silenceMs;
+	}
+
+	@Override
+	public RotationReason evaluate(StreamStatus status, long now) {
+		long age = now - status.getLastStreamStartTime();
+		if (age >= maxStreamAgeMs) {
+			return RotationReason.MAX_AGE;
+		}
+		if (age >= minStreamAgeMs
+			&& !status.hasPendingPartial()
+			&& now - status.getLastResultTime() >= silenceMs) {
+			return RotationReason.SILENCE;
+		}
+		return null;
+	}
+}
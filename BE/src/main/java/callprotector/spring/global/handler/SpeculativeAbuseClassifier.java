@@ -0,0 +1,180 @@
+package callprotector.spring.global.handler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
+import callprotector.spring.global.abuse.AbuseClassifier;
+import callprotector.spring.global.abuse.TranscriptAbuseDetector;
+import callprotector.spring.global.pipeline.CallTimerWheel;
+import io.netty.util.Timeout;
+import lombok.extern.slf4j.Slf4j;
+
+// INBOUND 중간 결과 추측 욕설 분석 (SttContext당 1개)
+// - 연속된 두 중간 결과의 공통 단어 접두사(안정 구간)만 분석 대상으로 삼음 (Google이 뒤쪽 단어를 계속 고쳐 쓰기 때문)
+// - 안정 구간이 바뀐 뒤 debounceMs 동안 새로 바뀌지 않으면 요청하고, 더 긴 안정 구간을 요청할 때 진행 중인 요청은 취소
+// - 욕설 판정이면 Listener로 알림 (삐 처리만, 저장/카운트는 최종 결과에서)
+// - 최종 결과가 마지막 추측 문장과 같으면 그 요청을 최종 판정에 재사용
+// - onInterim/onFinal은 SttContext의 transcriptLock 안에서 호출, 요청은 타이머 스레드, 알림은 분류 백엔드 콜백 스레드
+@Slf4j
+class SpeculativeAbuseClassifier {
+
+	interface Listener {
+		// utterance: 요청 당시 발화 번호 (그 사이 최종 결과가 나왔으면 무시해야 함)
+		void onSpeculativeAbuse(long utterance, AbuseResponseDTO.AbuseFilterDTO result);
+	}
+
+	private final Function<String, CompletableFuture<AbuseResponseDTO.AbuseFilterDTO>> classifier;
+	private final CallTimerWheel timerWheel;
+	private final long debounceMs;
+	private final int minStableChars;
+	private final Listener listener;
+
+	private String previousHypothesis = "";
+	private String pending;      // debounce 만료 시 요청할 안정 구간
+	private String speculated;   // 마지막으로 요청한 안정 구간
+	private CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> inFlight;
+	private Timeout debounce;
+	private long utterance;      // 최종 결과마다 증가
+	private boolean closed;
+
+	// 통화별 지표 (SttContext.bindMetrics)
+	final AtomicLong requests = new AtomicLong();
+	final AtomicLong cancellations = new AtomicLong();
+	final AtomicLong hits = new AtomicLong();
+	final AtomicLong reuses = new AtomicLong();
+
+	SpeculativeAbuseClassifier(Function<String, CompletableFuture<AbuseResponseDTO.AbuseFilterDTO>> classifier,
+		CallTimerWheel timerWheel, long debounceMs, int minStableChars, Listener listener) {
+		this.classifier = classifier;
+		this.timerWheel = timerWheel;
+		this.debounceMs = debounceMs;
+		this.minStableChars = minStableChars;
+		this.listener = listener;
+	}
+
+	synchronized void onInterim(String transcript) {
+		if (closed) {
+			return;
+		}
+		String hypothesis = transcript.trim();
+		String stable = commonWordPrefix(previousHypothesis, hypothesis);
+		previousHypothesis = hypothesis;
+
+		// 짧거나, 이미 요청한 구간에 포함되거나(앞부분이 고쳐져 줄어든 경우 포함), 대기 중인 구간과 같으면 무시
+		if (stable.length() < minStableChars || stable.equals(pending)
+			|| (speculated != null && speculated.startsWith(stable))) {
+			return;
+		}
+		pending = stable;
+		if (debounce != null) {
+			debounce.cancel();
+		}
+		long scheduledUtterance = utterance;
+		debounce = timerWheel.schedule(() -> fire(scheduledUtterance), debounceMs);
+	}
+
+	// 최종 결과 도착 - 상태를 다음 발화용으로 초기화하고, 같은 문장의 추측 요청이 있으면 반환 (없으면 null)
+	synchronized CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> onFinal(String finalTranscript) {
+		CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> reusable = null;
+		if (inFlight != null) {
+			if (isReusable(inFlight) && TranscriptAbuseDetector.sameText(speculated, finalTranscript)) {
+				reusable = inFlight;
+				reuses.incrementAndGet();
+			} else {
+				cancel(inFlight);
+			}
+		}
+		if (debounce != null) {
+			debounce.cancel();
+		}
+		utterance++;
+		previousHypothesis = "";
+		pending = null;
+		speculated = null;
+		inFlight = null;
+		debounce = null;
+		return reusable;
+	}
+
+	synchronized long currentUtterance() {
+		return utterance;
+	}
+
+	synchronized void close() {
+		closed = true;
+		if (debounce != null) {
+			debounce.cancel();
+		}
+		if (inFlight != null) {
+			cancel(inFlight);
+		}
+	}
+
+	// 타이머 스레드 - 대기 중인 안정 구간을 요청하고 이전 요청은 취소
+	private void fire(long scheduledUtterance) {
+		CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> previous;
+		CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> request;
+		String text;
+		synchronized (this) {
+			if (closed || scheduledUtterance != utterance || pending == null) {
+				return;
+			}
+			text = pending;
+			pending = null;
+			debounce = null;
+			previous = inFlight;
+			speculated = text;
+			request = classifier.apply(text);
+			inFlight = request;
+			requests.incrementAndGet();
+		}
+		if (previous != null) {
+			cancel(previous);
+		}
+		log.debug("추측 욕설 분석 요청: {}", text);
+
+		request.thenAccept(result -> {
+			if (result != null && result.isAbuse() && !AbuseClassifier.isFailed(result)) {
+				hits.incrementAndGet();
+				listener.onSpeculativeAbuse(scheduledUtterance, result);
+			}
+		});
+	}
+
+	private void cancel(CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> request) {
+		if (request.cancel(true)) {
+			cancellations.incrementAndGet();
+		}
+	}
+
+	// 취소됐거나 분석 실패로 끝난 요청은 재사용하지 않음 (최종 판정에서 다시 요청)
+	private static boolean isReusable(CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> request) {
+		if (!request.isDone()) {
+			return true;
+		}
+		if (request.isCompletedExceptionally()) {
+			return false;
+		}
+		AbuseResponseDTO.AbuseFilterDTO result = request.getNow(null);
+		return result != null && !AbuseClassifier.isFailed(result);
+	}
+
+	// 두 문장의 공통 접두사를 단어 경계까지 (a 전체가 b의 앞부분이면 a 그대로)
+	static String commonWordPrefix(String a, String b) {
+		int length = Math.min(a.length(), b.length());
+		int common = 0;
+		while (common < length && a.charAt(common) == b.charAt(common)) {
+			common++;
+		}
+		boolean atBoundary = (common == a.length() || Character.isWhitespace(a.charAt(common)))
+			&& (common == b.length() || Character.isWhitespace(b.charAt(common)));
+		if (!atBoundary) {
+			while (common > 0 && !Character.isWhitespace(a.charAt(common - 1))) {
+				common--;
+			}
+		}
+		return a.substring(0, common).trim();
+	}
+}
@@ -0,0 +1,22 @@
+package callprotector.spring.global.handler;
+
+// SttContext의 Google STT 스트림을 언제 교체할지 결정하는 정책 (모든 통화/트랙이 하나의 인스턴스를 공유하므로 상태를 두지 않음)
+public interface StreamLifecyclePolicy {
+
+	// now 시점에 현재 스트림을 교체해야 하면 사유를, 아니면 null 반환
+	RotationReason evaluate(StreamStatus status, long now);
+
+	enum RotationReason {
+		SILENCE,    // 발화가 끊긴 틈에 교체
+		MAX_AGE,    // 스트림 최대 수명 도달로 교체
+		INTERVAL,   // 고정 주기 교체
+		ERROR       // 스트림 오류로 재연결 (정책과 무관하게 SttContext가 판단)
+	}
+
+	// 정책 판단에 필요한 현재 스트림 상태
+	interface StreamStatus {
+		long getLastStreamStartTime();  // 현재 스트림을 연 시각
+		long getLastResultTime();       // 현재 스트림에서 마지막으로 인식 결과(중간/최종)를 받은 시각
+		boolean hasPendingPartial();    // 아직 최종 결과로 확정되지 않은 중간 텍스트가 있는지
+	}
+}
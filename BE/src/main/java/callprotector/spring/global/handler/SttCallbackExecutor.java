@@ -0,0 +1,51 @@
+package callprotector.spring.global.handler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import callprotector.spring.global.config.SttConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 모든 SttContext가 공유하는 후속 처리 스레드 풀
+// - 최종 결과 후속 처리(저장/삐 처리/클라이언트 전송)와 통화 종료 정리를 실행
+// - gRPC 응답 스레드(transcriptLock 보유)와 통화 파이프라인 워커가 분석/저장을 기다리거나 직접 실행하지 않도록 분리
+// - Executor 빈으로 등록하면 Spring 기본 작업 실행기가 꺼지므로 컴포넌트 안에 보유
+@Slf4j
+@Component
+public class SttCallbackExecutor {
+
+	private final ExecutorService executor;
+
+	public SttCallbackExecutor(MeterRegistry meterRegistry, SttConfig.SttProperties sttProperties) {
+		int threads = Math.max(1, sttProperties.getCallbackThreads());
+		AtomicInteger threadIndex = new AtomicInteger();
+		ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "stt-callback-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor = ExecutorServiceMetrics.monitor(meterRegistry, workers, "stt.callback");
+
+		log.info("✅ STT 후속 처리 스레드 풀 생성 - threads={}", threads);
+	}
+
+	public Executor executor() {
+		return executor;
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		executor.shutdown();
+		if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+			executor.shutdownNow();
+		}
+	}
+}
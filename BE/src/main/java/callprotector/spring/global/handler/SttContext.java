@@ -1,17 +1,28 @@
 package callprotector.spring.global.handler;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.api.gax.rpc.ClientStream;
 import com.google.api.gax.rpc.ResponseObserver;
 import com.google.api.gax.rpc.StreamController;
 import com.google.cloud.speech.v1.*;
-import com.google.protobuf.ByteString;
-
-import callprotector.spring.global.client.FastClient;
+import com.google.protobuf.UnsafeByteOperations;
+
+import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
+import callprotector.spring.global.abuse.PrefilterVerdict;
+import callprotector.spring.global.abuse.TranscriptAbuseDetector;
+import callprotector.spring.global.client.SpeechClientProvider;
+import callprotector.spring.global.config.SttConfig;
+import callprotector.spring.global.pipeline.CallMetrics;
+import callprotector.spring.global.pipeline.CallTimerWheel;
 import callprotector.spring.domain.callsttlog.entity.CallSttLog;
 import callprotector.spring.global.common.enums.CallTrack;
 import callprotector.spring.domain.calllog.service.CallLogService;
@@ -19,56 +30,170 @@ import callprotector.spring.domain.callsession.service.CallSessionService;
 import callprotector.spring.domain.callsttlog.service.CallSttLogService;
 import callprotector.spring.domain.callsttlog.dto.response.CallSttLogResponseDTO;
 
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Getter
-public class SttContext {
+public class SttContext implements StreamLifecyclePolicy.StreamStatus {
 	private final Long callSessionId;
 	private final CallTrack track;
 
-	private final FastClient fastClient;
+	private final TranscriptAbuseDetector abuseDetector;
 	private final CallSessionService callSessionService;
 	private final CallLogService callLogService;
 	private final CallSttLogService callSttLogService;
 	private final ClientNotifier sttWebSocketHandler;
+	private final SpeechClientProvider speechClientProvider;
+	private final StreamLifecyclePolicy lifecyclePolicy;
+	@Getter(AccessLevel.NONE)
+	private final Executor callbackExecutor; // 최종 결과 후속 처리와 종료 정리 (gRPC 응답 스레드/파이프라인 워커에서 실행하지 않음)
+
+	private final long chunkIntervalMs;
+	private final int chunkBytes;
 
 	private Long userId;
-	private SpeechClient client;
-	private ClientStream<StreamingRecognizeRequest> stream;
-	private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+	private final AudioChunkBuffer buffer;
+	private final AudioHistory overlapHistory; // 스트림 교체 시 새 스트림에 겹쳐 보낼 직전 오디오
+	private final TranscriptSeamDeduplicator seamDeduplicator;
+	private final VoiceActivityGate voiceGate;
+	private final long keepaliveMs;
+	@Getter(AccessLevel.NONE)
+	private final SpeculativeAbuseClassifier speculation; // INBOUND 중간 결과 추측 분석 (꺼져 있거나 OUTBOUND면 null)
+	@Getter(AccessLevel.NONE)
+	private final Object transcriptLock = new Object(); // 교체 중에는 두 스트림의 응답이 서로 다른 gRPC 스레드에서 들어옴
+	@Getter(AccessLevel.NONE)
+	private volatile RecognitionStream activeStream;
+	@Getter(AccessLevel.NONE)
+	private volatile RecognitionStream retiringStream; // closeSend 후 최종 결과를 기다리는 이전 스트림
+	private int streamGeneration = 0;
+	private long bufferedSince = 0L; // 버퍼에 남아 있는 가장 오래된 오디오가 들어온 시각
 	private long lastSendTime = System.currentTimeMillis();
-	private long lastStreamStartTime = System.currentTimeMillis();
+	private volatile long lastStreamStartTime = System.currentTimeMillis();
+	private volatile long lastResultTime = System.currentTimeMillis(); // 현재 스트림에서 마지막으로 인식 결과를 받은 시각
 	private StringBuilder transcriptBuilder = new StringBuilder();
 	private String partialFinalTranscript;
 	private String lastSavedFinalTranscript;
+	@Getter(AccessLevel.NONE)
+	private boolean interimAbuseBeeped; // 현재 발화의 중간 결과에서 욕설 사전/추측 분석으로 이미 삐 처리했는지 (transcriptLock)
+	@Getter(AccessLevel.NONE)
+	private CompletableFuture<Void> finalTranscripts = CompletableFuture.completedFuture(null); // 최종 결과 후속 처리 순서 보장 (transcriptLock)
 
 	private static final Boolean NOT_ABUSIVE = false;
 	private static final String ABUSIVE_TYPE_NORMAL = "정상";
 	private static final String DATA_TYPE_STT = "stt";
 	private static final Boolean IS_FINAL_TRUE = true;
 
-	private long lastBeepAt = 0L;
+	// 스트림 교체 지표 (bindMetrics 이후 통화별 지표로 노출)
+	@Getter(AccessLevel.NONE)
+	private final Map<StreamLifecyclePolicy.RotationReason, AtomicLong> rotations = new EnumMap<>(StreamLifecyclePolicy.RotationReason.class);
+	@Getter(AccessLevel.NONE)
+	private final AtomicLong cutUtterances = new AtomicLong(); // 중간 텍스트가 남아 있는 상태에서 교체한 횟수
+	@Getter(AccessLevel.NONE)
+	private Timer rotationTimer;   // 새 스트림 열기 ~ 이전 스트림 closeSend
+	@Getter(AccessLevel.NONE)
+	private Timer retirementTimer; // 이전 스트림 closeSend ~ 최종 결과 수신 후 정리
+
+	@Getter(AccessLevel.NONE)
+	private final AtomicLong lastBeepAt = new AtomicLong(); // 중간/최종 결과 스레드와 고함 감지 스레드가 함께 갱신
 	private static final long BEEP_COOLDOWN_MS = 1000;
 	private static final long BEEP_DURATION_MS = 2000;
 
-	public SttContext(Long callSessionId, Long userId, CallTrack track, FastClient fastClient,
-						CallSessionService callSessionService, CallLogService callLogService, CallSttLogService callSttLogService, ClientNotifier sttWebSocketHandler) {
+	private static final long ERROR_RETRY_INTERVAL_MS = 1000; // 오류 재연결 최소 간격
+	private static final long FINAL_TRANSCRIPT_WAIT_MS = 5000; // 통화 종료 시 진행 중인 욕설 분석/저장을 기다리는 최대 시간
+	private static final long STREAM_CLOSE_WAIT_MS = 300; // 통화 종료 시 closeSend 후 남은 최종 결과(onComplete)를 기다리는 최대 시간
+	private static final int BYTES_PER_MS = 8; // 8kHz μ-law, 1바이트/샘플
+	private static final byte[] KEEPALIVE_SILENCE = new byte[20 * BYTES_PER_MS]; // μ-law 무음(0xFF) 20ms
+
+	static {
+		Arrays.fill(KEEPALIVE_SILENCE, (byte) 0xFF);
+	}
+
+	public SttContext(Long callSessionId, Long userId, CallTrack track, TranscriptAbuseDetector abuseDetector,
+						CallSessionService callSessionService, CallLogService callLogService, CallSttLogService callSttLogService, ClientNotifier sttWebSocketHandler,
+						SttConfig.SttProperties sttProperties, SpeechClientProvider speechClientProvider, StreamLifecyclePolicy lifecyclePolicy,
+						CallTimerWheel timerWheel, Executor callbackExecutor) {
 		this.callSessionId = callSessionId;
 		this.userId = userId;
 		this.track = track;
-		this.fastClient = fastClient;
+		this.abuseDetector = abuseDetector;
 		this.callSessionService = callSessionService;
 		this.callLogService = callLogService;
 		this.callSttLogService = callSttLogService;
 		this.sttWebSocketHandler = sttWebSocketHandler;
+		this.speechClientProvider = speechClientProvider;
+		this.lifecyclePolicy = lifecyclePolicy;
+		this.callbackExecutor = callbackExecutor;
+		for (StreamLifecyclePolicy.RotationReason reason : StreamLifecyclePolicy.RotationReason.values()) {
+			rotations.put(reason, new AtomicLong());
+		}
+		this.chunkIntervalMs = sttProperties.getChunk().intervalMs(track);
+		this.chunkBytes = (int) (chunkIntervalMs * BYTES_PER_MS);
+		this.buffer = new AudioChunkBuffer(chunkBytes);
+		this.overlapHistory = new AudioHistory((int) (sttProperties.getRotation().getOverlapMs() * BYTES_PER_MS));
+		this.seamDeduplicator = new TranscriptSeamDeduplicator(sttProperties.getRotation().getSeamWindowMs());
+
+		SttConfig.Vad vad = sttProperties.getVad();
+		this.voiceGate = new VoiceActivityGate(vad.isEnabled(), vad.getThresholdDb(), vad.getHangoverMs(), vad.getPreRollMs());
+		this.keepaliveMs = vad.getKeepaliveMs();
+
+		SttConfig.Speculative speculative = sttProperties.getSpeculative();
+		this.speculation = track == CallTrack.INBOUND && speculative.isEnabled()
+			? new SpeculativeAbuseClassifier(abuseDetector::classifySpeculative, timerWheel,
+				speculative.getDebounceMs(), speculative.getMinStableChars(), this::onSpeculativeAbuse)
+			: null;
 	}
 
 	// Google STT 스트림 초기화
 	public void initializeStream(String sessionId) throws IOException {
-		this.client = SpeechClient.create();
+		activeStream = openStream(sessionId);
+		lastStreamStartTime = System.currentTimeMillis();
+		lastResultTime = lastStreamStartTime;
+	}
+
+	// 통화별 지표 등록 (CallPipeline의 CallMetrics에 묶여 통화 종료 시 함께 제거됨)
+	public void bindMetrics(CallMetrics metrics) {
+		String trackTag = track.name();
+		rotations.forEach((reason, count) ->
+			metrics.counter("stt.stream.rotations", count, AtomicLong::get, "track", trackTag, "reason", reason.name()));
+		metrics.counter("stt.stream.cut.utterances", cutUtterances, AtomicLong::get, "track", trackTag);
+		rotationTimer = metrics.timer("stt.stream.rotation.latency", "track", trackTag);
+		retirementTimer = metrics.timer("stt.stream.retirement.latency", "track", trackTag);
+		metrics.counter("stt.vad.suppressed.seconds", voiceGate, VoiceActivityGate::getSuppressedSeconds, "track", trackTag);
+		if (speculation != null) {
+			metrics.counter("stt.speculative.requests", speculation.requests, AtomicLong::get, "track", trackTag);
+			metrics.counter("stt.speculative.cancelled", speculation.cancellations, AtomicLong::get, "track", trackTag);
+			metrics.counter("stt.speculative.hits", speculation.hits, AtomicLong::get, "track", trackTag);
+			metrics.counter("stt.speculative.reused", speculation.reuses, AtomicLong::get, "track", trackTag);
+		}
+	}
 
+	// 교체 정책에 따라 필요하면 스트림 교체 (프레임 처리 스레드에서 호출)
+	public void rotateIfDue(String sessionId, long now) {
+		// 오류로 끊긴 스트림은 바로 재연결 (새 스트림도 곧바로 실패하는 경우 재시도 간격 유지)
+		RecognitionStream current = activeStream;
+		if (current != null && current.failed) {
+			if (now - lastStreamStartTime >= ERROR_RETRY_INTERVAL_MS) {
+				restartStream(sessionId, StreamLifecyclePolicy.RotationReason.ERROR);
+			}
+			return;
+		}
+
+		StreamLifecyclePolicy.RotationReason reason = lifecyclePolicy.evaluate(this, now);
+		if (reason != null) {
+			restartStream(sessionId, reason);
+		}
+	}
+
+	@Override
+	public boolean hasPendingPartial() {
+		return partialFinalTranscript != null;
+	}
+
+	// 공유 채널 풀에서 채널을 배정받아 streamingRecognize 호출을 열고 설정 요청까지 전송
+	private RecognitionStream openStream(String sessionId) throws IOException {
 		RecognitionConfig config = RecognitionConfig.newBuilder()
 			.setEncoding(RecognitionConfig.AudioEncoding.MULAW)
 			.setSampleRateHertz(8000)
@@ -80,141 +205,232 @@ public class SttContext {
 			.setInterimResults(true)
 			.build();
 
-		ResponseObserver<StreamingRecognizeResponse> observer = createResponseObserver(sessionId);
-
-		stream = client.streamingRecognizeCallable().splitCall(observer);
-		stream.send(StreamingRecognizeRequest.newBuilder()
-			.setStreamingConfig(streamingConfig)
-			.build());
+		RecognitionStream recognition = new RecognitionStream(++streamGeneration, speechClientProvider.acquire());
+		try {
+			ResponseObserver<StreamingRecognizeResponse> observer = createResponseObserver(sessionId, recognition);
 
-		lastStreamStartTime = System.currentTimeMillis();
+			recognition.requests = recognition.lease.client().streamingRecognizeCallable().splitCall(observer,
+				speechClientProvider.streamContext(callSessionId, track, recognition.generation));
+			recognition.requests.send(StreamingRecognizeRequest.newBuilder()
+				.setStreamingConfig(streamingConfig)
+				.build());
+			return recognition;
+		} catch (RuntimeException e) {
+			// 열지 못한 스트림의 채널 배정은 바로 반납 (반납하지 않으면 채널별 스트림 수가 계속 남음)
+			recognition.lease.release();
+			if (recognition.requests != null) {
+				try {
+					recognition.requests.closeSendWithError(e);
+				} catch (RuntimeException closeError) {
+					e.addSuppressed(closeError);
+				}
+			}
+			throw e;
+		}
 	}
 
 	// Twilio로부터 받은 오디오 데이터를 버퍼에 쓰고 Google STT로 전송
-	public void processAudio(byte[] audio) throws IOException {
-		buffer.write(audio);
+	// audio 배열은 호출 측 소유이므로 청크 버퍼로 한 번만 복사하고, 전송 시에는 복사 없이 소유권을 넘김
+	public void processAudio(byte[] audio, int offset, int length) {
 		long now = System.currentTimeMillis();
 
-		// 200ms마다 오디오 청크 전송
-		if (now - lastSendTime >= 200) {
-			byte[] chunk = buffer.toByteArray();
-			stream.send(StreamingRecognizeRequest.newBuilder()
-				.setAudioContent(ByteString.copyFrom(chunk))
-				.build());
-			buffer.reset();
-			lastSendTime = now;
+		// 무음 구간은 전송하지 않고, 남은 버퍼만 비운 뒤 필요하면 스트림 유지용 무음 프레임 전송
+		if (!voiceGate.admit(audio, offset, length, now)) {
+			flushIfDue(now);
+			sendKeepaliveIfIdle(now);
+			return;
+		}
+
+		// 게이트가 막 열렸으면 직전 오디오(pre-roll)를 먼저 붙여 첫 음절이 잘리지 않게 함
+		byte[] preRoll = voiceGate.takePreRoll();
+		if (preRoll != null) {
+			bufferAudio(preRoll, 0, preRoll.length, now);
+		}
+		bufferAudio(audio, offset, length, now);
+
+		// 청크 크기만큼 모였으면 바로 전송
+		if (buffer.size() >= chunkBytes) {
+			sendChunk(now);
+		} else {
+			flushIfDue(now);
 		}
 	}
 
-	// Google STT 스트림 재시작
-	public void restartStream(String sessionId) throws IOException {
-		try {
-			buffer.reset();
+	private void bufferAudio(byte[] audio, int offset, int length, long now) {
+		if (buffer.isEmpty()) {
+			bufferedSince = now;
+		}
+		buffer.write(audio, offset, length);
+		overlapHistory.append(audio, offset, length);
+	}
 
-			// 마지막 중간 텍스트를 강제로 최종 텍스트로 처리
-			if (partialFinalTranscript != null && !partialFinalTranscript.trim().isEmpty()) {
-				String forcedFinal = partialFinalTranscript.trim();
-				log.info("[강제 최종] 중간 결과를 최종으로 처리: {}", forcedFinal);
+	// VAD로 오디오를 보내지 않는 동안 Google이 오디오 타임아웃으로 스트림을 끊지 않도록 짧은 무음 프레임 전송
+	private void sendKeepaliveIfIdle(long now) {
+		if (buffer.isEmpty() && now - lastSendTime >= keepaliveMs) {
+			buffer.write(KEEPALIVE_SILENCE, 0, KEEPALIVE_SILENCE.length);
+			sendChunk(now);
+		}
+	}
 
-				try {
-					// 중복 저장 방지
-					if(isDuplicate(forcedFinal)) {
-						log.debug("[중복 제거] 강제 저장 생략: {}", forcedFinal);
-					} else {
-						boolean isAbuse = NOT_ABUSIVE;
-						String abuseType = ABUSIVE_TYPE_NORMAL;
-
-						// INBOUND 트랙만 욕설 분석
-						if (track == CallTrack.INBOUND) {
-							var result = fastClient.sendTextToFastAPI(forcedFinal);
-							isAbuse = result.isAbuse();
-							abuseType = result.getType();
-						}
+	// 프레임 유입과 무관하게 타이머에서 주기적으로 호출 - 가장 오래된 오디오가 청크 길이만큼 기다렸으면 전송
+	public void flushIfDue() {
+		flushIfDue(System.currentTimeMillis());
+	}
 
-						// stt 로그 저장
-						CallSttLog savedLog = callSttLogService.saveTranscriptLog(
-							callSessionId,
-							track,
-							forcedFinal,
-							IS_FINAL_TRUE,
-							isAbuse,
-							abuseType
-						);
-
-						if (track == CallTrack.INBOUND) {
-							// INBOUND는 중복 누적 방지 로직을 유지
-							if (!forcedFinal.equals(lastSavedFinalTranscript)) {
-								transcriptBuilder.append(forcedFinal).append(" ");
-								lastSavedFinalTranscript = forcedFinal;
-							}
-							// INBOUND 트랙만 욕설 처리
-							// 욕설 감지 시 CallSession의 totalAbuseCnt 업데이트
-							if (isAbuse) {
-								log.info("STT 결과 욕설 감지 - (isAbuse={}) / CallSession total_abuse_cnt 업데이트 시도 - CallSessionId={}", isAbuse, callSessionId);
-								callSessionService.incrementTotalAbuseCnt(callSessionId);
-								callLogService.updateAbuse(callSessionId, track);
-								sendBeepIfAllowed(BEEP_DURATION_MS);
-							}
-						} else {
-							// OUTBOUND는 중복 누적 방지 없이 무조건 추가
-							transcriptBuilder.append(forcedFinal).append(" ");
-							lastSavedFinalTranscript = forcedFinal;
-						}
+	private void flushIfDue(long now) {
+		if (!buffer.isEmpty() && now - bufferedSince >= chunkIntervalMs) {
+			sendChunk(now);
+		}
+	}
 
-						// 클라이언트에 STT 로그 전송
-						CallSttLogResponseDTO forcedResponse = new CallSttLogResponseDTO(DATA_TYPE_STT, savedLog);
+	private void sendChunk(long now) {
+		RecognitionStream current = activeStream;
+		if (current == null || current.failed) {
+			return; // 오류로 끊긴 스트림이면 재연결 후 새 스트림으로 전송
+		}
+		current.requests.send(StreamingRecognizeRequest.newBuilder()
+			.setAudioContent(buffer.detach())
+			.build());
+		lastSendTime = now;
+	}
 
-						if (userId != null) {
-							sttWebSocketHandler.sendSttToClient(userId, forcedResponse);
-						}
-					}
-				} catch (Exception e) {
-					log.warn("❗ 강제 final 처리 실패", e);
-				}
+	// Google STT 스트림 교체 (make-before-break)
+	// 1. 지금까지 모인 오디오는 기존 스트림으로 마저 전송
+	// 2. 새 스트림을 열고 직전 오디오(overlapMs)를 겹쳐 보낸 뒤, 이후 오디오는 새 스트림으로 전송
+	// 3. 기존 스트림은 closeSend만 하고, 남은 최종 결과를 받은 뒤(onComplete) 정리
+	// 오디오를 버리거나 중간 텍스트를 강제로 확정하지 않으므로 교체 시점에도 인식이 끊기지 않음
+	public void restartStream(String sessionId, StreamLifecyclePolicy.RotationReason reason) {
+		try {
+			long now = System.currentTimeMillis();
+			boolean cutUtterance = hasPendingPartial();
+			RecognitionStream current = activeStream;
+			boolean recovering = current != null && current.failed; // 오류 재연결이면 못 보낸 버퍼를 새 스트림으로 넘김
+			if (!buffer.isEmpty() && !recovering) {
+				sendChunk(now);
+			}
 
-				// 처리 후 초기화
-				partialFinalTranscript = null;
+			RecognitionStream next = openStream(sessionId);
+			if (overlapHistory.size() > 0 && !recovering) {
+				next.requests.send(StreamingRecognizeRequest.newBuilder()
+					.setAudioContent(UnsafeByteOperations.unsafeWrap(overlapHistory.toByteArray()))
+					.build());
+			}
+
+			// 직전 교체에서 아직 종료되지 않은 스트림이 남아 있으면 먼저 정리
+			RecognitionStream stale = retiringStream;
+			if (stale != null) {
+				finishRetirement(stale);
 			}
 
-			// 기존 스트림 종료
-			if (stream != null) {
-				stream.closeSend();
+			RecognitionStream previous = activeStream;
+			synchronized (transcriptLock) {
+				retiringStream = previous;
+				activeStream = next;
+				// 이전 스트림의 중간 텍스트는 이전 스트림의 최종 결과로 확정되므로 여기서는 넘기지 않음
+				partialFinalTranscript = null;
+				if (previous != null) {
+					seamDeduplicator.markSeam(previous.generation, next.generation, now);
+				}
 			}
+			if (previous != null) {
+				previous.retiringSince = System.currentTimeMillis();
+				if (previous.failed) {
+					finishRetirement(previous); // 이미 끝난 스트림이므로 남은 결과를 기다리지 않음
+				} else {
+					previous.requests.closeSend();
+				}
+			}
+
+			lastStreamStartTime = now;
+			lastResultTime = now;
 
-			// 기존 클라이언트 종료 후, 새 스트림 초기화
-			if (client != null) {
-				client.close();
+			rotations.get(reason).incrementAndGet();
+			if (cutUtterance) {
+				cutUtterances.incrementAndGet();
 			}
-			initializeStream(sessionId);
-			log.info("🔄 [{}] Google STT Stream 재시작됨", track);
+			if (rotationTimer != null) {
+				rotationTimer.record(System.currentTimeMillis() - now, TimeUnit.MILLISECONDS);
+			}
+			log.info("🔄 [{}] Google STT Stream 교체됨 (#{} → #{}, 사유: {}{})", track,
+				previous != null ? previous.generation : 0, next.generation, reason, cutUtterance ? ", 발화 중" : "");
 
 		} catch (Exception e) {
 			log.error("STT 재시작 중 오류", e);
 		}
 	}
 
-	// STT 스트림을 종료하고, 종료 시점에 남아있는 중간 텍스트를 최종 텍스트로 처리 및 저장
-	public void closeStream() {
-		if (stream != null) {
-			try {
-				stream.closeSend();
-				Thread.sleep(300);
+	// 교체된 이전 스트림 정리 - 최종 결과 없이 끝난 중간 텍스트가 있으면 최종으로 처리한 뒤 채널 반납
+	private void finishRetirement(RecognitionStream retired) {
+		if (!retired.retired.compareAndSet(false, true)) {
+			return;
+		}
 
-				if (client != null) {
-					client.shutdown();
-					if (!client.awaitTermination(1, TimeUnit.SECONDS)) {
-						client.shutdownNow(); // 강제 종료
-					}
+		synchronized (transcriptLock) {
+			if (retiringStream == retired) {
+				retiringStream = null;
+			}
+			String leftover = retired.partialTranscript;
+			if (leftover != null && !leftover.trim().isEmpty()) {
+				log.info("[강제 최종] 교체된 스트림의 중간 결과를 최종으로 처리: {}", leftover.trim());
+				try {
+					handleFinalTranscript(leftover.trim(), retired);
+				} catch (Exception e) {
+					log.warn("❗ 강제 final 처리 실패", e);
 				}
-				log.info("✅ [{}] STT 스트림 종료 완료 - CallSessionId: {}", track, callSessionId);
+			}
+		}
 
-				// 종료 시점에 남은 텍스트 처리
-				processRemainingTranscript();
+		retired.lease.release();
+		if (retirementTimer != null && retired.retiringSince > 0) {
+			retirementTimer.record(System.currentTimeMillis() - retired.retiringSince, TimeUnit.MILLISECONDS);
+		}
+		log.info("♻️ [{}] 이전 STT 스트림(#{}) 정리 완료", track, retired.generation);
+	}
 
-			} catch (Exception e) {
+	// STT 스트림을 종료하고, 종료 시점에 남아있는 중간 텍스트를 최종 텍스트로 처리 및 저장
+	// - 호출 스레드(통화 파이프라인 워커)는 closeSend만 하고 바로 반환, 이후 정리는 후속 처리 스레드에서 이어서 실행
+	// 1. 남은 최종 결과 수신(onComplete) 대기 (최대 STREAM_CLOSE_WAIT_MS) 후 스트림 정리/채널 반납
+	// 2. 세션 욕설 여부를 집계하기 전에 진행 중인 욕설 분석/저장 완료 대기 (최대 FINAL_TRANSCRIPT_WAIT_MS)
+	// 3. 종료 시점에 남은 텍스트 처리
+	public CompletableFuture<Void> closeStream() {
+		if (speculation != null) {
+			speculation.close();
+		}
+		RecognitionStream current = activeStream;
+		if (current == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		try {
+			current.requests.closeSend();
+		} catch (Exception e) {
+			log.error("❌ [{}] STT 종료 중 오류", track, e);
+		}
+
+		return current.completion.copy()
+			.completeOnTimeout(null, STREAM_CLOSE_WAIT_MS, TimeUnit.MILLISECONDS)
+			.thenRunAsync(() -> releaseStreams(current), callbackExecutor)
+			.thenCompose(ignored -> pendingFinalTranscripts())
+			.thenRunAsync(() -> {
+				synchronized (transcriptLock) {
+					processRemainingTranscript();
+				}
+			}, callbackExecutor)
+			.exceptionally(e -> {
 				log.error("❌ [{}] STT 종료 중 오류", track, e);
-			}
+				return null;
+			});
+	}
+
+	private void releaseStreams(RecognitionStream current) {
+		RecognitionStream previous = retiringStream;
+		if (previous != null) {
+			finishRetirement(previous);
 		}
+
+		// 채널은 다른 통화와 공유하므로 닫지 않고 반납만 함
+		current.lease.release();
+		log.info("✅ [{}] STT 스트림 종료 완료 - CallSessionId: {}, VAD 전송 생략: {}초", track, callSessionId,
+			String.format("%.1f", voiceGate.getSuppressedSeconds()));
 	}
 
 	// 실제 로그인 userId로 업데이트
@@ -299,11 +515,11 @@ public class SttContext {
 		}
 	}
 
-	// Google STT 응답을 처리하는 ResponseObserver 생성
-	private ResponseObserver<StreamingRecognizeResponse> createResponseObserver(String sessionId){
+	// Google STT 응답을 처리하는 ResponseObserver 생성 (스트림마다 1개)
+	private ResponseObserver<StreamingRecognizeResponse> createResponseObserver(String sessionId, RecognitionStream source){
 		return new ResponseObserver<>() {
 			public void onStart(StreamController controller) {
-				log.info("🎤 STT 시작됨: {} [{}]", sessionId, track);
+				log.info("🎤 STT 시작됨: {} [{}] #{}", sessionId, track, source.generation);
 			}
 
 			public void onResponse(StreamingRecognizeResponse response) {
@@ -317,96 +533,16 @@ public class SttContext {
 							transcript);
 
 						try {
-							if (isFinal) { // 최종 결과
-								String trimmedTranscript = transcript.trim();
-
-								// 중복 방지 - 이전 저장값과 동일한 경우 저장 생략 (INBOUND만 적용)
-								if(isDuplicate(trimmedTranscript)) {
-									log.debug("[중복 제거] 동일한 최종 텍스트는 무시됨: {}", trimmedTranscript);
-									continue;
+							synchronized (transcriptLock) {
+								if (source == activeStream) {
+									lastResultTime = System.currentTimeMillis();
 								}
-
-								boolean isAbuse = NOT_ABUSIVE;
-								String abuseType = ABUSIVE_TYPE_NORMAL;
-
-								// INBOUND 트랙만 FastAPI를 통한 욕설 분석
-								if(track == CallTrack.INBOUND) {
-									var analysis = fastClient.sendTextToFastAPI(trimmedTranscript);
-									isAbuse = analysis.isAbuse();
-									abuseType = analysis.getType();
-									if (isAbuse) {
-										log.info("[{}] INBOUND 욕설 감지 결과 → isAbuse: {}, type: {}", CallTrack.INBOUND, isAbuse, abuseType);
-									}
-								} else { // // OUTBOUND 트랙은 욕설 분석 건너뜀
-									log.info("[{}] 상담원 발화는 욕설 분석을 건너뜀", track);
-
-								}
-
-								// sttLog 최종 저장
-								CallSttLog savedLog = callSttLogService.saveTranscriptLog(
-									callSessionId,
-									track,
-									trimmedTranscript,
-									true,
-									isAbuse,
-									abuseType
-								);
-								log.info("MongoDB에 CallSttLog 저장 완료: callSessionId={}, track={}, script={}", callSessionId, track, trimmedTranscript);
-
-
-
-								// INBOUND (고객) 스크립트 누적 및 욕설 감지 후 처리
-								if (track == CallTrack.INBOUND) {
-									// transcriptBuilder 중복 누적 방지
-									if (!trimmedTranscript.equals(lastSavedFinalTranscript)) {
-										transcriptBuilder.append(trimmedTranscript).append(" ");
-										lastSavedFinalTranscript = trimmedTranscript;
-									}
-
-									// 욕설 감지 시 total abuse cnt 업데이트
-									if (isAbuse) {
-										log.info("STT 결과 욕설 감지 - (isAbuse={}) / CallSession total_abuse_cnt 업데이트 시도 - CallSessionId={}", isAbuse, callSessionId);
-										callSessionService.incrementTotalAbuseCnt(callSessionId);
-										log.info("🍀 고객 발화 필터링됨");
-										callLogService.updateAbuse(callSessionId, track);
-										sendBeepIfAllowed(BEEP_DURATION_MS);
-									}
-								} else { // OUTBOUND (상담원) 스크립트 누적
-									// 중복 누적 방지 없이 무조건 추가
-									transcriptBuilder.append(trimmedTranscript).append(" ");
-									lastSavedFinalTranscript = trimmedTranscript;
-								}
-
-								// 클라이언트에 최종 STT 결과 전송
-								CallSttLogResponseDTO finalResponse = new CallSttLogResponseDTO(DATA_TYPE_STT, savedLog);
-
-								if (userId != null) {
-									sttWebSocketHandler.sendSttToClient(userId, finalResponse);
+								if (isFinal) { // 최종 결과
+									handleFinalTranscript(transcript.trim(), source);
+								} else {
+									handleInterimTranscript(transcript, source);
 								}
-
-								partialFinalTranscript = null; // 최종 처리 후 중간 텍스트 초기화
-
-							} else { // 중간 결과는 DB 저장 없이 클라이언트 뷰에만 보여줌
-								CallSttLog interimLog = CallSttLog.builder()
-									.callSessionId(callSessionId)
-									.track(track)
-									.script(transcript)
-									.isFinal(false)
-									.isAbuse(false)
-									.abuseType(ABUSIVE_TYPE_NORMAL)
-									.abuseCnt(0)
-									.build();
-
-								// 클라이언트에 중간 STT 결과 전송
-								CallSttLogResponseDTO interimResponse = new CallSttLogResponseDTO(DATA_TYPE_STT, interimLog);
-
-								if (userId != null) {
-									sttWebSocketHandler.sendSttToClient(userId, interimResponse);
-								}
-
-								partialFinalTranscript = transcript;
 							}
-
 						} catch (Exception e) {
 							log.error("❌ FastAPI 전송 오류", e);
 						}
@@ -416,14 +552,208 @@ public class SttContext {
 
 			public void onError(Throwable t) {
 				log.error("[{}] STT 오류", track, t);
+				source.failed = true;
+				source.completion.complete(null);
+				if (source == retiringStream) {
+					finishRetirement(source);
+				}
 			}
 
 			public void onComplete() {
-				log.info("[{}] STT 완료", track);
+				log.info("[{}] STT 완료 #{}", track, source.generation);
+				source.completion.complete(null);
+				// 교체된 이전 스트림은 마지막 최종 결과까지 받은 뒤 여기서 정리
+				if (source == retiringStream) {
+					finishRetirement(source);
+				}
 			}
 		};
 	}
 
+	// 최종 결과 처리 - 경계/중복 제거 후 욕설 분석, 저장, 클라이언트 전송 (transcriptLock 안에서 호출)
+	// - 욕설 분석은 비동기(TranscriptAbuseDetector: 욕설 사전 → 분류 백엔드 배치)로 요청하고, 저장/삐 처리/전송은 분석이 끝난 뒤 발화 순서대로 이어서 실행
+	// - 같은 문장의 추측 분석 요청이 있으면 새로 요청하지 않고 그 결과를 사용
+	// - gRPC 응답 스레드는 분석 결과를 기다리지 않음
+	private void handleFinalTranscript(String trimmedTranscript, RecognitionStream source) {
+		source.partialTranscript = null;
+		boolean beepedEarly = false;
+		CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> speculative = null;
+		if (source == activeStream) {
+			partialFinalTranscript = null; // 최종 처리 후 중간 텍스트 초기화
+			// 중간 결과 상태는 현재 스트림 발화 기준이므로 여기서 초기화 (중복으로 버려지는 최종 결과 포함)
+			beepedEarly = interimAbuseBeeped;
+			interimAbuseBeeped = false;
+			if (speculation != null) {
+				speculative = speculation.onFinal(trimmedTranscript);
+			}
+		}
+
+		// 스트림 교체 경계에서 겹쳐 보낸 오디오로 인한 중복 제거
+		String seamless = seamDeduplicator.deduplicate(trimmedTranscript, source.generation, System.currentTimeMillis());
+		if (seamless.isEmpty()) {
+			log.debug("[경계 중복 제거] 교체 경계에서 이미 처리된 텍스트 무시됨: {}", trimmedTranscript);
+			return;
+		}
+		if (!seamless.equals(trimmedTranscript)) {
+			log.debug("[경계 중복 제거] {} → {}", trimmedTranscript, seamless);
+			trimmedTranscript = seamless;
+		}
+
+		// 중복 방지 - 이전 저장값과 동일한 경우 저장 생략 (INBOUND만 적용)
+		if(isDuplicate(trimmedTranscript)) {
+			log.debug("[중복 제거] 동일한 최종 텍스트는 무시됨: {}", trimmedTranscript);
+			return;
+		}
+
+		// 스크립트 누적은 발화 순서대로 바로 반영 (종료 시 전체 텍스트에 사용)
+		if (track == CallTrack.INBOUND) {
+			// transcriptBuilder 중복 누적 방지
+			if (!trimmedTranscript.equals(lastSavedFinalTranscript)) {
+				transcriptBuilder.append(trimmedTranscript).append(" ");
+				lastSavedFinalTranscript = trimmedTranscript;
+			}
+		} else { // OUTBOUND (상담원) 스크립트 누적
+			// 중복 누적 방지 없이 무조건 추가
+			transcriptBuilder.append(trimmedTranscript).append(" ");
+			lastSavedFinalTranscript = trimmedTranscript;
+		}
+
+		// INBOUND 트랙만 욕설 분석
+		CompletableFuture<AbuseResponseDTO.AbuseFilterDTO> analysis;
+		if (track == CallTrack.INBOUND) {
+			analysis = speculative != null ? speculative : abuseDetector.classifyFinal(trimmedTranscript);
+		} else { // // OUTBOUND 트랙은 욕설 분석 건너뜀
+			log.info("[{}] 상담원 발화는 욕설 분석을 건너뜀", track);
+			analysis = CompletableFuture.completedFuture(null);
+		}
+
+		String transcript = trimmedTranscript;
+		boolean skipBeep = beepedEarly;
+		// 이미 끝난 분석(욕설 사전 즉시 판정 등)이어도 gRPC 응답 스레드(transcriptLock 보유)에서 이어서 실행하지 않음
+		finalTranscripts = finalTranscripts
+			.thenCombineAsync(analysis, (previous, result) -> result, callbackExecutor)
+			.thenAcceptAsync(result -> completeFinalTranscript(transcript, result, skipBeep), callbackExecutor)
+			.exceptionally(e -> {
+				log.error("❌ [{}] 최종 결과 처리 실패: {}", track, transcript, e);
+				return null;
+			});
+	}
+
+	// 욕설 분석 이후 최종 결과 처리 - 저장, 욕설 카운트/삐 처리, 클라이언트 전송 (후속 처리 스레드)
+	// - beepedEarly: 중간 결과에서 이미 삐 처리한 발화면 다시 삐 처리하지 않음
+	private void completeFinalTranscript(String trimmedTranscript, AbuseResponseDTO.AbuseFilterDTO analysis,
+		boolean beepedEarly) {
+		boolean isAbuse = NOT_ABUSIVE;
+		String abuseType = ABUSIVE_TYPE_NORMAL;
+		if (analysis != null) {
+			isAbuse = analysis.isAbuse();
+			abuseType = analysis.getType();
+			if (isAbuse) {
+				log.info("[{}] INBOUND 욕설 감지 결과 → isAbuse: {}, type: {}", CallTrack.INBOUND, isAbuse, abuseType);
+			}
+		}
+
+		// sttLog 최종 저장
+		CallSttLog savedLog = callSttLogService.saveTranscriptLog(
+			callSessionId,
+			track,
+			trimmedTranscript,
+			IS_FINAL_TRUE,
+			isAbuse,
+			abuseType
+		);
+		log.info("CallSttLog 저장 요청 완료(write-behind): callSessionId={}, track={}, script={}", callSessionId, track, trimmedTranscript);
+
+
+
+		// INBOUND (고객) 욕설 감지 시 total abuse cnt 업데이트
+		if (track == CallTrack.INBOUND && isAbuse) {
+			log.info("STT 결과 욕설 감지 - (isAbuse={}) / CallSession total_abuse_cnt 업데이트 시도 - CallSessionId={}", isAbuse, callSessionId);
+			callSessionService.incrementTotalAbuseCnt(callSessionId);
+			log.info("🍀 고객 발화 필터링됨");
+			callLogService.updateAbuse(callSessionId, track);
+			if (!beepedEarly) {
+				sendBeepIfAllowed(BEEP_DURATION_MS);
+			}
+		}
+
+		// 클라이언트에 최종 STT 결과 전송
+		CallSttLogResponseDTO finalResponse = new CallSttLogResponseDTO(DATA_TYPE_STT, savedLog);
+
+		if (userId != null) {
+			sttWebSocketHandler.sendSttToClient(userId, finalResponse);
+		}
+	}
+
+	// 추측 분석 욕설 판정 - 아직 같은 발화이고 삐 처리 전이면 바로 삐 처리 (분류 백엔드 콜백 스레드)
+	private void onSpeculativeAbuse(long utterance, AbuseResponseDTO.AbuseFilterDTO result) {
+		synchronized (transcriptLock) {
+			if (interimAbuseBeeped || speculation.currentUtterance() != utterance) {
+				return;
+			}
+			interimAbuseBeeped = true;
+		}
+		log.info("⚡ [{}] 중간 결과 추측 분석 욕설 감지 → 즉시 삐 처리 (type={})", track, result.getType());
+		sendBeepIfAllowed(BEEP_DURATION_MS);
+	}
+
+	// 진행 중인 최종 결과 처리(욕설 분석 → 저장) 완료 시점 (최대 FINAL_TRANSCRIPT_WAIT_MS, 시간 초과 시에도 정상 완료)
+	private CompletableFuture<Void> pendingFinalTranscripts() {
+		CompletableFuture<Void> pending;
+		synchronized (transcriptLock) {
+			pending = finalTranscripts;
+		}
+		return pending.copy()
+			.orTimeout(FINAL_TRANSCRIPT_WAIT_MS, TimeUnit.MILLISECONDS)
+			.exceptionally(e -> {
+				log.warn("❗ [{}] 진행 중인 욕설 분석/저장 대기 시간 초과 - 종료 처리 계속", track);
+				return null;
+			});
+	}
+
+	// 중간 결과는 DB 저장 없이 클라이언트 뷰에만 보여줌 (교체 중인 이전 스트림의 중간 결과는 화면에 보내지 않음)
+	private void handleInterimTranscript(String transcript, RecognitionStream source) {
+		source.partialTranscript = transcript;
+		if (source != activeStream) {
+			return;
+		}
+
+		// INBOUND 중간 결과에 확실한 욕설이 있으면 최종 결과를 기다리지 않고 삐 처리 (발화당 1번)
+		if (track == CallTrack.INBOUND && !interimAbuseBeeped) {
+			PrefilterVerdict verdict = abuseDetector.checkInterim(transcript);
+			if (verdict.isConfident()) {
+				interimAbuseBeeped = true;
+				log.info("⚡ [{}] 중간 결과 욕설 감지 → 즉시 삐 처리 (type={}, word={})", track,
+					verdict.label().getLabel(), verdict.matchedWord());
+				sendBeepIfAllowed(BEEP_DURATION_MS);
+			}
+		}
+
+		// 확실한 단어가 없으면 안정 구간을 분류 백엔드로 추측 분석 (결과는 onSpeculativeAbuse)
+		if (speculation != null && !interimAbuseBeeped) {
+			speculation.onInterim(transcript);
+		}
+
+		CallSttLog interimLog = CallSttLog.builder()
+			.callSessionId(callSessionId)
+			.track(track)
+			.script(transcript)
+			.isFinal(false)
+			.isAbuse(false)
+			.abuseType(ABUSIVE_TYPE_NORMAL)
+			.abuseCnt(0)
+			.build();
+
+		// 클라이언트에 중간 STT 결과 전송
+		CallSttLogResponseDTO interimResponse = new CallSttLogResponseDTO(DATA_TYPE_STT, interimLog);
+
+		if (userId != null) {
+			sttWebSocketHandler.sendSttToClient(userId, interimResponse);
+		}
+
+		partialFinalTranscript = transcript;
+	}
+
 	private boolean isDuplicate(String newTranscript) {
 		if (track == CallTrack.INBOUND && newTranscript.equals(lastSavedFinalTranscript)) {
 			return true;
@@ -435,7 +765,9 @@ public class SttContext {
 	private void sendBeepIfAllowed(long durationMs) {
 		if (userId == null) return;
 		long now = System.currentTimeMillis();
-		if (now - lastBeepAt < BEEP_COOLDOWN_MS) return;
+		long last = lastBeepAt.get();
+		// 쿨다운 확인과 갱신을 한 번에 해서 여러 스레드가 동시에 비프를 보내지 않게 함
+		if (now - last < BEEP_COOLDOWN_MS || !lastBeepAt.compareAndSet(last, now)) return;
 
 		sttWebSocketHandler.sendSttToClient(userId, Map.of(
 				"type", "beep",
@@ -443,7 +775,6 @@ public class SttContext {
 				"ts", now
 		));
 
-		lastBeepAt = now;
 		log.info("🔔 비프 트리거 전송 (userId={}, durationMs={})", userId, durationMs);
 	}
 
@@ -451,4 +782,21 @@ public class SttContext {
 		sendBeepIfAllowed(BEEP_DURATION_MS);
 	}
 
+	// streamingRecognize 호출 1건 - 교체 중에는 이전/다음 스트림이 잠시 공존
+	private static class RecognitionStream {
+		private final int generation;
+		private final SpeechClientProvider.Lease lease;
+		private ClientStream<StreamingRecognizeRequest> requests;
+		private volatile String partialTranscript; // 이 스트림의 마지막 중간 텍스트
+		private volatile long retiringSince = 0L;  // closeSend 시각
+		private volatile boolean failed;           // onError로 끝난 스트림 (활성 스트림이면 다음 프레임에서 재연결)
+		private final AtomicBoolean retired = new AtomicBoolean(false);
+		private final CompletableFuture<Void> completion = new CompletableFuture<>(); // onComplete/onError 시 완료
+
+		private RecognitionStream(int generation, SpeechClientProvider.Lease lease) {
+			this.generation = generation;
+			this.lease = lease;
+		}
+	}
+
 }
@@ -0,0 +1,120 @@
+package callprotector.spring.global.handler;
+
+import java.util.Arrays;
+
+// STT 스트림 교체 경계에서 생기는 중복 최종 텍스트 제거기
+// - 새 스트림에는 직전 오디오를 겹쳐 보내므로, 이전 스트림의 마지막 최종 텍스트 끝부분과
+//   새 스트림의 첫 최종 텍스트 앞부분에 같은 발화가 두 번 들어갈 수 있음
+// - 두 스트림의 최종 결과는 어느 쪽이 먼저 도착할지 모르므로 양방향으로 겹침을 확인
+// - 경계 직후 seamWindowMs 동안만 적용하여 그 밖의 실제 반복 발화는 건드리지 않음
+// - 스레드 안전하지 않으므로 SttContext의 텍스트 처리 잠금 안에서만 호출
+public class TranscriptSeamDeduplicator {
+
+	// 한 글자 단어("네") 하나만 겹치는 경우는 우연일 수 있으므로 중복으로 보지 않음
+	private static final int MIN_OVERLAP_CHARS = 2;
+
+	private final long seamWindowMs;
+
+	private int previousGeneration = -1;
+	private int nextGeneration = -1;
+	private long seamAt = 0L;
+	private String previousLastFinal; // 이전 스트림이 낸 마지막 최종 텍스트
+	private String nextFirstFinal;    // 경계 이후 새 스트림이 낸 첫 최종 텍스트
+
+	private String lastFinal;
+	private int lastFinalGeneration = -1;
+
+	public TranscriptSeamDeduplicator(long seamWindowMs) {
+		this.seamWindowMs = seamWindowMs;
+	}
+
+	// previousGeneration 스트림에서 nextGeneration 스트림으로 교체된 시점 기록
+	public void markSeam(int previousGeneration, int nextGeneration, long now) {
+		this.previousGeneration = previousGeneration;
+		this.nextGeneration = nextGeneration;
+		this.seamAt = now;
+		this.previousLastFinal = lastFinalGeneration == previousGeneration ? lastFinal : null;
+		this.nextFirstFinal = null;
+	}
+
+	// generation 스트림의 최종 텍스트에서 경계 중복 부분을 잘라낸 결과 반환 (전부 중복이면 빈 문자열)
+	public String deduplicate(String transcript, int generation, long now) {
+		String result = transcript;
+
+		if (seamAt > 0 && now - seamAt <= seamWindowMs) {
+			if (generation == nextGeneration) {
+				// 이전 스트림이 이미 말한 끝부분을 새 스트림 첫 텍스트 앞에서 제거
+				// - 겹쳐 보낸 오디오는 첫 최종 결과에만 들어가므로 두 번째부터는 그대로 둠
+				if (nextFirstFinal == null) {
+					if (previousLastFinal != null) {
+						result = stripLeadingOverlap(previousLastFinal, transcript);
+					}
+					nextFirstFinal = transcript;
+				}
+			} else if (generation == previousGeneration && nextFirstFinal != null) {
+				// 새 스트림이 먼저 말한 앞부분을 이전 스트림 텍스트 끝에서 제거
+				result = stripTrailingOverlap(transcript, nextFirstFinal);
+			}
+		}
+
+		if (generation == previousGeneration) {
+			previousLastFinal = transcript;
+		}
+		lastFinal = transcript;
+		lastFinalGeneration = generation;
+		return result;
+	}
+
+	// earlier의 끝 단어들과 later의 앞 단어들이 겹치면 later에서 겹친 부분을 뺀 나머지
+	static String stripLeadingOverlap(String earlier, String later) {
+		String[] earlierWords = split(earlier);
+		String[] laterWords = split(later);
+		int overlap = overlapWords(earlierWords, laterWords);
+		return join(laterWords, overlap, laterWords.length);
+	}
+
+	// earlier의 끝 단어들과 later의 앞 단어들이 겹치면 earlier에서 겹친 부분을 뺀 나머지
+	static String stripTrailingOverlap(String earlier, String later) {
+		String[] earlierWords = split(earlier);
+		String[] laterWords = split(later);
+		int overlap = overlapWords(earlierWords, laterWords);
+		return join(earlierWords, 0, earlierWords.length - overlap);
+	}
+
+	// earlier 접미사 == later 접두사인 가장 긴 단어 수
+	private static int overlapWords(String[] earlier, String[] later) {
+		int max = Math.min(earlier.length, later.length);
+		for (int k = max; k > 0; k--) {
+			if (regionEquals(earlier, earlier.length - k, later, k) && charCount(later, k) >= MIN_OVERLAP_CHARS) {
+				return k;
+			}
+		}
+		return 0;
+	}
+
+	private static boolean regionEquals(String[] earlier, int from, String[] later, int count) {
+		for (int i = 0; i < count; i++) {
+			if (!earlier[from + i].equals(later[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int charCount(String[] words, int count) {
+		int chars = 0;
+		for (int i = 0; i < count; i++) {
+			chars += words[i].length();
+		}
+		return chars;
+	}
+
+	private static String[] split(String text) {
+		String trimmed = text.trim();
+		return trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+	}
+
+	private static String join(String[] words, int from, int to) {
+		return from >= to ? "" : String.join(" ", Arrays.copyOfRange(words, from, to));
+	}
+}
@@ -0,0 +1,55 @@
+package callprotector.spring.global.handler;
+
+import callprotector.spring.global.common.enums.CallTrack;
+import lombok.Getter;
+
+// Twilio Media Streams 메시지 1건의 파싱 결과 (연결당 1개 인스턴스를 재사용하므로 다음 decode 호출 전까지만 유효)
+@Getter
+public class TwilioMediaFrame {
+
+	public enum EventType {
+		CONNECTED, START, MEDIA, STOP, MARK, DTMF, UNKNOWN
+	}
+
+	private EventType event;
+	private CallTrack track;
+	private long sequenceNumber;
+	private long timestamp;
+	private boolean payloadPresent;
+
+	// Twilio는 20ms마다 μ-law 160바이트를 보내므로 기본 용량은 여유 있게 2프레임분
+	private final AudioFrameBuffer audio = new AudioFrameBuffer(320);
+
+	public boolean isMedia() {
+		return event == EventType.MEDIA;
+	}
+
+	void reset() {
+		event = null;
+		track = null;
+		sequenceNumber = -1;
+		timestamp = -1;
+		payloadPresent = false;
+		audio.reset();
+	}
+
+	void setEvent(EventType event) {
+		this.event = event;
+	}
+
+	void setTrack(CallTrack track) {
+		this.track = track;
+	}
+
+	void setSequenceNumber(long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+	}
+
+	void setTimestamp(long timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	void setPayloadPresent(boolean payloadPresent) {
+		this.payloadPresent = payloadPresent;
+	}
+}
@@ -0,0 +1,157 @@
+package callprotector.spring.global.handler;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import callprotector.spring.global.common.enums.CallTrack;
+
+// Twilio Media Streams 메시지를 JsonNode 트리 없이 스트리밍 파서로 해석하는 디코더
+// - 20ms마다 들어오는 media 프레임에서 event, track, sequenceNumber, timestamp, payload만 추출
+// - payload는 base64 디코딩 결과를 프레임의 재사용 버퍼(AudioFrameBuffer)에 바로 기록
+// - 연결(WebSocket 세션)당 1개씩 생성해서 재사용하며, 스레드 안전하지 않음
+public class TwilioMediaFrameDecoder {
+
+	private static final char[] EVENT_CONNECTED = "connected".toCharArray();
+	private static final char[] EVENT_START = "start".toCharArray();
+	private static final char[] EVENT_MEDIA = "media".toCharArray();
+	private static final char[] EVENT_STOP = "stop".toCharArray();
+	private static final char[] EVENT_MARK = "mark".toCharArray();
+	private static final char[] EVENT_DTMF = "dtmf".toCharArray();
+	private static final char[] TRACK_INBOUND = "inbound".toCharArray();
+	private static final char[] TRACK_OUTBOUND = "outbound".toCharArray();
+
+	private final JsonFactory jsonFactory;
+	private final TwilioMediaFrame frame = new TwilioMediaFrame();
+
+	public TwilioMediaFrameDecoder(JsonFactory jsonFactory) {
+		this.jsonFactory = jsonFactory;
+	}
+
+	// media 이벤트가 아니면 event만 채운 채로 즉시 반환 (start/stop 등은 호출 측에서 트리로 다시 파싱)
+	public TwilioMediaFrame decode(String message) throws IOException {
+		frame.reset();
+
+		try (JsonParser parser = jsonFactory.createParser(message)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				frame.setEvent(TwilioMediaFrame.EventType.UNKNOWN);
+				return frame;
+			}
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+
+				switch (field) {
+					case "event" -> {
+						TwilioMediaFrame.EventType event = readEvent(parser);
+						frame.setEvent(event);
+						if (event != TwilioMediaFrame.EventType.MEDIA) {
+							return frame;
+						}
+					}
+					case "sequenceNumber" -> frame.setSequenceNumber(readLong(parser, value));
+					case "media" -> readMedia(parser, value);
+					default -> parser.skipChildren();
+				}
+			}
+		}
+
+		if (frame.getEvent() == null) {
+			frame.setEvent(TwilioMediaFrame.EventType.UNKNOWN);
+		}
+		return frame;
+	}
+
+	private void readMedia(JsonParser parser, JsonToken value) throws IOException {
+		if (value != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return;
+		}
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken mediaValue = parser.nextToken();
+
+			switch (field) {
+				case "track" -> frame.setTrack(readTrack(parser));
+				case "timestamp" -> frame.setTimestamp(readLong(parser, mediaValue));
+				case "payload" -> readPayload(parser, mediaValue);
+				default -> parser.skipChildren();
+			}
+		}
+	}
+
+	// base64 문자열을 String으로 만들지 않고 입력 버퍼에서 바로 프레임 버퍼로 디코딩
+	private void readPayload(JsonParser parser, JsonToken value) throws IOException {
+		if (value != JsonToken.VALUE_STRING) {
+			parser.skipChildren();
+			return;
+		}
+		frame.getAudio().reset();
+		parser.readBinaryValue(Base64Variants.MIME_NO_LINEFEEDS, frame.getAudio());
+		frame.setPayloadPresent(true);
+	}
+
+	private TwilioMediaFrame.EventType readEvent(JsonParser parser) throws IOException {
+		if (matches(parser, EVENT_MEDIA)) return TwilioMediaFrame.EventType.MEDIA;
+		if (matches(parser, EVENT_START)) return TwilioMediaFrame.EventType.START;
+		if (matches(parser, EVENT_STOP)) return TwilioMediaFrame.EventType.STOP;
+		if (matches(parser, EVENT_MARK)) return TwilioMediaFrame.EventType.MARK;
+		if (matches(parser, EVENT_DTMF)) return TwilioMediaFrame.EventType.DTMF;
+		if (matches(parser, EVENT_CONNECTED)) return TwilioMediaFrame.EventType.CONNECTED;
+		return TwilioMediaFrame.EventType.UNKNOWN;
+	}
+
+	private CallTrack readTrack(JsonParser parser) throws IOException {
+		if (matches(parser, TRACK_INBOUND)) return CallTrack.INBOUND;
+		if (matches(parser, TRACK_OUTBOUND)) return CallTrack.OUTBOUND;
+		return null;
+	}
+
+	// Twilio는 숫자 필드를 문자열("12")로 보내므로 문자 배열에서 직접 변환 (String 생성 없음)
+	private long readLong(JsonParser parser, JsonToken value) throws IOException {
+		if (value == JsonToken.VALUE_NUMBER_INT) {
+			return parser.getLongValue();
+		}
+		if (value != JsonToken.VALUE_STRING) {
+			parser.skipChildren();
+			return -1;
+		}
+
+		char[] chars = parser.getTextCharacters();
+		int offset = parser.getTextOffset();
+		int length = parser.getTextLength();
+		if (length == 0) {
+			return -1;
+		}
+
+		long result = 0;
+		for (int i = offset; i < offset + length; i++) {
+			int digit = chars[i] - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			result = result * 10 + digit;
+		}
+		return result;
+	}
+
+	// 현재 문자열 토큰이 expected와 같은지 String 생성 없이 비교 (대소문자 무시)
+	private boolean matches(JsonParser parser, char[] expected) throws IOException {
+		if (parser.currentToken() != JsonToken.VALUE_STRING || parser.getTextLength() != expected.length) {
+			return false;
+		}
+		char[] chars = parser.getTextCharacters();
+		int offset = parser.getTextOffset();
+		for (int i = 0; i < expected.length; i++) {
+			if (Character.toLowerCase(chars[offset + i]) != expected[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
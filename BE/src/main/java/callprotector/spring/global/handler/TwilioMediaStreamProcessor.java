@@ -1,17 +1,21 @@
 package callprotector.spring.global.handler;
 
 import java.io.IOException;
-import java.util.Base64;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import callprotector.spring.global.client.FastClient;
+import callprotector.spring.global.abuse.TranscriptAbuseDetector;
+import callprotector.spring.global.client.SpeechClientProvider;
+import callprotector.spring.global.config.SttConfig;
 import callprotector.spring.global.common.enums.CallTrack;
 import callprotector.spring.domain.calllog.service.CallLogService;
 import callprotector.spring.domain.callsession.service.CallSessionService;
@@ -20,6 +24,11 @@ import callprotector.spring.domain.user.service.UserService;
 import callprotector.spring.domain.callsession.dto.request.CallSessionRequestDTO;
 
 import callprotector.spring.global.multimodal.ShoutingDetector;
+import callprotector.spring.global.pipeline.AudioFrameRing;
+import callprotector.spring.global.pipeline.CallPipeline;
+import callprotector.spring.global.pipeline.CallTimerWheel;
+import callprotector.spring.global.replay.CallRecorder;
+import callprotector.spring.global.replay.CallRecorderFactory;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,7 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class TwilioMediaStreamProcessor {
 	private final ObjectMapper mapper;
-	private final FastClient fastClient;
+	private final TranscriptAbuseDetector abuseDetector;
 	private final CallSessionService callSessionService;
 	private final CallLogService callLogService;
 	private final CallSttLogService callSttLogService;
@@ -37,23 +46,51 @@ public class TwilioMediaStreamProcessor {
 	private final ClientNotifier sttWebSocketHandler;
 	private final TwilioSessionManager twilioSessionManager;
 	private final ShoutingDetector shoutingDetector;
+	private final TwilioMediaFrameDecoder frameDecoder;
+	private final CallPipeline pipeline;
+	private final Map<CallTrack, AudioFrameRing> audioRings;
+	private final SttConfig.SttProperties sttProperties;
+	private final CallTimerWheel timerWheel;
+	private final SpeechClientProvider speechClientProvider;
+	private final StreamLifecyclePolicy streamLifecyclePolicy;
+	private final CallRecorderFactory callRecorderFactory;
+	private final SttCallbackExecutor sttCallbackExecutor;
+	private final boolean acceptUserIdParameter; // 부하 테스트용 customParameters.userId 허용 여부
 
 	private final Map<CallTrack, SttContext> sttContexts = new ConcurrentHashMap<>();
+	private final AtomicBoolean audioDrainScheduled = new AtomicBoolean(false);
+	private byte[] drainBuffer;
+	private CallTimerWheel.Handle flushTimer;
+	private CallRecorder recorder; // 녹화 대상 통화일 때만 존재 (WebSocket 수신 스레드에서만 사용)
 
 	private Long currentUserId;
 	private Long currentCallSessionId;
-	private String primaryCallSid;
+	private String primaryCallSid; // start 이벤트 처리 시 설정 - 등록/해제 모두 통화 파이프라인에서만 접근
 
-	private static final long STREAM_RESTART_INTERVAL_MS = 10_000;
 	private static final long TEMP_USERID = 1;
 
+	// WebSocket 수신 스레드에서는 파싱 후 통화 파이프라인에 넣기만 하고, STT/고함 감지/DB 작업은 파이프라인에서 순서대로 처리
 	public void handleTwilioMessage(WebSocketSession session, TextMessage message) throws Exception {
-		JsonNode json = mapper.readTree(message.getPayload());
+		// media 프레임은 스트리밍 파서로 처리하고, 드물게 오는 start 이벤트만 JsonNode 트리로 파싱
+		TwilioMediaFrame frame = frameDecoder.decode(message.getPayload());
 
-		if (json.has("event") && "start".equals(json.get("event").asText())) {
-			handleStartEvent(session, json);
-		} else if (json.has("event") && "media".equals(json.get("event").asText())) {
-			handleMediaEvent(session, json);
+		if (frame.isMedia()) {
+			if (recorder != null) {
+				recorder.writeMedia(frame);
+			}
+			enqueueMediaEvent(session, frame);
+		} else if (frame.getEvent() == TwilioMediaFrame.EventType.START) {
+			JsonNode json = mapper.readTree(message.getPayload());
+			if (recorder == null) {
+				recorder = callRecorderFactory.open(session.getId(), json, message.getPayload());
+			}
+			if (!pipeline.submit(() -> handleStartEvent(session, json))) {
+				// start 이벤트를 놓치면 STT 컨텍스트/세션 등록 없이 오디오만 쌓이므로 연결을 끊음
+				log.error("❌ 세션 {}의 start 이벤트를 파이프라인에 넣지 못해 연결을 종료합니다.", session.getId());
+				session.close(CloseStatus.SERVER_ERROR.withReason("start 이벤트 처리 실패"));
+			}
+		} else if (recorder != null) {
+			recorder.writeEvent(message.getPayload());
 		}
 	}
 
@@ -61,29 +98,59 @@ public class TwilioMediaStreamProcessor {
 		log.error("TwilioMediaStreamProcessor에서 오류 발생. CallSessionId: {}", currentCallSessionId, exception);
 	}
 
+	// 파이프라인에 남은 프레임을 모두 처리한 뒤 세션 정리를 실행
 	public void closeSession() {
+		if (recorder != null) {
+			recorder.close();
+			recorder = null;
+		}
+		pipeline.close(this::releaseSession);
+	}
+
+	private void releaseSession() {
+		if (flushTimer != null) {
+			flushTimer.cancel();
+		}
+
+		// start 이벤트 처리(등록)보다 항상 뒤에 실행되므로 등록된 CallSid를 그대로 해제
+		if (primaryCallSid != null) {
+			twilioSessionManager.unregisterProcessor(primaryCallSid, this);
+		} else {
+			log.warn("❗ 종료된 세션에 CallSid가 없어 TwilioSessionManager에서 제거할 수 없습니다.");
+		}
+
 		log.info("Closing STTContexts for CallSessionId: {}", currentCallSessionId);
 		// sttContexts 맵에 저장된 모든 STTContext 인스턴스에 대해 closeStream() 호출
-		sttContexts.values().forEach(SttContext::closeStream);
+		// 남은 최종 결과 처리/저장은 STT 후속 처리 스레드에서 이어서 실행되므로 파이프라인 워커는 기다리지 않음
+		CompletableFuture<?>[] closing = sttContexts.values().stream()
+			.map(SttContext::closeStream)
+			.toArray(CompletableFuture[]::new);
 
 		// ShoutingDetector 리소스 정리
 		if (this.shoutingDetector != null) {
 			this.shoutingDetector.close();
 		}
 
-		// CallSession의 endedAt 필드 업데이트
-		if (currentCallSessionId == null) {
+		// CallSession의 endedAt 필드 업데이트 (양쪽 트랙 STT 종료 처리가 끝난 뒤)
+		Long callSessionId = currentCallSessionId;
+		if (callSessionId == null) {
 			log.warn("CallSession ID가 null이므로, endedAt을 업데이트할 수 없습니다.");
 			return;
 		}
 
-		callSessionService.updateEndedAt(currentCallSessionId);
+		CompletableFuture.allOf(closing).whenComplete((ignored, error) -> {
+			try {
+				callSessionService.updateEndedAt(callSessionId);
+				log.info("✅ CallSessionId {}의 TwilioMediaStreamProcessor 정리 완료.", callSessionId);
+			} catch (Exception e) {
+				log.error("❌ CallSessionId {}의 endedAt 업데이트 실패", callSessionId, e);
+			}
+		});
 
 		// 세션 관련 정보 초기화
 		currentUserId = null;
 		currentCallSessionId = null;
 		sttContexts.clear();
-		log.info("✅ CallSessionId {}의 TwilioMediaStreamProcessor 정리 완료.", currentCallSessionId);
 	}
 
 	public void updateUserId(Long newUserId) {
@@ -100,13 +167,12 @@ public class TwilioMediaStreamProcessor {
 	}
 
 	public void handleCallAccepted() {
-		try {
+		// 오디오 전달과 같은 파이프라인에서 초기화해 순서를 보장
+		pipeline.submit(() -> {
 			// ShoutingDetector 초기화
-			shoutingDetector.initializeTarsosDSP(8000);
+			shoutingDetector.initialize(8000);
 			log.info("✅ 전화 수락 이벤트 수신. ShoutingDetector 초기화 완료.");
-		} catch (IOException e) {
-			log.error("ShoutingDetector 초기화 중 오류 발생", e);
-		}
+		});
 	}
 
 	private void handleStartEvent(WebSocketSession session, JsonNode json) {
@@ -126,17 +192,32 @@ public class TwilioMediaStreamProcessor {
 			new CallSessionRequestDTO.CallSessionMakeDTO(primaryCallSid, callerNumber)
 		);
 
+		// 부하 테스트: 상담원 수락 API 없이 customParameters.userId 상담원에게 바로 STT 결과를 전송
+		if (acceptUserIdParameter && customParams.hasNonNull("userId")) {
+			currentUserId = customParams.path("userId").asLong();
+			log.info("🧪 customParameters.userId={}로 상담원 연결 (부하 테스트)", currentUserId);
+		}
+
+		// 통화별 파이프라인 큐 / 트랙별 링 버퍼 지표 등록
+		pipeline.bindMetrics(currentCallSessionId);
+		audioRings.values().forEach(ring -> ring.bindMetrics(pipeline.getMetrics()));
+
 		try {
 			// INBOUND STTContext 생성 및 초기화
 			SttContext inboundCtx = new SttContext(
 				currentCallSessionId,
 				currentUserId,
 				CallTrack.INBOUND,
-				fastClient,
+				abuseDetector,
 				callSessionService,
 				callLogService,
 				callSttLogService,
-				sttWebSocketHandler
+				sttWebSocketHandler,
+				sttProperties,
+				speechClientProvider,
+				streamLifecyclePolicy,
+				timerWheel,
+				sttCallbackExecutor.executor()
 			);
 			inboundCtx.initializeStream(session.getId());
 			sttContexts.put(CallTrack.INBOUND, inboundCtx);
@@ -149,28 +230,73 @@ public class TwilioMediaStreamProcessor {
 				currentCallSessionId,
 				currentUserId,
 				CallTrack.OUTBOUND,
-				fastClient,
+				abuseDetector,
 				callSessionService,
 				callLogService,
 				callSttLogService,
-				sttWebSocketHandler
+				sttWebSocketHandler,
+				sttProperties,
+				speechClientProvider,
+				streamLifecyclePolicy,
+				timerWheel,
+				sttCallbackExecutor.executor()
 			);
 			outboundCtx.initializeStream(session.getId());
 			sttContexts.put(CallTrack.OUTBOUND, outboundCtx);
 
+			// 트랙별 스트림 교체 지표 등록
+			sttContexts.values().forEach(ctx -> ctx.bindMetrics(pipeline.getMetrics()));
+
+			// 프레임이 끊겨도 버퍼에 남은 오디오가 청크 길이 이상 머물지 않도록 공용 타이머 휠에서 주기적으로 전송 확인
+			flushTimer = timerWheel.scheduleRepeating(() -> scheduleAudioDrain(session), sttProperties.getChunk().getFlushTickMs());
+
 		} catch (IOException e) {
 			log.error("세션 {}에 대한 STT 컨텍스트 초기화 실패", session.getId(), e);
 			throw new RuntimeException("STT Context 초기화 실패", e);
 		}
 	}
 
-	private void handleMediaEvent(WebSocketSession session, JsonNode json) throws IOException {
-		String trackRaw = json.get("media").get("track").asText();
-		CallTrack track = CallTrack.valueOf(trackRaw.toUpperCase());
+	private void enqueueMediaEvent(WebSocketSession session, TwilioMediaFrame frame) {
+		CallTrack track = frame.getTrack();
+		if (track == null || !frame.isPayloadPresent()) {
+			log.warn("❗ 세션 {}의 media 프레임에 track 또는 payload가 없습니다. (sequenceNumber={})", session.getId(), frame.getSequenceNumber());
+			return;
+		}
+
+		// 디코딩된 μ-law 오디오는 다음 메시지를 파싱하면 덮어쓰이므로 트랙별 링 버퍼의 미리 할당된 칸으로 복사
+		AudioFrameBuffer audio = frame.getAudio();
+		audioRings.get(track).offer(audio.getData(), 0, audio.getLength());
+
+		scheduleAudioDrain(session);
+	}
 
-		String base64 = json.get("media").get("payload").asText();
-		byte[] audio = Base64.getDecoder().decode(base64);
+	// 링 버퍼를 비우는 작업은 통화당 최대 1개만 파이프라인에 대기
+	private void scheduleAudioDrain(WebSocketSession session) {
+		if (audioDrainScheduled.compareAndSet(false, true) && !pipeline.submit(() -> drainAudio(session))) {
+			audioDrainScheduled.set(false);
+		}
+	}
+
+	private void drainAudio(WebSocketSession session) {
+		// 플래그를 먼저 내려서, 비우는 도중 들어온 프레임은 다음 작업이 처리하도록 함
+		audioDrainScheduled.set(false);
+
+		for (Map.Entry<CallTrack, AudioFrameRing> entry : audioRings.entrySet()) {
+			AudioFrameRing ring = entry.getValue();
+			if (drainBuffer == null) {
+				drainBuffer = new byte[ring.getSlotBytes()];
+			}
 
+			int length;
+			while ((length = ring.poll(drainBuffer)) >= 0) {
+				handleMediaEvent(session, entry.getKey(), drainBuffer, length);
+			}
+		}
+
+		sttContexts.values().forEach(SttContext::flushIfDue);
+	}
+
+	private void handleMediaEvent(WebSocketSession session, CallTrack track, byte[] audio, int length) {
 		SttContext ctx = sttContexts.get(track);
 		if (ctx == null) {
 			log.warn("❗ 세션 {}의 트랙 {}에 대한 STTContext를 찾을 수 없습니다.", session.getId(), track);
@@ -178,22 +304,15 @@ public class TwilioMediaStreamProcessor {
 		}
 
 		// SttContext에 오디오 데이터 처리
-		ctx.processAudio(audio);
+		ctx.processAudio(audio, 0, length);
 
 		// ShoutingDetector에 오디오 데이터 전달 (INBOUND 트랙만 분석)
 		if (track == CallTrack.INBOUND) {
-			try {
-				shoutingDetector.transferAudio(audio);
-			} catch (IOException e) {
-				log.error("ShoutingDetector에서 오디오 처리 중 오류 발생. CallSessionId: {}", currentCallSessionId, e);
-			}
+			shoutingDetector.transferAudio(audio, 0, length);
 		}
 
-		long now = System.currentTimeMillis();
-
-		// 10초마다 stream 재시작 + 재시작 전 마지막 중간 텍스트 -> 강제 최종 텍스트로 처리
-		if (track == CallTrack.INBOUND && now - ctx.getLastStreamStartTime() >= STREAM_RESTART_INTERVAL_MS) {
-			ctx.restartStream(session.getId());
-		}
+		// 교체 정책(발화 경계 / 최대 수명)에 따라 양쪽 트랙 모두 stream 교체
+		// 새 스트림을 먼저 열고 이전 스트림은 최종 결과를 받은 뒤 정리
+		ctx.rotateIfDue(session.getId(), System.currentTimeMillis());
 	}
 }
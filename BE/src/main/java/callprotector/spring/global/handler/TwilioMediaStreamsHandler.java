@@ -1,6 +1,7 @@
 package callprotector.spring.global.handler;
 
-import callprotector.spring.global.client.FastClient;
+import callprotector.spring.global.abuse.TranscriptAbuseDetector;
+import callprotector.spring.global.client.SpeechClientProvider;
 import callprotector.spring.domain.calllog.service.CallLogService;
 import callprotector.spring.domain.callsession.service.CallSessionService;
 import callprotector.spring.domain.callsttlog.service.CallSttLogService;
@@ -8,10 +9,16 @@ import callprotector.spring.domain.callsttlog.service.CallSttLogService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import callprotector.spring.domain.user.service.UserService;
+import callprotector.spring.global.config.SttConfig;
 import callprotector.spring.global.multimodal.ShoutingDetector;
+import callprotector.spring.global.multimodal.ShoutingDetectorFactory;
+import callprotector.spring.global.pipeline.CallPipelineFactory;
+import callprotector.spring.global.pipeline.CallTimerWheel;
+import callprotector.spring.global.replay.CallRecorderFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
@@ -25,32 +32,54 @@ import java.util.concurrent.ConcurrentHashMap;
 public class TwilioMediaStreamsHandler extends AbstractWebSocketHandler {
 
     private final ObjectMapper mapper;
-    private final FastClient fastClient;
+    private final TranscriptAbuseDetector abuseDetector;
     private final CallSessionService callSessionService;
     private final CallLogService callLogService;
     private final CallSttLogService callSttLogService;
     private final UserService userService;
     private final ClientNotifier sttWebSocketHandler;
     private final TwilioSessionManager sessionManager;
+    private final CallPipelineFactory callPipelineFactory;
+    private final CallTimerWheel callTimerWheel;
+    private final SttConfig.SttProperties sttProperties;
+    private final SpeechClientProvider speechClientProvider;
+    private final StreamLifecyclePolicy streamLifecyclePolicy;
+    private final CallRecorderFactory callRecorderFactory;
+    private final ShoutingDetectorFactory shoutingDetectorFactory;
+    private final SttCallbackExecutor sttCallbackExecutor;
 
     private final Map<String, TwilioMediaStreamProcessor> activeProcessors = new ConcurrentHashMap<>();
 
+    // 부하 테스트 시 start 이벤트의 customParameters.userId로 상담원을 바로 지정할지 여부 (운영에서는 false)
+    @Value("${call.loadtest.accept-user-id:false}")
+    private boolean acceptUserIdParameter;
+
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
         log.info("✅ WebSocket 연결됨: {}", session.getId());
 
-        ShoutingDetector shoutingDetector = new ShoutingDetector();
+        ShoutingDetector shoutingDetector = shoutingDetectorFactory.create(session.getId());
 
         TwilioMediaStreamProcessor processor = new TwilioMediaStreamProcessor(
             this.mapper,
-            this.fastClient,
+            this.abuseDetector,
             this.callSessionService,
             this.callLogService,
             this.callSttLogService,
             this.userService,
             this.sttWebSocketHandler,
             this.sessionManager,
-            shoutingDetector
+            shoutingDetector,
+            new TwilioMediaFrameDecoder(this.mapper.getFactory()),
+            callPipelineFactory.create(session.getId()),
+            callPipelineFactory.createAudioRings(),
+            this.sttProperties,
+            this.callTimerWheel,
+            this.speechClientProvider,
+            this.streamLifecyclePolicy,
+            this.callRecorderFactory,
+            this.sttCallbackExecutor,
+            this.acceptUserIdParameter
         );
         activeProcessors.put(session.getId(), processor);
     }
@@ -79,15 +108,10 @@ public class TwilioMediaStreamsHandler extends AbstractWebSocketHandler {
             return;
         }
 
-        String callSid = processor.getPrimaryCallSid();
-        if (callSid != null) {
-            sessionManager.unregisterProcessor(callSid);
-        } else {
-            log.warn("❗ 종료된 세션 {}에 CallSid가 없어 TwilioSessionManager에서 제거할 수 없습니다.", session.getId());
-        }
-
+        // TwilioSessionManager 등록 해제를 포함한 정리 작업은 남은 프레임 처리 후 통화 파이프라인에서 실행됨
+        // (CallSid는 start 이벤트를 처리하는 파이프라인에서 정해지므로 이 스레드에서 읽지 않음)
         processor.closeSession();
-        log.info("✅ 세션 {}의 TwilioMediaStreamProcessor 정리 완료.", session.getId());
+        log.info("✅ 세션 {}의 TwilioMediaStreamProcessor 정리 요청 완료.", session.getId());
     }
 
     @Override
@@ -19,7 +19,8 @@ public class TwilioSessionManager {
 		return callSidToProcessor.get(callSid);
 	}
 
-	public void unregisterProcessor(String callSid) {
-		callSidToProcessor.remove(callSid);
+	// 같은 CallSid로 새 프로세서가 이미 등록됐으면 그대로 둠 (재연결 시 이전 세션 정리가 늦게 실행되는 경우)
+	public void unregisterProcessor(String callSid, TwilioMediaStreamProcessor processor) {
+		callSidToProcessor.remove(callSid, processor);
 	}
 }
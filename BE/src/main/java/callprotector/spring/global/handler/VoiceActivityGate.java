@@ -0,0 +1,89 @@
+package callprotector.spring.global.handler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import callprotector.spring.global.multimodal.AudioLevels;
+
+// STT 전송 전 음성 구간만 통과시키는 에너지 기반 VAD 게이트 (SttContext당 1개)
+// - 프레임 세기가 thresholdDb 이상이면 음성으로 보고 게이트를 열고, 마지막 음성 이후 hangoverMs 동안은 열린 상태 유지 (말끝 보존)
+// - 닫혀 있는 동안의 오디오는 preRollMs만큼 보관했다가 게이트가 열릴 때 먼저 내보냄 (첫 음절 보존)
+// - 세기 기준(dB)은 ShoutingDetector와 같은 AudioLevels 계산을 사용
+// - 프레임 처리 스레드(CallPipeline)에서만 호출하므로 스레드 안전하지 않음 (지표 값만 다른 스레드에서 읽음)
+public class VoiceActivityGate {
+
+	private static final int BYTES_PER_SECOND = 8000; // 8kHz μ-law, 1바이트/샘플
+
+	private final boolean enabled;
+	private final double thresholdDb;
+	private final long hangoverMs;
+	private final AudioHistory preRoll;
+	private final int preRollCapacity;
+
+	private boolean open = false;
+	private boolean justOpened = false;
+	private long lastVoiceAt = 0L;
+
+	private final AtomicLong suppressedBytes = new AtomicLong();
+
+	public VoiceActivityGate(boolean enabled, double thresholdDb, long hangoverMs, long preRollMs) {
+		this.enabled = enabled;
+		this.thresholdDb = thresholdDb;
+		this.hangoverMs = hangoverMs;
+		this.preRollCapacity = (int) (preRollMs * BYTES_PER_SECOND / 1000);
+		this.preRoll = new AudioHistory(preRollCapacity);
+	}
+
+	// 프레임을 STT로 보내야 하면 true, 무음 구간이라 보내지 않으면 false
+	public boolean admit(byte[] audio, int offset, int length, long now) {
+		if (!enabled) {
+			return true;
+		}
+
+		boolean voice = AudioLevels.toDecibel(AudioLevels.rmsOfULaw(audio, offset, length)) >= thresholdDb;
+		if (voice) {
+			lastVoiceAt = now;
+		}
+
+		boolean wasOpen = open;
+		open = voice || (open && now - lastVoiceAt <= hangoverMs);
+
+		if (!open) {
+			// pre-roll에서 밀려나는 오래된 오디오만 생략량에 더함 (남은 분량은 게이트가 열리면 전송됨)
+			int discarded = preRoll.size() + length - preRollCapacity;
+			if (discarded > 0) {
+				suppressedBytes.addAndGet(discarded);
+			}
+			preRoll.append(audio, offset, length);
+			return false;
+		}
+		if (!wasOpen) {
+			justOpened = true;
+		}
+		return true;
+	}
+
+	// 게이트가 방금 열렸다면 보관해 둔 직전 오디오를 꺼내고 비움 (없으면 null)
+	public byte[] takePreRoll() {
+		if (!justOpened) {
+			return null;
+		}
+		justOpened = false;
+		if (preRoll.size() == 0) {
+			return null;
+		}
+
+		byte[] audio = preRoll.toByteArray();
+		preRoll.clear();
+		return audio;
+	}
+
+	public boolean isOpen() {
+		return !enabled || open;
+	}
+
+	// 전송하지 않고 버린 오디오 길이(초) - 버린 뒤에는 줄지 않으므로 카운터로 노출 가능
+	// - pre-roll에 보관 중인 분량(최대 preRollMs)은 아직 버린 것이 아니므로 포함하지 않음
+	public double getSuppressedSeconds() {
+		return (double) suppressedBytes.get() / BYTES_PER_SECOND;
+	}
+}
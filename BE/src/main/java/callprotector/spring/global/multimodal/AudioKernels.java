@@ -0,0 +1,82 @@
+package callprotector.spring.global.multimodal;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 분석 창(float[])에 대한 산술 커널 - 제곱합(RMS), 최대 진폭, 영교차 수
+// - jdk.incubator.vector 모듈이 로드돼 있으면(--add-modules jdk.incubator.vector) SIMD 구현, 아니면 스칼라 구현 사용
+// - SIMD 구현(VectorAudioKernels)은 src/vector 소스셋에 있어 이름으로 로드 (main은 인큐베이터 모듈 없이 컴파일)
+// - -Daudio.kernels.scalar=true 로 스칼라 구현을 강제할 수 있음 (벤치마크 비교용)
+@Slf4j
+public final class AudioKernels {
+
+	private static final String SIMD_IMPLEMENTATION = "callprotector.spring.global.multimodal.VectorAudioKernels";
+
+	static final Simd SIMD = loadSimd();
+
+	static {
+		log.info("✅ 오디오 분석 커널: {}", SIMD != null ? "SIMD (jdk.incubator.vector)" : "스칼라");
+	}
+
+	private AudioKernels() {
+	}
+
+	// SIMD 구현 - AudioKernels와 같은 시그니처
+	interface Simd {
+		double sumOfSquares(float[] samples, int offset, int length);
+
+		float peak(float[] samples, int offset, int length);
+
+		int zeroCrossings(float[] samples, int offset, int length);
+	}
+
+	private static Simd loadSimd() {
+		if (Boolean.getBoolean("audio.kernels.scalar") || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+			return null;
+		}
+		try {
+			return (Simd) Class.forName(SIMD_IMPLEMENTATION).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			log.warn("⚠️ SIMD 오디오 커널 로드 실패 - 스칼라 구현 사용: {}", e.toString());
+			return null;
+		}
+	}
+
+	public static double sumOfSquares(float[] samples, int offset, int length) {
+		return SIMD != null ? SIMD.sumOfSquares(samples, offset, length) : scalarSumOfSquares(samples, offset, length);
+	}
+
+	public static float peak(float[] samples, int offset, int length) {
+		return SIMD != null ? SIMD.peak(samples, offset, length) : scalarPeak(samples, offset, length);
+	}
+
+	// 인접한 두 샘플의 부호가 바뀐 횟수 (0은 부호 변화로 보지 않음)
+	public static int zeroCrossings(float[] samples, int offset, int length) {
+		return SIMD != null ? SIMD.zeroCrossings(samples, offset, length) : scalarZeroCrossings(samples, offset, length);
+	}
+
+	static double scalarSumOfSquares(float[] samples, int offset, int length) {
+		double sum = 0;
+		for (int i = offset; i < offset + length; i++) {
+			sum += samples[i] * samples[i];
+		}
+		return sum;
+	}
+
+	static float scalarPeak(float[] samples, int offset, int length) {
+		float peak = 0;
+		for (int i = offset; i < offset + length; i++) {
+			peak = Math.max(peak, Math.abs(samples[i]));
+		}
+		return peak;
+	}
+
+	static int scalarZeroCrossings(float[] samples, int offset, int length) {
+		int crossings = 0;
+		for (int i = offset; i < offset + length - 1; i++) {
+			if (samples[i] * samples[i + 1] < 0) {
+				crossings++;
+			}
+		}
+		return crossings;
+	}
+}
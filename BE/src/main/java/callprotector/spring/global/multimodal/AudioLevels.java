@@ -0,0 +1,41 @@
+package callprotector.spring.global.multimodal;
+
+// 오디오 세기(RMS/dB) 계산 유틸 - ShoutingDetector(고함 감지)와 VoiceActivityGate(STT 전송 전 음성 구간 판별)가 같은 기준을 사용
+public final class AudioLevels {
+
+	public static final double SILENCE_DB = -100.0;
+
+	private static final double DB_REFERENCE = 0.001; // 0dB 기준 진폭 (정규화된 PCM 기준)
+
+	private AudioLevels() {
+	}
+
+	// 정규화된(-1.0 ~ 1.0) PCM 샘플의 RMS
+	public static double rms(float[] samples) {
+		return rms(samples, 0, samples.length);
+	}
+
+	public static double rms(float[] samples, int offset, int length) {
+		if (length == 0) {
+			return 0;
+		}
+		return Math.sqrt(AudioKernels.sumOfSquares(samples, offset, length) / length);
+	}
+
+	// u-law 바이트를 정규화된 float 테이블로 바로 변환하면서 RMS 계산 (변환 배열을 만들지 않음)
+	public static double rmsOfULaw(byte[] ulaw, int offset, int length) {
+		if (length == 0) {
+			return 0;
+		}
+		double sum = 0;
+		for (int i = offset; i < offset + length; i++) {
+			float sample = ULawDecoder.uLawToFloat(ulaw[i]);
+			sum += sample * sample;
+		}
+		return Math.sqrt(sum / length);
+	}
+
+	public static double toDecibel(double rms) {
+		return rms > 0 ? 20 * Math.log10(rms / DB_REFERENCE) : SILENCE_DB;
+	}
+}
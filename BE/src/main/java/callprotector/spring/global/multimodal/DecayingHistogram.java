@@ -0,0 +1,79 @@
+package callprotector.spring.global.multimodal;
+
+// 고정 구간(bin) 히스토그램 기반 스트리밍 분위수(중앙값) 추정기 - 통화당 메모리 고정, 정렬/박싱 없음
+// - 오래된 표본일수록 가중치가 지수적으로 줄어(halfLife 표본마다 절반) 통화 중 목소리 변화를 따라감
+// - 감쇠는 표본마다 전체 구간을 곱하지 않고 새 표본의 가중치를 키우는 방식으로 처리 (너무 커지면 한 번 재조정)
+// - 범위를 벗어난 값은 양 끝 구간에 넣으며, 분위수는 구간 안에서 선형 보간
+// - ShoutingDetector의 DSP 작업에서만 사용하므로 스레드 안전하지 않음
+final class DecayingHistogram {
+
+	private static final double RESCALE_LIMIT = 1e100;
+
+	private final double min;
+	private final double binWidth;
+	private final double[] weights;
+	private final double growth; // 표본마다 새 가중치에 곱하는 값 (= 1 / 감쇠율)
+
+	private double increment = 1.0;
+	private double total;
+	private long count;
+
+	// halfLife: 가중치가 절반이 되는 표본 수 (0 이하면 감쇠 없음)
+	DecayingHistogram(double min, double max, int bins, double halfLife) {
+		this.min = min;
+		this.binWidth = (max - min) / bins;
+		this.weights = new double[bins];
+		this.growth = halfLife > 0 ? Math.pow(2.0, 1.0 / halfLife) : 1.0;
+	}
+
+	void add(double value) {
+		int bin = (int) ((value - min) / binWidth);
+		bin = Math.max(0, Math.min(weights.length - 1, bin));
+		weights[bin] += increment;
+		total += increment;
+		count++;
+
+		increment *= growth;
+		if (increment > RESCALE_LIMIT) {
+			rescale();
+		}
+	}
+
+	// q (0~1) 분위수, 표본이 없으면 NaN
+	double quantile(double q) {
+		if (total <= 0) {
+			return Double.NaN;
+		}
+		double target = q * total;
+		double cumulative = 0;
+		for (int bin = 0; bin < weights.length; bin++) {
+			double weight = weights[bin];
+			if (weight > 0 && cumulative + weight >= target) {
+				return min + binWidth * (bin + (target - cumulative) / weight);
+			}
+			cumulative += weight;
+		}
+		return min + binWidth * weights.length;
+	}
+
+	double median() {
+		return quantile(0.5);
+	}
+
+	boolean isEmpty() {
+		return count == 0;
+	}
+
+	long count() {
+		return count;
+	}
+
+	private void rescale() {
+		double scale = 1.0 / increment;
+		for (int bin = 0; bin < weights.length; bin++) {
+			weights[bin] *= scale;
+		}
+		total *= scale;
+		increment = 1.0;
+	}
+}
@@ -0,0 +1,29 @@
+package callprotector.spring.global.multimodal;
+
+import io.micrometer.core.instrument.Counter;
+
+// 창 세기가 gateDb보다 낮으면 피치 추정을 건너뛰는 래퍼
+// - 말하지 않는 구간(통화 시간의 대부분)에는 YIN 등을 돌리지 않음
+// - 건너뛴 창은 무성(UNPITCHED)으로 처리되어 고함 판정과 기준값 수집에서 빠짐
+// - ShoutingDetector도 같은 gateDb 아래 창은 기준값 수집에서 제외하므로 게이트 유무와 관계없이 기준값이 같음
+class EnergyGatedPitchEstimator implements PitchEstimator {
+
+	private final PitchEstimator delegate;
+	private final double gateDb;
+	private final Counter skippedWindows;
+
+	EnergyGatedPitchEstimator(PitchEstimator delegate, double gateDb, Counter skippedWindows) {
+		this.delegate = delegate;
+		this.gateDb = gateDb;
+		this.skippedWindows = skippedWindows;
+	}
+
+	@Override
+	public PitchEstimate estimate(float[] window) {
+		if (AudioLevels.toDecibel(AudioLevels.rms(window)) < gateDb) {
+			skippedWindows.increment();
+			return PitchEstimate.UNPITCHED;
+		}
+		return delegate.estimate(window);
+	}
+}
@@ -0,0 +1,29 @@
+package callprotector.spring.global.multimodal;
+
+// 분석 창 1개의 피치 추정기 (ShoutingDetector가 통화마다 1개 생성해 DSP 작업에서만 사용하므로 스레드 안전하지 않아도 됨)
+// - 구현: YIN(TarsosDSP), FFT 기반 YIN(TarsosDSP FastYin), 2배 데시메이션 자기상관, 저에너지 창 건너뛰기(EnergyGatedPitchEstimator)
+public interface PitchEstimator {
+
+	// window: 정규화된(-1.0 ~ 1.0) 샘플 - 호출 후 다시 쓰이므로 보관하지 말 것
+	PitchEstimate estimate(float[] window);
+
+	// 통화별 추정기 생성 (sampleRate, 창 크기는 ShoutingDetector 초기화 시점에 정해짐)
+	@FunctionalInterface
+	interface Factory {
+		PitchEstimator create(float sampleRate, int windowSize);
+	}
+
+	// pitchHz < 0 이면 피치 없음
+	record PitchEstimate(float pitchHz, float probability) {
+
+		public static final PitchEstimate UNPITCHED = new PitchEstimate(-1f, 0f);
+
+		private static final float MIN_VOICE_PITCH_HZ = 80f;
+		private static final float MIN_VOICE_PROBABILITY = 0.7f;
+
+		// 고함 감지에서 음성으로 보는 기준
+		public boolean isVoiced() {
+			return pitchHz > MIN_VOICE_PITCH_HZ && probability > MIN_VOICE_PROBABILITY;
+		}
+	}
+}
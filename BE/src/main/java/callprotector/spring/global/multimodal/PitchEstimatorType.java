@@ -0,0 +1,43 @@
+package callprotector.spring.global.multimodal;
+
+import be.tarsos.dsp.pitch.FastYin;
+import be.tarsos.dsp.pitch.Yin;
+import io.micrometer.core.instrument.Counter;
+
+// 고함 감지 피치 추정 방식 (call.dsp.pitch.estimator)
+public enum PitchEstimatorType implements PitchEstimator.Factory {
+
+	// TarsosDSP YIN - 기준 구현 (창 길이² 차분 함수)
+	YIN {
+		@Override
+		public PitchEstimator create(float sampleRate, int windowSize) {
+			return new TarsosPitchEstimator(new Yin(sampleRate, windowSize));
+		}
+	},
+
+	// TarsosDSP FastYin - 차분 함수를 FFT로 계산하는 YIN (결과는 YIN과 거의 같음)
+	FAST_YIN {
+		@Override
+		public PitchEstimator create(float sampleRate, int windowSize) {
+			return new TarsosPitchEstimator(new FastYin(sampleRate, windowSize));
+		}
+	},
+
+	// 2배 데시메이션 + 자기상관 - 가장 가벼움
+	DECIMATED_AUTOCORRELATION {
+		@Override
+		public PitchEstimator create(float sampleRate, int windowSize) {
+			return new DecimatedAutocorrelationPitchEstimator(sampleRate, windowSize);
+		}
+	};
+
+	// 세기 기준(gateDb)을 넘는 창만 추정하는 생성기 (gateDb가 무음 기준 이하면 항상 추정)
+	// - 건너뛴 창 수는 skippedWindows에 누적
+	public PitchEstimator.Factory gated(double gateDb, Counter skippedWindows) {
+		if (gateDb <= AudioLevels.SILENCE_DB) {
+			return this;
+		}
+		return (sampleRate, windowSize) -> new EnergyGatedPitchEstimator(create(sampleRate, windowSize), gateDb,
+			skippedWindows);
+	}
+}
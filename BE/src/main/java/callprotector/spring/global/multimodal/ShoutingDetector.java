@@ -1,36 +1,32 @@
 package callprotector.spring.global.multimodal;
 
-import java.io.IOException;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.ArrayDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.IntStream;
-
-import be.tarsos.dsp.AudioDispatcher;
-import be.tarsos.dsp.AudioEvent;
-import be.tarsos.dsp.AudioProcessor;
-import be.tarsos.dsp.pitch.PitchDetectionHandler;
-import be.tarsos.dsp.pitch.PitchProcessor;
-import be.tarsos.dsp.io.TarsosDSPAudioFormat;
-import be.tarsos.dsp.io.TarsosDSPAudioInputStream;
+import java.util.concurrent.atomic.AtomicLong;
 
 import callprotector.spring.global.handler.SttContext;
+import callprotector.spring.global.pipeline.CallPipeline;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+// 통화 1건의 고함 감지 상태 (ShoutingDetectorFactory가 생성)
+// - transferAudio는 통화 파이프라인 스레드에서 μ-law를 float 분석 창에 바로 디코딩하고,
+//   창이 가득 차면 공용 DSP 워커 풀(dspPipeline)에 피치(PitchEstimator)/세기 분석을 넘김
+// - 분석 창은 미리 만든 몇 개를 돌려 쓰며, 남은 창이 없으면(DSP 지연) 그 창은 분석하지 않고 버림
+// - 분석 상태(기준값 수집, 임계값)는 DSP 작업에서만 바뀌고, 통화별 파이프라인이 한 번에 하나씩 실행하므로 잠금 불필요
+// - 기준 피치/볼륨은 감쇠 히스토그램(DecayingHistogram)의 중앙값으로, 첫 기준값 설정 후에도
+//   고함이 아닌 음성 구간으로 주기적으로 다시 계산해 통화 중 목소리 변화를 따라감
 @Slf4j
 @Getter
-@RequiredArgsConstructor
 public class ShoutingDetector {
-	private final List<Double> basePitches = new ArrayList<>();
-	private final List<Double> baseVolumes = new ArrayList<>();
+	private static final int WINDOW_SIZE = 1024; // 기존 AudioDispatcher 버퍼 크기 (겹침 없음)
+
+	@Getter(AccessLevel.NONE)
+	private DecayingHistogram basePitches; // initialize에서 생성 (감쇠 주기가 sampleRate에 따라 달라짐)
+	@Getter(AccessLevel.NONE)
+	private DecayingHistogram baseVolumes;
 
 	private double shoutingPitchThreshold;
 	private double shoutingVolumeThreshold;
@@ -38,17 +34,25 @@ public class ShoutingDetector {
 	private final AtomicBoolean isBaselineSet = new AtomicBoolean(false);
 
 	private volatile double accumulatedBaselineDuration = 0;
+	@Getter(AccessLevel.NONE)
+	private double sinceRecalibration = 0; // 마지막 재계산 이후 누적한 음성 구간 길이(초)
 
 	private volatile boolean isVoiceDetected = false;
 
-	private AudioDispatcher dispatcher;
-	private PitchProcessor pitchProcessor;
-	private PipedOutputStream pipedOutputStream;
-	private PipedInputStream pipedInputStream;
 	private boolean isHighPitchUser;
 	private float lastKnownPitch = -1.0f;
 
 	private static final double BASELINE_PERIOD_SECONDS = 1.5;
+	private static final double RECALIBRATION_INTERVAL_SECONDS = 5.0; // 기준값 재계산 주기 (음성 구간 기준)
+	private static final double BASELINE_HALF_LIFE_SECONDS = 30.0; // 이만큼 지난 음성 표본은 가중치 절반
+
+	// 기준값 히스토그램 범위 (피치는 350Hz 초과 시 절반으로 접으므로 80~350Hz, 볼륨은 정규화 PCM 기준 최대 약 60dB)
+	private static final double PITCH_HISTOGRAM_MIN_HZ = 50.0;
+	private static final double PITCH_HISTOGRAM_MAX_HZ = 400.0;
+	private static final int PITCH_HISTOGRAM_BINS = 350; // 1Hz 간격
+	private static final double VOLUME_HISTOGRAM_MIN_DB = 0.0;
+	private static final double VOLUME_HISTOGRAM_MAX_DB = 80.0;
+	private static final int VOLUME_HISTOGRAM_BINS = 320; // 0.25dB 간격
 	private static final double PITCH_INCREASE_FACTOR_HIGH = 1.15; // TODO: 피치 변화율1
 	private static final double PITCH_INCREASE_FACTOR_LOW = 1.69; // TODO: 피치 변화율2
 	private static final double PITCH_BOUNDARY = 165.0; // 피치 높낮이 구분 기준
@@ -60,169 +64,209 @@ public class ShoutingDetector {
 	private double provisionalBaseVolumeDb = DEFAULT_BASELINE_VOLUME_DB;
 
 	@Setter
-    private SttContext sttContext;
-
-	public void initializeTarsosDSP(int sampleRate) throws IOException {
-		if (dispatcher == null) {
-			pipedOutputStream = new PipedOutputStream();
-			pipedInputStream = new PipedInputStream(pipedOutputStream);
-
-			// TarsosDSPAudioFormat을 사용하여 포맷 정의
-			TarsosDSPAudioFormat tarsosDSPFormat = new TarsosDSPAudioFormat(
-				TarsosDSPAudioFormat.Encoding.PCM_SIGNED,
-				sampleRate,
-				16,  // 16-bit
-				1,   // mono
-				2,   // 2 bytes per frame
-				sampleRate,
-				false
-			);
-
-			// TarsosDSPAudioInputStream을 직접 구현하여 PipedInputStream과 연결
-			TarsosDSPAudioInputStream audioStream = new TarsosDSPAudioInputStream() {
-				@Override
-				public TarsosDSPAudioFormat getFormat() {
-					return tarsosDSPFormat;
-				}
+	private SttContext sttContext;
+
+	@Getter(AccessLevel.NONE)
+	private final CallPipeline dspPipeline;
+	@Getter(AccessLevel.NONE)
+	private final ArrayDeque<float[]> freeWindows = new ArrayDeque<>(); // 분석이 끝나 다시 쓸 수 있는 창
+	@Getter(AccessLevel.NONE)
+	private final Object windowLock = new Object();
+	@Getter(AccessLevel.NONE)
+	private final AtomicLong droppedWindows = new AtomicLong();
+
+	@Getter(AccessLevel.NONE)
+	private final PitchEstimator.Factory pitchEstimatorFactory;
+	@Getter(AccessLevel.NONE)
+	private final double baselineFloorDb; // 이보다 조용한 창은 기준값 수집에서 제외 (피치 게이트 gate-db와 같은 값)
+	@Getter(AccessLevel.NONE)
+	private PitchEstimator pitchEstimator; // DSP 작업에서만 사용 (추정기 내부 버퍼 재사용)
+	@Getter(AccessLevel.NONE)
+	private float sampleRate;
+	@Getter(AccessLevel.NONE)
+	private float[] window; // 채우는 중인 창 (통화 파이프라인 스레드 전용)
+	@Getter(AccessLevel.NONE)
+	private int windowFill;
+	@Getter(AccessLevel.NONE)
+	private int skipRemaining; // 남은 창이 없어 분석 없이 넘길 샘플 수
+
+	ShoutingDetector(CallPipeline dspPipeline, int windowCount, PitchEstimator.Factory pitchEstimatorFactory,
+		double baselineFloorDb) {
+		this.dspPipeline = dspPipeline;
+		this.pitchEstimatorFactory = pitchEstimatorFactory;
+		this.baselineFloorDb = baselineFloorDb;
+		for (int i = 0; i < windowCount; i++) {
+			freeWindows.add(new float[WINDOW_SIZE]);
+		}
+	}
 
-				@Override
-				public long skip(long bytesToSkip) throws IOException {
-					return pipedInputStream.skip(bytesToSkip);
-				}
+	public void initialize(int sampleRate) {
+		if (pitchEstimator != null) {
+			return;
+		}
+		this.sampleRate = sampleRate;
+		this.pitchEstimator = pitchEstimatorFactory.create(sampleRate, WINDOW_SIZE);
+
+		double halfLifeWindows = BASELINE_HALF_LIFE_SECONDS * sampleRate / WINDOW_SIZE;
+		this.basePitches = new DecayingHistogram(PITCH_HISTOGRAM_MIN_HZ, PITCH_HISTOGRAM_MAX_HZ,
+			PITCH_HISTOGRAM_BINS, halfLifeWindows);
+		this.baseVolumes = new DecayingHistogram(VOLUME_HISTOGRAM_MIN_DB, VOLUME_HISTOGRAM_MAX_DB,
+			VOLUME_HISTOGRAM_BINS, halfLifeWindows);
+		this.window = takeWindow();
+
+		// 임시 임계값 적용
+		setThresholdsFrom(provisionalBasePitchHz, provisionalBaseVolumeDb, false);
+	}
 
-				@Override
-				public int read(byte[] buffer, int offset, int length) throws IOException {
-					return pipedInputStream.read(buffer, offset, length);
-				}
+	// u-law 오디오를 분석 창에 바로 디코딩 (PCM 바이트 변환/복사 없음)
+	public void transferAudio(byte[] audioData, int offset, int length) {
+		if (pitchEstimator == null) {
+			log.info("🗑️초기화 전 오디오 데이터는 버림");
+			return;
+		}
 
-				@Override
-				public void close() throws IOException {
-					pipedInputStream.close();
+		int position = offset;
+		int end = offset + length;
+		while (position < end) {
+			if (window == null) {
+				// 남은 창이 없으면(DSP 지연) 창 하나 분량의 오디오를 분석하지 않고 넘김
+				if (skipRemaining == 0 && (window = takeWindow()) == null) {
+					skipRemaining = WINDOW_SIZE;
+					if (droppedWindows.incrementAndGet() % 100 == 1) {
+						log.warn("❗ 고함 감지 분석 지연 - 분석 창 버림 (누적 {}개)", droppedWindows.get());
+					}
 				}
-
-				@Override
-				public long getFrameLength() {
-					return -1;
+				if (window == null) {
+					int skipped = Math.min(skipRemaining, end - position);
+					skipRemaining -= skipped;
+					position += skipped;
+					continue;
 				}
-			};
-
-			dispatcher = new AudioDispatcher(audioStream, 1024, 0);
-
-			// 임시 임계값 적용
-			setThresholdsFrom(provisionalBasePitchHz, provisionalBaseVolumeDb, false);
+			}
 
-			// 피치 분석 핸들러
-			PitchDetectionHandler pitchHandler = (pitchDetectionResult, audioEvent) -> {
-				float pitchInHz = pitchDetectionResult.getPitch();
-				float probability = pitchDetectionResult.getProbability();
+			int count = Math.min(WINDOW_SIZE - windowFill, end - position);
+			ULawDecoder.decode(audioData, position, count, window, windowFill);
+			windowFill += count;
+			position += count;
 
-				// 피치값이 0보다 클 때를 음성으로 간주
-				log.info("pitchInHz = {}", pitchInHz);
+			if (windowFill == WINDOW_SIZE) {
+				submitWindow(window);
+				window = takeWindow();
+				windowFill = 0;
+			}
+		}
+	}
 
-				if (pitchInHz > 80 && probability > 0.7f) {
-					if (pitchInHz > 350f) {
-						pitchInHz *= 0.5f;
-					}
-					this.isVoiceDetected = true;
-					this.lastKnownPitch = pitchInHz;
-				} else {
-					this.isVoiceDetected = false;
-					this.lastKnownPitch = -1.0f;
-				}
+	private void submitWindow(float[] full) {
+		if (!dspPipeline.submit(() -> analyze(full))) {
+			releaseWindow(full);
+		}
+	}
 
-				if (!isBaselineSet.get() && this.isVoiceDetected) {
-					// 유효한 피치 데이터가 있을 때만 누적 시간과 데이터를 추가
-					basePitches.add((double) this.lastKnownPitch);
-					accumulatedBaselineDuration += audioEvent.getBufferSize() / audioEvent.getSampleRate();
-					log.info("⭐ 기준 피치 수집 중: {}Hz (누적 시간: {}s)", pitchInHz, accumulatedBaselineDuration);
+	private float[] takeWindow() {
+		synchronized (windowLock) {
+			return freeWindows.poll();
+		}
+	}
 
-					// 누적 시간이 3초를 초과하면 기준값 설정
-					if (accumulatedBaselineDuration >= BASELINE_PERIOD_SECONDS && !isBaselineSet.get()) {
-						calculateBaselineAndSetThreshold();
-						log.info("✅ 기준값 수집 완료.");
-					}
-				}
+	private void releaseWindow(float[] used) {
+		synchronized (windowLock) {
+			freeWindows.add(used);
+		}
+	}
 
+	// 분석 창 1개 처리 (DSP 워커) - 피치 분석 후 세기 분석 (기존 AudioDispatcher 처리 순서와 동일)
+	private void analyze(float[] buffer) {
+		try {
+			detectPitch(pitchEstimator.estimate(buffer));
+			if (log.isDebugEnabled()) {
+				log.debug("peak = {}, zeroCrossings = {}", AudioKernels.peak(buffer, 0, WINDOW_SIZE),
+					AudioKernels.zeroCrossings(buffer, 0, WINDOW_SIZE));
+			}
+			detectShouting(AudioLevels.toDecibel(AudioLevels.rms(buffer)));
+		} finally {
+			releaseWindow(buffer);
+		}
+	}
 
-			};
-
-			// 세기 분석 핸들러 (직접 RMS를 계산하여 데시벨로 변환)
-			AudioProcessor volumeHandler = new AudioProcessor() {
-				@Override
-				public boolean process(AudioEvent audioEvent) {
-					float[] buffer = audioEvent.getFloatBuffer();
-					double sum = IntStream.range(0, buffer.length)
-						.mapToDouble(i -> buffer[i] * buffer[i])
-						.sum();
-					double rms = Math.sqrt(sum / buffer.length);
-					double currentVolume = rms > 0 ? 20 * Math.log10(rms / 0.001f) : -100.0;
-
-					// 볼륨을 기준으로 음성 감지 여부를 판단
-					log.info("currentVolume = {}dB, isVoiceDetected = {}", currentVolume, isVoiceDetected);
-
-					// 기준 데이터 수집 단계: 피치가 감지된 경우에만 볼륨 데이터 수집
-					if (!isBaselineSet.get() && isVoiceDetected) {
-						if (currentVolume > -100) {
-							baseVolumes.add(currentVolume);
-							log.info("⭐ 기준 볼륨 수집 중: {}dB", currentVolume);
-						}
-					}
+	// 피치 분석
+	private void detectPitch(PitchEstimator.PitchEstimate pitch) {
+		float pitchInHz = pitch.pitchHz();
 
-					// 고함 감지 단계: 피치가 감지된 경우
-					if (isVoiceDetected) {
-						float currentPitch = ShoutingDetector.this.lastKnownPitch;
-						if (currentPitch > shoutingPitchThreshold && currentVolume > shoutingVolumeThreshold) {
-							log.info("🚨🚨🚨 고함 감지! 현재 피치: {}Hz, 볼륨: {}dB", currentPitch, currentVolume);
-							sttContext.triggerBeep(); // 삐처리
-						} else {
-							log.info("✅ 정상 대화: 현재 피치 {}Hz, 볼륨 {}dB", currentPitch, currentVolume);
-						}
-					}
+		log.debug("pitchInHz = {}", pitchInHz);
 
+		if (pitch.isVoiced()) {
+			if (pitchInHz > 350f) {
+				pitchInHz *= 0.5f;
+			}
+			this.isVoiceDetected = true;
+			this.lastKnownPitch = pitchInHz;
+		} else {
+			this.isVoiceDetected = false;
+			this.lastKnownPitch = -1.0f;
+		}
+	}
 
-					return true;
+	// 세기 분석 (RMS → 데시벨)
+	private void detectShouting(double currentVolume) {
+		log.debug("currentVolume = {}dB, isVoiceDetected = {}", currentVolume, isVoiceDetected);
+
+		// 고함 감지 단계: 피치가 감지된 경우
+		boolean shouting = false;
+		if (isVoiceDetected) {
+			float currentPitch = this.lastKnownPitch;
+			shouting = currentPitch > shoutingPitchThreshold && currentVolume > shoutingVolumeThreshold;
+			if (shouting) {
+				log.info("🚨🚨🚨 고함 감지! 현재 피치: {}Hz, 볼륨: {}dB", currentPitch, currentVolume);
+				if (sttContext != null) {
+					sttContext.triggerBeep(); // 삐처리
 				}
-				@Override
-				public void processingFinished() {}
-			};
-
-			pitchProcessor = new PitchProcessor(PitchProcessor.PitchEstimationAlgorithm.YIN, sampleRate, 1024, pitchHandler);
-			dispatcher.addAudioProcessor(pitchProcessor);
-
-			dispatcher.addAudioProcessor(volumeHandler);
-			new Thread(dispatcher, "Audio Dispatcher").start();
+			} else {
+				log.debug("✅ 정상 대화: 현재 피치 {}Hz, 볼륨 {}dB", currentPitch, currentVolume);
+			}
 		}
+
+		updateBaseline(currentVolume, shouting);
 	}
 
-	public void transferAudio(byte[] audioData) throws IOException {
-		if (pipedOutputStream == null) {
-			log.info("🗑️초기화 전 오디오 데이터는 버림");
+	// 기준 데이터 수집: 피치가 감지되고 세기가 baselineFloorDb 이상인 창만 사용
+	// - 첫 기준값 설정 전에는 모든 음성 창을, 이후에는 고함이 아닌 창만 넣어 기준값이 고함 쪽으로 끌려가지 않게 함
+	// - 세기 하한은 피치 게이트와 같은 값이라, 게이트가 건너뛴 창이 빠져도 기준값은 게이트 유무와 같음
+	private void updateBaseline(double currentVolume, boolean shouting) {
+		if (!isVoiceDetected || currentVolume < baselineFloorDb || (shouting && isBaselineSet.get())) {
 			return;
 		}
-		// pipedOutputStream.write(audioData);
-		// Twilio의 u-law 데이터를 16비트 PCM으로 변환
-		byte[] pcmData = convertULawToPcm(audioData);
-		pipedOutputStream.write(pcmData);
-		pipedOutputStream.flush();
-	}
+		basePitches.add(this.lastKnownPitch);
+		if (currentVolume > AudioLevels.SILENCE_DB) {
+			baseVolumes.add(currentVolume);
+		}
+		double windowSeconds = WINDOW_SIZE / sampleRate;
 
+		if (!isBaselineSet.get()) {
+			accumulatedBaselineDuration += windowSeconds;
+			log.info("⭐ 기준 피치/볼륨 수집 중: {}Hz, {}dB (누적 시간: {}s)", lastKnownPitch, currentVolume,
+				accumulatedBaselineDuration);
 
-	public void close() {
-		if (dispatcher != null && !dispatcher.isStopped()) {
-			dispatcher.stop();
-		}
-		try {
-			if (pipedOutputStream != null) {
-				pipedOutputStream.close();
-			}
-			if (pipedInputStream != null) {
-				pipedInputStream.close();
+			// 누적 시간이 기준 시간을 넘으면 기준값 설정
+			if (accumulatedBaselineDuration >= BASELINE_PERIOD_SECONDS) {
+				calculateBaselineAndSetThreshold();
+				log.info("✅ 기준값 수집 완료.");
 			}
-		} catch (IOException e) {
-			log.error("Piped 스트림 종료 실패.", e);
+			return;
+		}
+
+		sinceRecalibration += windowSeconds;
+		if (sinceRecalibration >= RECALIBRATION_INTERVAL_SECONDS) {
+			sinceRecalibration = 0;
+			recalibrate();
 		}
 	}
 
+	// 남은 분석 작업을 마친 뒤 DSP 파이프라인 종료
+	public void close() {
+		dspPipeline.close(() -> log.info("✅ 고함 감지 종료 (버린 분석 창 {}개)", droppedWindows.get()));
+	}
+
 	private void calculateBaselineAndSetThreshold() {
 		if (basePitches.isEmpty() || baseVolumes.isEmpty()) {
 			log.warn("베이스라인 수집치 부족 → default 임계값 유지");
@@ -230,13 +274,9 @@ public class ShoutingDetector {
 			return;
 		}
 
-		// 정렬
-		Collections.sort(basePitches);
-		Collections.sort(baseVolumes);
-
 		// 중앙값 추출
-		double medianBasePitch = basePitches.get(basePitches.size() / 2);
-		double medianBaseVolume = baseVolumes.get(baseVolumes.size() / 2);
+		double medianBasePitch = basePitches.median();
+		double medianBaseVolume = baseVolumes.median();
 
 		setThresholdsFrom(medianBasePitch, medianBaseVolume,true);
 
@@ -245,25 +285,19 @@ public class ShoutingDetector {
 		log.info("✅ 기준 볼륨 설정 완료: {}dB, 고함 임계값: {}dB", medianBaseVolume, shoutingVolumeThreshold);
 	}
 
-	// u-law -> PCM 변환 메서드 추가
-	private byte[] convertULawToPcm(byte[] uLawData) {
-		byte[] pcmData = new byte[uLawData.length * 2];
-		ByteBuffer buffer = ByteBuffer.wrap(pcmData).order(ByteOrder.LITTLE_ENDIAN);
-
-		for (byte ulawByte : uLawData) {
-			int pcmValue = ULawDecoder.uLawToPcm(ulawByte);
-			buffer.putShort((short) pcmValue);
+	// 통화 중 기준값 재계산 (최근 음성에 가중치를 둔 중앙값)
+	private void recalibrate() {
+		if (basePitches.isEmpty() || baseVolumes.isEmpty()) {
+			return;
 		}
-		return pcmData;
+		applyThresholds(basePitches.median(), baseVolumes.median());
+		log.debug("🔄 기준값 재계산: thresPitch={}Hz, thresVol={}dB (표본 {}/{}개)",
+			shoutingPitchThreshold, shoutingVolumeThreshold, basePitches.count(), baseVolumes.count());
 	}
 
 	// 공통 임계값 세팅 유틸
 	private void setThresholdsFrom(double basePitch, double baseVolume, boolean markBaselineSet) {
-		this.isHighPitchUser = (basePitch > PITCH_BOUNDARY);
-		double pitchIncreaseFactor = this.isHighPitchUser ? PITCH_INCREASE_FACTOR_HIGH : PITCH_INCREASE_FACTOR_LOW;
-
-		this.shoutingPitchThreshold  = basePitch  * pitchIncreaseFactor;
-		this.shoutingVolumeThreshold = baseVolume + DB_BOUNDARY;
+		applyThresholds(basePitch, baseVolume);
 
 		if (markBaselineSet) {
 			isBaselineSet.set(true);
@@ -275,4 +309,12 @@ public class ShoutingDetector {
 		}
 	}
 
+	private void applyThresholds(double basePitch, double baseVolume) {
+		this.isHighPitchUser = (basePitch > PITCH_BOUNDARY);
+		double pitchIncreaseFactor = this.isHighPitchUser ? PITCH_INCREASE_FACTOR_HIGH : PITCH_INCREASE_FACTOR_LOW;
+
+		this.shoutingPitchThreshold  = basePitch  * pitchIncreaseFactor;
+		this.shoutingVolumeThreshold = baseVolume + DB_BOUNDARY;
+	}
+
 }
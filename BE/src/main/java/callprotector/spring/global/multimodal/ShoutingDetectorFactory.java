@@ -0,0 +1,71 @@
+package callprotector.spring.global.multimodal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import callprotector.spring.global.pipeline.CallPipeline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 모든 통화가 공유하는 고함 감지(DSP) 워커 풀을 보유하고, 통화별 ShoutingDetector를 생성
+// - 통화마다 스레드/파이프를 만들지 않고, 분석 창(1024샘플) 단위 작업을 통화별 CallPipeline으로 순서대로 실행
+// - 워커 수가 고정되어 있어 동시 통화 수가 늘어도 DSP 스레드 수와 CPU 사용량 상한이 일정
+@Slf4j
+@Component
+public class ShoutingDetectorFactory {
+
+	private final ExecutorService executor;
+	private final MeterRegistry meterRegistry;
+	private final int queueCapacity;
+	private final PitchEstimator.Factory pitchEstimatorFactory;
+	private final double pitchGateDb;
+
+	public ShoutingDetectorFactory(
+		MeterRegistry meterRegistry,
+		@Value("${call.dsp.worker-threads:4}") int workerThreads,
+		@Value("${call.dsp.queue-capacity:8}") int queueCapacity,
+		@Value("${call.dsp.pitch.estimator:YIN}") PitchEstimatorType pitchEstimator,
+		@Value("${call.dsp.pitch.gate-db:15}") double pitchGateDb
+	) {
+		this.meterRegistry = meterRegistry;
+		this.queueCapacity = queueCapacity;
+		this.pitchGateDb = pitchGateDb;
+		this.pitchEstimatorFactory = pitchEstimator.gated(pitchGateDb, Counter.builder("call.dsp.pitch.gated")
+			.description("세기가 gate-db보다 낮아 피치 추정을 건너뛴 분석 창 수")
+			.register(meterRegistry));
+
+		AtomicInteger threadIndex = new AtomicInteger();
+		ExecutorService workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+			Thread thread = new Thread(runnable, "call-dsp-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor = ExecutorServiceMetrics.monitor(meterRegistry, workers, "call.dsp.workers");
+
+		log.info("✅ 고함 감지 DSP 워커 풀 생성 - threads={}, queueCapacity={}, pitch={}, gate={}dB",
+			workerThreads, queueCapacity, pitchEstimator, pitchGateDb);
+	}
+
+	// 분석 창은 큐 용량만큼만 미리 만들어 재사용 (DSP가 밀리면 창을 버리고 수신 경로는 막지 않음)
+	// - gate-db는 기준값 수집 하한으로도 넘겨, 게이트를 끄더라도 조용한 창이 기준값에 섞이지 않게 함
+	public ShoutingDetector create(String name) {
+		return new ShoutingDetector(new CallPipeline("dsp-" + name, executor, queueCapacity, meterRegistry), queueCapacity,
+			pitchEstimatorFactory, pitchGateDb);
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		executor.shutdown();
+		if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package callprotector.spring.global.multimodal;
+
+import be.tarsos.dsp.pitch.PitchDetectionResult;
+import be.tarsos.dsp.pitch.PitchDetector;
+
+// TarsosDSP 피치 검출기(Yin, FastYin) 어댑터 - 검출기가 결과 객체를 재사용하므로 값만 복사해 반환
+class TarsosPitchEstimator implements PitchEstimator {
+
+	private final PitchDetector detector;
+
+	TarsosPitchEstimator(PitchDetector detector) {
+		this.detector = detector;
+	}
+
+	@Override
+	public PitchEstimate estimate(float[] window) {
+		PitchDetectionResult result = detector.getPitch(window);
+		return new PitchEstimate(result.getPitch(), result.getProbability());
+	}
+}
@@ -3,10 +3,12 @@ package callprotector.spring.global.multimodal;
 // u-law 데이터를 PCM으로 변환
 public class ULawDecoder {
 	private static final int[] ULAW_MAP = new int[256];
+	private static final float[] ULAW_FLOAT_MAP = new float[256]; // uLawToPcm / 32768 값 - 분석 경로는 정수 PCM을 거치지 않음
 
 	static {
 		for (int i = 0; i < 256; i++) {
 			ULAW_MAP[i] = decode(i);
+			ULAW_FLOAT_MAP[i] = ULAW_MAP[i] / 32768f;
 		}
 	}
 
@@ -29,4 +31,15 @@ public class ULawDecoder {
 		return ULAW_MAP[ulawByte & 0xFF];
 	}
 
+	public static float uLawToFloat(int ulawByte) {
+		return ULAW_FLOAT_MAP[ulawByte & 0xFF];
+	}
+
+	// u-law 바이트 length개를 dst[dstOffset]부터 float(uLawToPcm / 32768)로 디코딩
+	public static void decode(byte[] ulaw, int offset, int length, float[] dst, int dstOffset) {
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = ULAW_FLOAT_MAP[ulaw[offset + i] & 0xFF];
+		}
+	}
+
 }
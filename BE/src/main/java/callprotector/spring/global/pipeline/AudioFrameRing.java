@@ -0,0 +1,237 @@
+package callprotector.spring.global.pipeline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import callprotector.spring.global.common.enums.CallTrack;
+
+// 수신 스레드(생산자 1개)에서 STT 전송 단계(소비자 1개)로 μ-law 프레임을 넘기는 고정 크기 링 버퍼
+// - 모든 칸을 미리 할당한 byte[]/int[]/long[]로 구성되어 프레임당 객체 할당이 없음
+// - 가득 찼을 때의 동작은 AudioOverflowPolicy로 지정하며, 버려진/늦은 프레임 수와 버려진 바이트 수를 트랙별로 집계
+// - offer()는 생산자 스레드에서만, poll()은 소비자 스레드에서만 호출해야 함
+// - COALESCE로 합쳐 둔 프레임은 링이 비면 poll()이 직접 가져감 (다음 offer()가 없어도 주기적 drain에서 전송됨)
+public class AudioFrameRing {
+
+	private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+	private final CallTrack track;
+	private final AudioOverflowPolicy policy;
+	private final int capacity;
+	private final int mask;
+	private final int slotBytes;
+	private final long lateThresholdNanos;
+	private final long blockTimeoutNanos;
+
+	private final byte[] slots;
+	private final int[] lengths;
+	private final long[] enqueuedAt;
+
+	private final AtomicLong head = new AtomicLong(); // 다음에 쓸 위치 (생산자만 변경)
+	private final AtomicLong tail = new AtomicLong(); // 다음에 읽을 위치 (소비자, DROP_OLDEST일 때는 생산자도 CAS로 변경)
+
+	// COALESCE: 링이 가득 찬 동안 합쳐 두는 프레임 (생산자가 채우고, 링이 비면 소비자가 가져감 - pending으로 동기화)
+	private final byte[] pending;
+	private volatile int pendingLength = 0;
+	private long pendingSince = 0;
+
+	private final AtomicLong offeredFrames = new AtomicLong();
+	private final AtomicLong droppedFrames = new AtomicLong(); // 통째로 버린 프레임 수
+	private final AtomicLong droppedBytes = new AtomicLong(); // 버린 오디오 바이트 수 (COALESCE에서 잘라낸 앞부분 포함)
+	private final AtomicLong coalescedFrames = new AtomicLong();
+	private final AtomicLong lateFrames = new AtomicLong();
+
+	public AudioFrameRing(CallTrack track, AudioOverflowPolicy policy, int capacity, int slotBytes,
+						long lateThresholdMs, long blockTimeoutMs) {
+		if (Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("capacity는 2의 거듭제곱이어야 합니다: " + capacity);
+		}
+		this.track = track;
+		this.policy = policy;
+		this.capacity = capacity;
+		this.mask = capacity - 1;
+		this.slotBytes = slotBytes;
+		this.lateThresholdNanos = TimeUnit.MILLISECONDS.toNanos(lateThresholdMs);
+		this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+		this.slots = new byte[capacity * slotBytes];
+		this.lengths = new int[capacity];
+		this.enqueuedAt = new long[capacity];
+		this.pending = policy == AudioOverflowPolicy.COALESCE ? new byte[slotBytes] : null;
+	}
+
+	// 생산자 전용. 프레임이 버려졌으면 false
+	public boolean offer(byte[] src, int offset, int length) {
+		offeredFrames.incrementAndGet();
+		if (length > slotBytes) {
+			drop(length);
+			return false;
+		}
+
+		long now = System.nanoTime();
+
+		// 합쳐 둔 프레임이 있으면 순서를 지키기 위해 먼저 넣음
+		if (pendingLength > 0) {
+			synchronized (pending) {
+				if (pendingLength > 0 && hasSpace()) {
+					write(pending, 0, pendingLength, pendingSince);
+					pendingLength = 0;
+				}
+			}
+		}
+
+		if (pendingLength == 0 && hasSpace()) {
+			write(src, offset, length, now);
+			return true;
+		}
+
+		return switch (policy) {
+			case BLOCK -> offerBlocking(src, offset, length, now);
+			case DROP_OLDEST -> offerDroppingOldest(src, offset, length, now);
+			case COALESCE -> coalesce(src, offset, length, now);
+		};
+	}
+
+	// 소비자 전용. 가장 오래된 프레임을 dst에 복사하고 길이를 반환 (비어 있으면 -1)
+	// - 링이 비었으면 COALESCE로 합쳐 둔 프레임을 가져감 (링에 있는 프레임보다 항상 나중 것)
+	public int poll(byte[] dst) {
+		while (true) {
+			long t = tail.get();
+			if (t >= head.get()) {
+				if (pendingLength == 0) {
+					return -1;
+				}
+				int length = takePending(dst);
+				if (length >= 0) {
+					return length;
+				}
+				continue; // 잠금을 잡기 전에 생산자가 링으로 옮겼으면 링에서 다시 읽음
+			}
+
+			int index = (int) (t & mask);
+			int length = lengths[index];
+			long at = enqueuedAt[index];
+			System.arraycopy(slots, index * slotBytes, dst, 0, length);
+
+			// DROP_OLDEST로 생산자가 이 칸을 먼저 가져갔다면 복사한 내용은 버리고 다시 읽음
+			if (tail.compareAndSet(t, t + 1)) {
+				if (System.nanoTime() - at > lateThresholdNanos) {
+					lateFrames.incrementAndGet();
+				}
+				return length;
+			}
+		}
+	}
+
+	public int size() {
+		return (int) Math.max(0, head.get() - tail.get());
+	}
+
+	public int getSlotBytes() {
+		return slotBytes;
+	}
+
+	public long getDroppedFrames() {
+		return droppedFrames.get();
+	}
+
+	public long getDroppedBytes() {
+		return droppedBytes.get();
+	}
+
+	public long getLateFrames() {
+		return lateFrames.get();
+	}
+
+	public long getCoalescedFrames() {
+		return coalescedFrames.get();
+	}
+
+	public void bindMetrics(CallMetrics metrics) {
+		String trackTag = track.name();
+		metrics.gauge("audio.ring.depth", this, AudioFrameRing::size, "track", trackTag);
+		metrics.counter("audio.ring.frames.offered", offeredFrames, AtomicLong::get, "track", trackTag);
+		metrics.counter("audio.ring.frames.dropped", droppedFrames, AtomicLong::get, "track", trackTag);
+		metrics.counter("audio.ring.bytes.dropped", droppedBytes, AtomicLong::get, "track", trackTag);
+		metrics.counter("audio.ring.frames.coalesced", coalescedFrames, AtomicLong::get, "track", trackTag);
+		metrics.counter("audio.ring.frames.late", lateFrames, AtomicLong::get, "track", trackTag);
+	}
+
+	// 링이 비어 있을 때만 합쳐 둔 프레임을 dst로 가져옴 (없거나 링에 프레임이 있으면 -1)
+	private int takePending(byte[] dst) {
+		synchronized (pending) {
+			if (pendingLength == 0 || tail.get() < head.get()) {
+				return -1;
+			}
+			int length = pendingLength;
+			System.arraycopy(pending, 0, dst, 0, length);
+			pendingLength = 0;
+			if (System.nanoTime() - pendingSince > lateThresholdNanos) {
+				lateFrames.incrementAndGet();
+			}
+			return length;
+		}
+	}
+
+	private void drop(int length) {
+		droppedFrames.incrementAndGet();
+		droppedBytes.addAndGet(length);
+	}
+
+	private boolean hasSpace() {
+		return head.get() - tail.get() < capacity;
+	}
+
+	private void write(byte[] src, int offset, int length, long at) {
+		long h = head.get();
+		int index = (int) (h & mask);
+		System.arraycopy(src, offset, slots, index * slotBytes, length);
+		lengths[index] = length;
+		enqueuedAt[index] = at;
+		head.lazySet(h + 1); // 내용을 모두 쓴 뒤 게시
+	}
+
+	private boolean offerBlocking(byte[] src, int offset, int length, long now) {
+		long deadline = now + blockTimeoutNanos;
+		while (!hasSpace()) {
+			if (System.nanoTime() >= deadline) {
+				drop(length);
+				return false;
+			}
+			LockSupport.parkNanos(BLOCK_PARK_NANOS);
+		}
+		write(src, offset, length, now);
+		return true;
+	}
+
+	private boolean offerDroppingOldest(byte[] src, int offset, int length, long now) {
+		while (!hasSpace()) {
+			long t = tail.get();
+			int oldestLength = lengths[(int) (t & mask)];
+			if (head.get() - t >= capacity && tail.compareAndSet(t, t + 1)) {
+				drop(oldestLength);
+			}
+		}
+		write(src, offset, length, now);
+		return true;
+	}
+
+	private boolean coalesce(byte[] src, int offset, int length, long now) {
+		synchronized (pending) {
+			int pendingBytes = pendingLength;
+			int overflow = pendingBytes + length - slotBytes;
+			if (overflow > 0) {
+				// 한 칸 분량을 넘으면 가장 오래된 바이트부터 버림 (프레임 일부이므로 바이트 수로만 집계)
+				System.arraycopy(pending, overflow, pending, 0, pendingBytes - overflow);
+				pendingBytes -= overflow;
+				droppedBytes.addAndGet(overflow);
+			}
+			if (pendingBytes == 0) {
+				pendingSince = now;
+			}
+			System.arraycopy(src, offset, pending, pendingBytes, length);
+			pendingLength = pendingBytes + length;
+		}
+		coalescedFrames.incrementAndGet();
+		return true;
+	}
+}
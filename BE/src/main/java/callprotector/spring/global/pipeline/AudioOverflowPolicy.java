@@ -0,0 +1,8 @@
+package callprotector.spring.global.pipeline;
+
+// AudioFrameRing이 가득 찼을 때의 처리 방식
+public enum AudioOverflowPolicy {
+	BLOCK,       // 빈 칸이 생길 때까지 생산자를 잠시 대기시키고, 제한 시간이 지나면 새 프레임을 버림
+	DROP_OLDEST, // 가장 오래된 프레임을 버리고 새 프레임을 넣음
+	COALESCE     // 새 프레임들을 한 칸 분량으로 합쳐 두었다가 빈 칸이 생기면 한 번에 넣음 (넘치면 오래된 바이트부터 버림)
+}
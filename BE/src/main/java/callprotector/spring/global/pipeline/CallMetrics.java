@@ -0,0 +1,65 @@
+package callprotector.spring.global.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+// 통화 1건에 속한 지표 묶음
+// - bind()로 callSessionId 태그를 정한 뒤 등록한 지표는 close() 시 레지스트리에서 함께 제거됨
+public class CallMetrics {
+
+	private final MeterRegistry meterRegistry;
+	private final List<Meter> meters = new ArrayList<>();
+	private Tags tags = Tags.empty();
+	private boolean bound = false;
+	private boolean closed = false;
+
+	public CallMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	public synchronized boolean bind(Long callSessionId) {
+		if (bound || closed) {
+			return false;
+		}
+		tags = Tags.of("callSessionId", String.valueOf(callSessionId));
+		bound = true;
+		return true;
+	}
+
+	public synchronized <T> void gauge(String name, T target, ToDoubleFunction<T> value, String... extraTags) {
+		if (!closed) {
+			meters.add(Gauge.builder(name, target, value).tags(tags.and(extraTags)).register(meterRegistry));
+		}
+	}
+
+	public synchronized <T> void counter(String name, T target, ToDoubleFunction<T> value, String... extraTags) {
+		if (!closed) {
+			meters.add(FunctionCounter.builder(name, target, value).tags(tags.and(extraTags)).register(meterRegistry));
+		}
+	}
+
+	// 종료 후에도 기록은 가능하지만 레지스트리에는 더 이상 노출되지 않음
+	public synchronized Timer timer(String name, String... extraTags) {
+		Timer timer = Timer.builder(name).tags(tags.and(extraTags)).register(meterRegistry);
+		if (closed) {
+			meterRegistry.remove(timer);
+		} else {
+			meters.add(timer);
+		}
+		return timer;
+	}
+
+	public synchronized void close() {
+		closed = true;
+		meters.forEach(meterRegistry::remove);
+		meters.clear();
+	}
+}
@@ -0,0 +1,135 @@
+package callprotector.spring.global.pipeline;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+// 통화 1건의 작업을 순서대로 처리하는 파이프라인
+// - WebSocket 수신 스레드는 submit()으로 작업을 넣기만 하고, 실제 처리는 공용 워커 풀에서 한 번에 하나씩 실행
+// - 큐 용량을 넘는 작업은 버리고 rejected로 집계 (수신 스레드는 절대 블로킹되지 않음)
+@Slf4j
+public class CallPipeline {
+
+	private static final int DRAIN_BATCH_SIZE = 64; // 한 번 점유한 워커에서 연속 처리할 최대 작업 수 (다른 통화와의 공정성)
+	private static final long REJECT_LOG_INTERVAL = 100;
+
+	private final String name;
+	private final Executor executor;
+	private final BlockingQueue<Runnable> queue;
+	@Getter
+	private final CallMetrics metrics;
+
+	private final AtomicBoolean scheduled = new AtomicBoolean(false);
+	private final AtomicReference<Runnable> closeTask = new AtomicReference<>();
+	private final AtomicLong submittedCount = new AtomicLong();
+	private final AtomicLong rejectedCount = new AtomicLong();
+	private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+	private volatile boolean closed = false;
+
+	public CallPipeline(String name, Executor executor, int queueCapacity, MeterRegistry meterRegistry) {
+		this.name = name;
+		this.executor = executor;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.metrics = new CallMetrics(meterRegistry);
+	}
+
+	public boolean submit(Runnable task) {
+		if (closed) {
+			return false;
+		}
+
+		if (!queue.offer(task)) {
+			long rejected = rejectedCount.incrementAndGet();
+			if (rejected % REJECT_LOG_INTERVAL == 1) {
+				log.warn("❗ [{}] 파이프라인 큐가 가득 차 작업을 버립니다. (누적 {}건, 큐 {}건)", name, rejected, queue.size());
+			}
+			return false;
+		}
+
+		submittedCount.incrementAndGet();
+		maxQueueDepth.accumulateAndGet(queue.size(), Math::max);
+		schedule();
+		return true;
+	}
+
+	// 이미 들어온 작업을 모두 처리한 뒤 finalTask를 마지막으로 실행하고 파이프라인을 닫음
+	public void close(Runnable finalTask) {
+		closed = true;
+		closeTask.set(finalTask);
+		schedule();
+	}
+
+	// 통화 세션 ID가 정해진 뒤 통화별 큐 지표를 등록 (종료 시 자동 해제)
+	// 같은 통화의 다른 지표도 getMetrics()로 등록하면 함께 해제됨
+	public void bindMetrics(Long callSessionId) {
+		if (!metrics.bind(callSessionId)) {
+			return;
+		}
+		metrics.gauge("call.pipeline.queue.depth", queue, BlockingQueue::size);
+		metrics.gauge("call.pipeline.queue.depth.max", maxQueueDepth, AtomicInteger::get);
+		metrics.counter("call.pipeline.tasks.submitted", submittedCount, AtomicLong::get);
+		metrics.counter("call.pipeline.tasks.rejected", rejectedCount, AtomicLong::get);
+	}
+
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	private void schedule() {
+		if (scheduled.compareAndSet(false, true)) {
+			try {
+				executor.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				scheduled.set(false);
+				log.error("❌ [{}] 파이프라인 워커 풀이 작업을 거부했습니다.", name, e);
+			}
+		}
+	}
+
+	private void drain() {
+		try {
+			for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+				Runnable task = queue.poll();
+				if (task == null) {
+					break;
+				}
+				runSafely(task);
+			}
+
+			if (queue.isEmpty()) {
+				Runnable finalTask = closeTask.getAndSet(null);
+				if (finalTask != null) {
+					runSafely(finalTask);
+					metrics.close();
+				}
+			}
+		} finally {
+			scheduled.set(false);
+			if (!queue.isEmpty() || closeTask.get() != null) {
+				schedule();
+			}
+		}
+	}
+
+	private void runSafely(Runnable task) {
+		try {
+			task.run();
+		} catch (Exception e) {
+			log.error("❌ [{}] 파이프라인 작업 처리 중 오류 발생", name, e);
+		}
+	}
+}
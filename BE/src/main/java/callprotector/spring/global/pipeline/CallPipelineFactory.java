@@ -0,0 +1,84 @@
+package callprotector.spring.global.pipeline;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import callprotector.spring.global.common.enums.CallTrack;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 모든 통화가 공유하는 파이프라인 워커 풀을 보유하고, 통화별 CallPipeline을 생성
+// 워커 수가 고정되어 있어 동시 통화 수가 늘어도 스레드 수는 늘지 않음
+@Slf4j
+@Component
+public class CallPipelineFactory {
+
+	private final ExecutorService executor;
+	private final MeterRegistry meterRegistry;
+	private final int queueCapacity;
+
+	@Value("${call.pipeline.audio-ring.capacity:64}")
+	private int audioRingCapacity;
+
+	@Value("${call.pipeline.audio-ring.slot-bytes:320}")
+	private int audioRingSlotBytes;
+
+	@Value("${call.pipeline.audio-ring.overflow-policy:DROP_OLDEST}")
+	private AudioOverflowPolicy audioOverflowPolicy;
+
+	@Value("${call.pipeline.audio-ring.late-threshold-ms:200}")
+	private long audioLateThresholdMs;
+
+	@Value("${call.pipeline.audio-ring.block-timeout-ms:20}")
+	private long audioBlockTimeoutMs;
+
+	public CallPipelineFactory(
+		MeterRegistry meterRegistry,
+		@Value("${call.pipeline.worker-threads:32}") int workerThreads,
+		@Value("${call.pipeline.queue-capacity:1000}") int queueCapacity
+	) {
+		this.meterRegistry = meterRegistry;
+		this.queueCapacity = queueCapacity;
+
+		AtomicInteger threadIndex = new AtomicInteger();
+		ExecutorService workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+			Thread thread = new Thread(runnable, "call-pipeline-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor = ExecutorServiceMetrics.monitor(meterRegistry, workers, "call.pipeline.workers");
+
+		log.info("✅ 통화 파이프라인 워커 풀 생성 - threads={}, queueCapacity={}", workerThreads, queueCapacity);
+	}
+
+	public CallPipeline create(String name) {
+		return new CallPipeline(name, executor, queueCapacity, meterRegistry);
+	}
+
+	// 트랙별 수신 → STT 전송 링 버퍼 생성
+	public Map<CallTrack, AudioFrameRing> createAudioRings() {
+		Map<CallTrack, AudioFrameRing> rings = new EnumMap<>(CallTrack.class);
+		for (CallTrack track : CallTrack.values()) {
+			rings.put(track, new AudioFrameRing(track, audioOverflowPolicy, audioRingCapacity, audioRingSlotBytes,
+				audioLateThresholdMs, audioBlockTimeoutMs));
+		}
+		return rings;
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		executor.shutdown();
+		if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package callprotector.spring.global.pipeline;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 모든 통화가 공유하는 해시 타이머 휠 (스레드 1개)
+// - 통화 수와 무관하게 타이머 스레드는 1개이며, 타이머 작업은 파이프라인에 작업을 넣는 정도로 짧게 유지해야 함
+@Slf4j
+@Component
+public class CallTimerWheel {
+
+	private final HashedWheelTimer timer;
+
+	public CallTimerWheel(@Value("${call.timer.tick-ms:10}") long tickMs) {
+		this.timer = new HashedWheelTimer(new DefaultThreadFactory("call-timer", true), tickMs, TimeUnit.MILLISECONDS, 512);
+		this.timer.start();
+	}
+
+	public Timeout schedule(Runnable task, long delayMs) {
+		return timer.newTimeout(timeout -> runSafely(task), delayMs, TimeUnit.MILLISECONDS);
+	}
+
+	// cancel() 전까지 periodMs 간격으로 반복 실행
+	public Handle scheduleRepeating(Runnable task, long periodMs) {
+		RepeatingTask repeating = new RepeatingTask(task, periodMs);
+		repeating.arm();
+		return repeating;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		timer.stop();
+	}
+
+	private void runSafely(Runnable task) {
+		try {
+			task.run();
+		} catch (Exception e) {
+			log.error("❌ 타이머 작업 실행 중 오류 발생", e);
+		}
+	}
+
+	public interface Handle {
+		void cancel();
+	}
+
+	private class RepeatingTask implements TimerTask, Handle {
+		private final Runnable task;
+		private final long periodMs;
+		private volatile boolean cancelled = false;
+		private volatile Timeout current;
+
+		private RepeatingTask(Runnable task, long periodMs) {
+			this.task = task;
+			this.periodMs = periodMs;
+		}
+
+		@Override
+		public void run(Timeout timeout) {
+			if (cancelled) {
+				return;
+			}
+			runSafely(task);
+			arm();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			Timeout timeout = current;
+			if (timeout != null) {
+				timeout.cancel();
+			}
+		}
+
+		private void arm() {
+			if (!cancelled) {
+				current = timer.newTimeout(this, periodMs, TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package callprotector.spring.global.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import callprotector.spring.global.common.enums.CallTrack;
+import callprotector.spring.global.handler.AudioFrameBuffer;
+import callprotector.spring.global.handler.TwilioMediaFrame;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+// /ws/audio 로 들어온 통화 1건의 메시지를 녹화 파일로 기록 (형식은 CallRecordingFormat 참고)
+// - WebSocket 수신 스레드에서 호출되며, 쓰기는 버퍼링되어 종료 시점에 한 번에 flush
+// - 파일 쓰기에 실패하면 녹화만 중단하고 통화 처리는 계속함
+@Slf4j
+public class CallRecorder implements AutoCloseable {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	@Getter
+	private final Path path;
+	private final DataOutputStream out;
+	private final long startedAt;
+	private boolean failed = false;
+
+	CallRecorder(Path path) throws IOException {
+		this.path = path;
+		this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+		this.startedAt = System.currentTimeMillis();
+
+		out.writeInt(CallRecordingFormat.MAGIC);
+		out.writeShort(CallRecordingFormat.VERSION);
+		out.writeLong(startedAt);
+	}
+
+	// start/stop/mark 등 media 이외의 메시지는 원본 JSON 그대로 기록
+	public synchronized void writeEvent(String message) {
+		if (failed) {
+			return;
+		}
+		try {
+			byte[] json = message.getBytes(StandardCharsets.UTF_8);
+			out.writeByte(CallRecordingFormat.RECORD_EVENT);
+			out.writeInt(elapsedMs());
+			out.writeInt(json.length);
+			out.write(json);
+		} catch (IOException e) {
+			fail(e);
+		}
+	}
+
+	// media 프레임은 디코딩된 μ-law 오디오와 순서 정보만 기록
+	public synchronized void writeMedia(TwilioMediaFrame frame) {
+		if (failed || frame.getTrack() == null || !frame.isPayloadPresent()) {
+			return;
+		}
+		try {
+			AudioFrameBuffer audio = frame.getAudio();
+			out.writeByte(CallRecordingFormat.RECORD_MEDIA);
+			out.writeInt(elapsedMs());
+			out.writeByte(frame.getTrack() == CallTrack.INBOUND ? CallRecordingFormat.TRACK_INBOUND : CallRecordingFormat.TRACK_OUTBOUND);
+			out.writeLong(frame.getSequenceNumber());
+			out.writeLong(frame.getTimestamp());
+			out.writeShort(audio.getLength());
+			out.write(audio.getData(), 0, audio.getLength());
+		} catch (IOException e) {
+			fail(e);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		try {
+			out.close();
+			log.info("🎙️ 통화 녹화 저장 완료: {}", path);
+		} catch (IOException e) {
+			log.error("❌ 통화 녹화 파일 닫기 실패: {}", path, e);
+		}
+	}
+
+	private int elapsedMs() {
+		return (int) (System.currentTimeMillis() - startedAt);
+	}
+
+	private void fail(IOException e) {
+		failed = true;
+		log.error("❌ 통화 녹화 쓰기 실패 - 이후 녹화 중단: {}", path, e);
+	}
+}
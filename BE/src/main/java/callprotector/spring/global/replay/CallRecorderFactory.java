@@ -0,0 +1,89 @@
+package callprotector.spring.global.replay;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 통화별 녹화 여부를 결정하고 CallRecorder를 생성
+// - call.recording.enabled=true 이면 모든 통화를 녹화
+// - 아니면 call.recording.allow-client-request=true 일 때만 start 이벤트의 customParameters.record=true 인 통화를 녹화
+//   (/ws/** 는 인증 없이 열려 있으므로 기본은 클라이언트 요청을 무시)
+// - 파일 이름의 통화 식별자는 [A-Za-z0-9_-]만 남기고, 결과 경로가 녹화 디렉터리 밖이면 녹화하지 않음
+// - 녹화 디렉터리 전체 크기가 call.recording.max-directory-mb 이상이면 새 녹화를 시작하지 않음
+@Slf4j
+@Component
+public class CallRecorderFactory {
+
+	private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+	private static final Pattern UNSAFE_ID_CHARS = Pattern.compile("[^A-Za-z0-9_-]");
+	private static final int MAX_ID_LENGTH = 64;
+
+	@Value("${call.recording.enabled:false}")
+	private boolean enabled;
+
+	@Value("${call.recording.allow-client-request:false}")
+	private boolean allowClientRequest;
+
+	@Value("${call.recording.directory:recordings}")
+	private String directory;
+
+	@Value("${call.recording.max-directory-mb:1024}")
+	private long maxDirectoryMb;
+
+	// 녹화 대상이 아니거나 파일을 만들 수 없으면 null
+	public CallRecorder open(String sessionId, JsonNode startJson, String startMessage) {
+		JsonNode customParams = startJson.path("start").path("customParameters");
+		if (!enabled && !(allowClientRequest && customParams.path("record").asBoolean(false))) {
+			return null;
+		}
+
+		String callId = safeId(customParams.path("primaryCallSid").asText(""));
+		if (callId.isEmpty()) {
+			callId = safeId(sessionId);
+		}
+		Path base = Paths.get(directory).toAbsolutePath().normalize();
+		Path path = base.resolve(LocalDateTime.now().format(FILE_TIME_FORMAT) + "-" + callId
+			+ CallRecordingFormat.FILE_EXTENSION).normalize();
+		if (!base.equals(path.getParent())) {
+			log.warn("⚠️ 녹화 디렉터리 밖의 경로라 녹화 생략: sessionId={}, file={}", sessionId, path);
+			return null;
+		}
+		try {
+			Files.createDirectories(base);
+			if (directoryBytes(base) >= maxDirectoryMb * 1024 * 1024) {
+				log.warn("⚠️ 녹화 디렉터리 용량 초과({}MB) - 녹화 생략: sessionId={}", maxDirectoryMb, sessionId);
+				return null;
+			}
+			CallRecorder recorder = new CallRecorder(path);
+			recorder.writeEvent(startMessage);
+			log.info("🎙️ 통화 녹화 시작: sessionId={}, file={}", sessionId, path);
+			return recorder;
+		} catch (IOException e) {
+			log.error("❌ 통화 녹화 파일 생성 실패: {}", path, e);
+			return null;
+		}
+	}
+
+	private static String safeId(String id) {
+		String safe = UNSAFE_ID_CHARS.matcher(id == null ? "" : id).replaceAll("");
+		return safe.length() > MAX_ID_LENGTH ? safe.substring(0, MAX_ID_LENGTH) : safe;
+	}
+
+	private static long directoryBytes(Path base) throws IOException {
+		try (Stream<Path> files = Files.list(base)) {
+			return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+		}
+	}
+}
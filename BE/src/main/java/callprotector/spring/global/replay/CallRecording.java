@@ -0,0 +1,99 @@
+package callprotector.spring.global.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import lombok.Getter;
+
+// 녹화 파일(.cprec)을 순서대로 읽어 Twilio Media Streams 원본 형식의 메시지로 되돌림
+public class CallRecording implements AutoCloseable {
+
+	private static final Base64.Encoder BASE64 = Base64.getEncoder();
+
+	@Getter
+	private final Path path;
+	@Getter
+	private final long recordedAt;
+	private final DataInputStream in;
+
+	private CallRecording(Path path) throws IOException {
+		this.path = path;
+		this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64 * 1024));
+
+		if (in.readInt() != CallRecordingFormat.MAGIC) {
+			in.close();
+			throw new IOException("통화 녹화 파일 형식이 아닙니다: " + path);
+		}
+		short version = in.readShort();
+		if (version != CallRecordingFormat.VERSION) {
+			in.close();
+			throw new IOException("지원하지 않는 통화 녹화 파일 버전(" + version + "): " + path);
+		}
+		this.recordedAt = in.readLong();
+	}
+
+	public static CallRecording open(Path path) throws IOException {
+		return new CallRecording(path);
+	}
+
+	// 다음 메시지 (파일 끝이면 null)
+	public Message next() throws IOException {
+		byte type;
+		try {
+			type = in.readByte();
+		} catch (EOFException e) {
+			return null;
+		}
+		int offsetMs = in.readInt();
+
+		if (type == CallRecordingFormat.RECORD_EVENT) {
+			byte[] json = new byte[in.readInt()];
+			in.readFully(json);
+			return new Message(offsetMs, new String(json, StandardCharsets.UTF_8), false);
+		}
+		if (type == CallRecordingFormat.RECORD_MEDIA) {
+			String track = in.readByte() == CallRecordingFormat.TRACK_INBOUND ? "inbound" : "outbound";
+			long sequenceNumber = in.readLong();
+			long timestamp = in.readLong();
+			byte[] audio = new byte[in.readUnsignedShort()];
+			in.readFully(audio);
+			return new Message(offsetMs, mediaJson(track, sequenceNumber, timestamp, audio), true);
+		}
+		throw new IOException("알 수 없는 녹화 레코드 종류(" + type + "): " + path);
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	// TwilioMediaFrameDecoder가 읽는 필드만 채운 media 메시지
+	private static String mediaJson(String track, long sequenceNumber, long timestamp, byte[] audio) {
+		return new StringBuilder(96 + audio.length * 4 / 3)
+			.append("{\"event\":\"media\",\"sequenceNumber\":\"").append(sequenceNumber)
+			.append("\",\"media\":{\"track\":\"").append(track)
+			.append("\",\"timestamp\":\"").append(timestamp)
+			.append("\",\"payload\":\"").append(BASE64.encodeToString(audio))
+			.append("\"}}")
+			.toString();
+	}
+
+	@Getter
+	public static class Message {
+		private final int offsetMs; // 녹화 시작 이후 경과 시간
+		private final String payload;
+		private final boolean media;
+
+		private Message(int offsetMs, String payload, boolean media) {
+			this.offsetMs = offsetMs;
+			this.payload = payload;
+			this.media = media;
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package callprotector.spring.global.replay;
+
+// 통화 녹화 파일(.cprec) 형식
+// header : int MAGIC, short VERSION, long 녹화 시작 시각(epoch ms)
+// record : byte 종류, int 녹화 시작 이후 경과 ms, 이후 종류별 본문
+//   EVENT : int 길이, UTF-8 JSON (start/stop/mark 등 원본 메시지 그대로)
+//   MEDIA : byte 트랙, long sequenceNumber, long timestamp, short 길이, μ-law 바이트 (base64 디코딩 결과)
+// media 프레임은 JSON/base64 대신 디코딩된 오디오만 저장하므로 원본 메시지의 절반 정도 크기
+final class CallRecordingFormat {
+
+	static final int MAGIC = 0x43505243; // "CPRC"
+	static final short VERSION = 1;
+	static final String FILE_EXTENSION = ".cprec";
+
+	static final byte RECORD_EVENT = 1;
+	static final byte RECORD_MEDIA = 2;
+
+	static final byte TRACK_INBOUND = 0;
+	static final byte TRACK_OUTBOUND = 1;
+
+	private CallRecordingFormat() {
+	}
+}
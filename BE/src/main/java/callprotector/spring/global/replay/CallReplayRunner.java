@@ -0,0 +1,86 @@
+package callprotector.spring.global.replay;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import callprotector.spring.global.handler.TwilioMediaStreamsHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// call.replay.file 이 지정되면 기동 직후 녹화 파일을 재생 (오프라인 성능/메모리 회귀 재현용)
+// - 파일 1개 또는 디렉터리를 지정할 수 있으며, 디렉터리면 안의 녹화 파일을 동시에 재생 (동시 통화 재현)
+// 예) --call.replay.file=recordings --call.replay.speed=0
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "call.replay.file")
+public class CallReplayRunner implements ApplicationRunner {
+
+	private final TwilioMediaStreamsHandler twilioMediaStreamsHandler;
+
+	@Value("${call.replay.file}")
+	private String file;
+
+	@Value("${call.replay.speed:1.0}")
+	private double speed;
+
+	@Override
+	public void run(ApplicationArguments args) throws Exception {
+		List<Path> recordings = findRecordings(Paths.get(file));
+		if (recordings.isEmpty()) {
+			log.warn("⚠️ 재생할 통화 녹화 파일이 없습니다: {}", file);
+			return;
+		}
+		log.info("▶️ 통화 녹화 재생 시작 - files={}, speed={}", recordings.size(), speed > 0 ? speed + "x" : "max");
+
+		CallReplayer replayer = new CallReplayer(twilioMediaStreamsHandler);
+		ExecutorService executor = Executors.newFixedThreadPool(recordings.size());
+		try {
+			List<Future<CallReplayer.Result>> results = new ArrayList<>();
+			for (int i = 0; i < recordings.size(); i++) {
+				Path recording = recordings.get(i);
+				String sessionId = "replay-" + i;
+				results.add(executor.submit(() -> replayer.replay(recording, sessionId, speed)));
+			}
+
+			long messages = 0;
+			long maxLagMs = 0;
+			for (Future<CallReplayer.Result> future : results) {
+				try {
+					CallReplayer.Result result = future.get();
+					messages += result.getMessages();
+					maxLagMs = Math.max(maxLagMs, result.getMaxLagMs());
+				} catch (Exception e) {
+					log.error("❌ 통화 녹화 재생 실패", e);
+				}
+			}
+			log.info("✅ 통화 녹화 재생 종료 - files={}, messages={}, maxLag={}ms", recordings.size(), messages, maxLagMs);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private List<Path> findRecordings(Path path) throws Exception {
+		if (!Files.isDirectory(path)) {
+			return Files.exists(path) ? List.of(path) : List.of();
+		}
+		try (Stream<Path> files = Files.list(path)) {
+			return files.filter(p -> p.getFileName().toString().endsWith(CallRecordingFormat.FILE_EXTENSION))
+				.sorted()
+				.toList();
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package callprotector.spring.global.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+// 녹화 파일을 /ws/audio 핸들러(TwilioMediaStreamsHandler)에 다시 흘려보내는 재생기
+// - speed 1.0 = 녹화 당시 속도, N = N배속, 0 이하 = 대기 없이 최대 속도
+// - 실제 통화처럼 연결 → 메시지 → 종료 순서로 핸들러 콜백을 호출하므로 처리 경로는 실제 통화와 동일
+@Slf4j
+public class CallReplayer {
+
+	private final WebSocketHandler handler;
+
+	public CallReplayer(WebSocketHandler handler) {
+		this.handler = handler;
+	}
+
+	public Result replay(Path file, String sessionId, double speed) throws Exception {
+		ReplayWebSocketSession session = new ReplayWebSocketSession(sessionId);
+		long messages = 0;
+		long mediaFrames = 0;
+		long maxLagNanos = 0;
+
+		long startedAt = System.nanoTime();
+		handler.afterConnectionEstablished(session);
+		try (CallRecording recording = CallRecording.open(file)) {
+			CallRecording.Message message;
+			while ((message = recording.next()) != null) {
+				if (speed > 0) {
+					long due = startedAt + (long) (TimeUnit.MILLISECONDS.toNanos(message.getOffsetMs()) / speed);
+					long wait = due - System.nanoTime();
+					if (wait > 0) {
+						LockSupport.parkNanos(wait);
+					} else {
+						maxLagNanos = Math.max(maxLagNanos, -wait);
+					}
+				}
+
+				handler.handleMessage(session, new TextMessage(message.getPayload()));
+				messages++;
+				if (message.isMedia()) {
+					mediaFrames++;
+				}
+			}
+		} catch (IOException e) {
+			handler.handleTransportError(session, e);
+			throw e;
+		} finally {
+			session.close();
+			handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+		}
+
+		Result result = new Result(file, messages, mediaFrames,
+			TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), TimeUnit.NANOSECONDS.toMillis(maxLagNanos));
+		log.info("▶️ 통화 녹화 재생 완료: {} - messages={}, media={}, elapsed={}ms, maxLag={}ms",
+			file.getFileName(), result.getMessages(), result.getMediaFrames(), result.getElapsedMs(), result.getMaxLagMs());
+		return result;
+	}
+
+	@Getter
+	public static class Result {
+		private final Path file;
+		private final long messages;
+		private final long mediaFrames;
+		private final long elapsedMs;
+		private final long maxLagMs; // 재생 예정 시각보다 늦게 전달된 최대 지연 (핸들러가 따라오지 못한 정도)
+
+		private Result(Path file, long messages, long mediaFrames, long elapsedMs, long maxLagMs) {
+			this.file = file;
+			this.messages = messages;
+			this.mediaFrames = mediaFrames;
+			this.elapsedMs = elapsedMs;
+			this.maxLagMs = maxLagMs;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package callprotector.spring.global.replay;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+// 녹화 재생용 가짜 WebSocket 세션 - Twilio 연결 대신 CallReplayer가 핸들러에 메시지를 직접 전달할 때 사용
+// 서버가 보내는 메시지는 버리고 개수만 셈
+public class ReplayWebSocketSession implements WebSocketSession {
+
+	private static final URI URI_AUDIO = URI.create("ws://replay/ws/audio");
+
+	private final String id;
+	private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+	private final AtomicLong sentMessages = new AtomicLong();
+	private volatile boolean open = true;
+	private volatile int textMessageSizeLimit = 64 * 1024;
+	private volatile int binaryMessageSizeLimit = 64 * 1024;
+
+	public ReplayWebSocketSession(String id) {
+		this.id = id;
+	}
+
+	@Override
+	public String getId() {
+		return id;
+	}
+
+	@Override
+	public URI getUri() {
+		return URI_AUDIO;
+	}
+
+	@Override
+	public HttpHeaders getHandshakeHeaders() {
+		return new HttpHeaders();
+	}
+
+	@Override
+	public Map<String, Object> getAttributes() {
+		return attributes;
+	}
+
+	@Override
+	public Principal getPrincipal() {
+		return null;
+	}
+
+	@Override
+	public InetSocketAddress getLocalAddress() {
+		return null;
+	}
+
+	@Override
+	public InetSocketAddress getRemoteAddress() {
+		return null;
+	}
+
+	@Override
+	public String getAcceptedProtocol() {
+		return null;
+	}
+
+	@Override
+	public void setTextMessageSizeLimit(int messageSizeLimit) {
+		this.textMessageSizeLimit = messageSizeLimit;
+	}
+
+	@Override
+	public int getTextMessageSizeLimit() {
+		return textMessageSizeLimit;
+	}
+
+	@Override
+	public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+		this.binaryMessageSizeLimit = messageSizeLimit;
+	}
+
+	@Override
+	public int getBinaryMessageSizeLimit() {
+		return binaryMessageSizeLimit;
+	}
+
+	@Override
+	public List<WebSocketExtension> getExtensions() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public void sendMessage(WebSocketMessage<?> message) {
+		sentMessages.incrementAndGet();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return open;
+	}
+
+	@Override
+	public void close() {
+		open = false;
+	}
+
+	@Override
+	public void close(CloseStatus status) {
+		open = false;
+	}
+
+	public long getSentMessages() {
+		return sentMessages.get();
+	}
+}
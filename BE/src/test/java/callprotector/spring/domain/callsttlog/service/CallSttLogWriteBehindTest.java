@@ -0,0 +1,320 @@
+package callprotector.spring.domain.callsttlog.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+
+import callprotector.spring.domain.callsttlog.entity.CallSttLog;
+import callprotector.spring.global.common.enums.CallTrack;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CallSttLogWriteBehindTest {
+
+	private static final long READ_WAIT_MS = 10_000;
+	private static final long RETRY_BACKOFF_MS = 100;
+	private static final String SPILL_FILE = "call_stt_log.spill.jsonl";
+	private static final String REPLAY_FILE = "call_stt_log.replay.jsonl";
+
+	private final FakeCollection collection = new FakeCollection();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private Path spillDirectory;
+	private CallSttLogWriteBehind writeBehind;
+
+	@BeforeEach
+	void createSpillDirectory() throws IOException {
+		spillDirectory = Files.createTempDirectory("stt-log-spill");
+	}
+
+	@AfterEach
+	void shutdown() throws Exception {
+		if (writeBehind != null) {
+			writeBehind.shutdown();
+		}
+		try (Stream<Path> paths = Files.walk(spillDirectory)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Test
+	void savedLogsArePersistedAndReleaseReaders() throws Exception {
+		writeBehind = start();
+		for (int i = 0; i < 3; i++) {
+			writeBehind.save(log(1L, "발화 " + i));
+		}
+
+		long started = System.currentTimeMillis();
+		writeBehind.awaitPersisted(1L);
+
+		assertTrue(System.currentTimeMillis() - started < READ_WAIT_MS);
+		assertEquals(3, collection.count(1L));
+		assertEquals(0.0, counter("stt.log.write.spilled"), 0.0);
+	}
+
+	@Test
+	void duplicateKeyCountsAsPersisted() throws Exception {
+		CallSttLog sttLog = log(1L, "이미 저장된 발화").toBuilder().id(new ObjectId().toHexString()).build();
+		collection.insertDirectly(new Document("_id", new ObjectId(sttLog.getId())).append("call_session_id", 1L));
+		writeBehind = start();
+
+		writeBehind.save(sttLog);
+		writeBehind.awaitPersisted(1L);
+
+		assertEquals(1, collection.count(1L));
+		assertEquals(0.0, counter("stt.log.write.failures"), 0.0);
+		assertEquals(0.0, counter("stt.log.write.spilled"), 0.0);
+	}
+
+	@Test
+	void spilledLogsStayPendingUntilReplayed() throws Exception {
+		collection.goDown(0);
+		writeBehind = start();
+		writeBehind.save(log(1L, "첫 발화"));
+		writeBehind.save(log(1L, "둘째 발화"));
+
+		Thread reader = awaitInBackground(1L);
+		waitUntil(() -> counter("stt.log.write.spilled") == 2.0);
+		Thread.sleep(200);
+		assertTrue(reader.isAlive(), "spill된 문서가 재저장되기 전에 조회가 풀림");
+		assertEquals(0, collection.count(1L));
+
+		collection.recover();
+		reader.join(5000);
+
+		assertFalse(reader.isAlive());
+		assertEquals(2, collection.count(1L));
+		assertEquals(2.0, counter("stt.log.write.replayed"), 0.0);
+		assertFalse(Files.exists(spillDirectory.resolve(SPILL_FILE)));
+		assertFalse(Files.exists(spillDirectory.resolve(REPLAY_FILE)));
+	}
+
+	@Test
+	void replayAfterPartialFailureStoresEveryLogOnce() throws Exception {
+		collection.goDown(0);
+		writeBehind = start();
+		for (int i = 0; i < 3; i++) {
+			writeBehind.save(log(1L, "발화 " + i));
+		}
+		writeBehind.save(log(2L, "다른 통화 발화"));
+		waitUntil(() -> counter("stt.log.write.spilled") == 4.0);
+		Thread first = awaitInBackground(1L);
+		Thread second = awaitInBackground(2L);
+
+		// 재저장 도중 2건만 들어가고 실패
+		collection.goDown(2);
+		waitUntil(() -> collection.count(1L) + collection.count(2L) == 2);
+		Thread.sleep(200);
+		assertTrue(first.isAlive() || second.isAlive(), "재저장이 끝나기 전에 조회가 풀림");
+		assertTrue(Files.exists(spillDirectory.resolve(REPLAY_FILE)));
+
+		collection.recover();
+		first.join(5000);
+		second.join(5000);
+
+		assertFalse(first.isAlive());
+		assertFalse(second.isAlive());
+		assertEquals(3, collection.count(1L));
+		assertEquals(1, collection.count(2L));
+		assertEquals(4.0, counter("stt.log.write.replayed"), 0.0);
+	}
+
+	@Test
+	void leftoverSpillFromPreviousRunDoesNotReleaseNewPendingLogs() throws Exception {
+		JsonWriterSettings extended = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
+		List<String> leftover = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			leftover.add(new Document("_id", new ObjectId()).append("call_session_id", 1L).toJson(extended));
+		}
+		Files.write(spillDirectory.resolve(SPILL_FILE), leftover, StandardCharsets.UTF_8);
+
+		collection.goDown(0);
+		writeBehind = start();
+		writeBehind.save(log(1L, "장애 중 발화"));
+		waitUntil(() -> counter("stt.log.write.spilled") == 1.0);
+		collection.recover();
+		writeBehind.awaitPersisted(1L);
+		assertEquals(3, collection.count(1L));
+
+		// 이전 실행 문서 2건까지 대기 수에서 빼면 음수가 되어 새 대기 문서를 기다리지 않게 됨
+		collection.goDown(0);
+		writeBehind.save(log(1L, "다시 장애 중 발화"));
+		waitUntil(() -> counter("stt.log.write.spilled") == 2.0);
+		Thread reader = awaitInBackground(1L);
+		Thread.sleep(200);
+		assertTrue(reader.isAlive(), "대기 문서 수가 어긋나 조회가 바로 풀림");
+
+		collection.recover();
+		reader.join(5000);
+		assertFalse(reader.isAlive());
+		assertEquals(4, collection.count(1L));
+	}
+
+	private CallSttLogWriteBehind start() throws IOException {
+		return new CallSttLogWriteBehind(new FakeMongoTemplate(collection.proxy()), meterRegistry, true, 10, 20, 100,
+			RETRY_BACKOFF_MS, READ_WAIT_MS, spillDirectory.toString());
+	}
+
+	private Thread awaitInBackground(Long callSessionId) {
+		Thread reader = new Thread(() -> writeBehind.awaitPersisted(callSessionId), "reader-" + callSessionId);
+		reader.start();
+		return reader;
+	}
+
+	private double counter(String name) {
+		return meterRegistry.counter(name).count();
+	}
+
+	private static CallSttLog log(Long callSessionId, String script) {
+		return CallSttLog.builder()
+			.callSessionId(callSessionId)
+			.track(CallTrack.INBOUND)
+			.script(script)
+			.isFinal(true)
+			.isAbuse(false)
+			.build();
+	}
+
+	private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("5초 안에 조건을 만족하지 않음");
+			}
+			Thread.sleep(10);
+		}
+	}
+
+	// insertMany만 구현한 call_stt_log 컬렉션
+	// - 장애 중에는 허용된 건수만 넣고 MongoTimeoutException, 정상일 때 이미 있는 _id는 중복 키 오류로 응답
+	private static class FakeCollection implements InvocationHandler {
+
+		private final Map<Object, Document> documents = new LinkedHashMap<>();
+		private boolean down = false;
+		private int insertsBeforeFailure = 0;
+
+		synchronized void goDown(int insertsBeforeFailure) {
+			this.down = true;
+			this.insertsBeforeFailure = insertsBeforeFailure;
+		}
+
+		synchronized void recover() {
+			this.down = false;
+		}
+
+		synchronized void insertDirectly(Document document) {
+			documents.put(document.get("_id"), document);
+		}
+
+		synchronized long count(Long callSessionId) {
+			return documents.values().stream()
+				.filter(document -> callSessionId.equals(document.get("call_session_id")))
+				.count();
+		}
+
+		@SuppressWarnings("unchecked")
+		MongoCollection<Document> proxy() {
+			return (MongoCollection<Document>) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] {MongoCollection.class}, this);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public synchronized Object invoke(Object proxy, Method method, Object[] args) {
+			return switch (method.getName()) {
+				case "insertMany" -> insertMany((List<Document>) args[0]);
+				case "toString" -> "FakeCollection";
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				default -> throw new UnsupportedOperationException(method.getName());
+			};
+		}
+
+		private Object insertMany(List<Document> batch) {
+			List<BulkWriteError> duplicates = new ArrayList<>();
+			int inserted = 0;
+			for (int i = 0; i < batch.size(); i++) {
+				if (down && insertsBeforeFailure-- <= 0) {
+					throw new MongoTimeoutException("mongo down");
+				}
+				Document document = batch.get(i);
+				if (documents.putIfAbsent(document.get("_id"), document) != null) {
+					duplicates.add(new BulkWriteError(11000, "duplicate key", new BsonDocument(), i));
+				} else {
+					inserted++;
+				}
+			}
+			if (!duplicates.isEmpty()) {
+				throw new MongoBulkWriteException(BulkWriteResult.acknowledged(inserted, 0, 0, null, List.of(), List.of()),
+					duplicates, null, new ServerAddress(), Set.of());
+			}
+			return null;
+		}
+	}
+
+	private static class FakeMongoTemplate extends MongoTemplate {
+
+		private final MongoCollection<Document> collection;
+
+		FakeMongoTemplate(MongoCollection<Document> collection) {
+			super(unusedDatabaseFactory());
+			this.collection = collection;
+		}
+
+		@Override
+		public MongoCollection<Document> getCollection(String collectionName) {
+			return collection;
+		}
+
+		// 컬렉션은 getCollection에서 바로 돌려주므로 DB 연결 없이 변환기 설정에 필요한 것만 응답
+		private static MongoDatabaseFactory unusedDatabaseFactory() {
+			return (MongoDatabaseFactory) Proxy.newProxyInstance(MongoDatabaseFactory.class.getClassLoader(),
+				new Class<?>[] {MongoDatabaseFactory.class}, (proxy, method, args) -> switch (method.getName()) {
+					case "getExceptionTranslator" -> new MongoExceptionTranslator();
+					case "getCodecRegistry" -> MongoClientSettings.getDefaultCodecRegistry();
+					case "isTransactionActive" -> false;
+					case "toString" -> "unusedDatabaseFactory";
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package callprotector.spring.global.abuse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class AbuseLexiconTest {
+
+	private static AbuseLexicon lexicon;
+
+	@BeforeAll
+	static void loadLexicon() throws IOException {
+		try (InputStream in = AbuseLexiconTest.class.getResourceAsStream("/abuse/lexicon.json")) {
+			lexicon = AbuseLexicon.parse(in, new ObjectMapper());
+		}
+	}
+
+	@Test
+	void benignPhrasesAcrossWordBoundariesDoNotMatch() {
+		assertClean("두 시 반에 다시 전화 주세요");
+		assertClean("몇 시 바로 가능할까요");
+		assertClean("세 시 발송 예정입니다");
+		assertClean("다섯 시 벌써 지났어요");
+	}
+
+	@Test
+	void shortStemsAreNotConfident() {
+		assertFalse(lexicon.match("3개년 계획으로 진행합니다").isConfident());
+		assertFalse(lexicon.match("씨바 뭐야").isConfident());
+		assertFalse(lexicon.match("씨벌 진짜").isConfident());
+		assertFalse(lexicon.match("썅").isConfident());
+	}
+
+	@Test
+	void openEndedPatternSkipsSyllableWithFinalConsonant() {
+		// "시반"의 앞부분은 "씨바"와 자모가 같지만 "반"에 받침이 있음
+		assertClean("시반");
+		// "씨발"은 "씨바"가 아니라 "씨발"로 판정
+		PrefilterVerdict verdict = lexicon.match("씨발");
+		assertEquals(PrefilterVerdict.Kind.CONFIDENT, verdict.kind());
+		assertEquals("씨발", verdict.matchedWord());
+	}
+
+	@Test
+	void allowWordsSuppressContainedMatches() {
+		assertClean("시발점부터 다시 설명드릴게요");
+		assertClean("시발역 앞에서 만나요");
+		assertClean("시발택시 모형을 샀어요");
+	}
+
+	@Test
+	void confidentWordsMatchVariants() {
+		assertConfident("씨발 뭐하는 거야", AbuseLabel.VERBAL_ABUSE);
+		assertConfident("씨.발", AbuseLabel.VERBAL_ABUSE);
+		assertConfident("ㅅㅂ 진짜", AbuseLabel.VERBAL_ABUSE);
+		assertConfident("너 죽여버린다", AbuseLabel.THREAT);
+	}
+
+	@Test
+	void normalizerKeepsSingleWordBreak() {
+		assertEquals(JamoNormalizer.normalize("시 발"), JamoNormalizer.normalize("  시   발 "));
+		assertEquals(-1, JamoNormalizer.symbolOf(JamoNormalizer.normalize("시 발").charAt(2)));
+	}
+
+	private static void assertClean(String text) {
+		assertEquals(PrefilterVerdict.Kind.CLEAN, lexicon.match(text).kind(), text);
+	}
+
+	private static void assertConfident(String text, AbuseLabel label) {
+		PrefilterVerdict verdict = lexicon.match(text);
+		assertEquals(PrefilterVerdict.Kind.CONFIDENT, verdict.kind(), text);
+		assertEquals(label, verdict.label(), text);
+	}
+}
@@ -0,0 +1,107 @@
+package callprotector.spring.global.abuse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 작은 조각 목록(tokenizer-pieces.json, classifier.json과 같은 형식)으로 분할 결과 id 확인
+// - 0~3: [UNK] [PAD] [CLS] [SEP], 가장 낮은 조각 점수 -9 → [UNK] 점수 -19
+class KoBertTokenizerTest {
+
+	private static final int UNK = 0;
+	private static final int PAD = 1;
+	private static final int CLS = 2;
+	private static final int SEP = 3;
+	private static final int BOUNDARY = 4;     // ▁
+	private static final int ANNYEONG = 5;     // ▁안녕
+	private static final int HASEYO = 6;       // 하세요
+	private static final int SSIBAL = 13;      // ▁씨발
+	private static final int EMOJI = 14;       // 😀
+	private static final int AB = 16;          // ▁AB
+
+	private static KoBertTokenizer tokenizer;
+
+	@BeforeAll
+	static void loadPieces() throws IOException {
+		try (InputStream in = KoBertTokenizerTest.class.getResourceAsStream("/abuse/tokenizer-pieces.json")) {
+			JsonNode config = new ObjectMapper().readTree(in);
+			tokenizer = OnnxAbuseClassifier.readTokenizer(config.get("tokenizer"), config.get("max_length").asInt());
+		}
+	}
+
+	@Test
+	void viterbiPrefersBestTotalScoreOverLongestMatch() {
+		// 가장 긴 앞 조각 ▁안녕하(-9) + 세요(-3) = -12 보다 ▁안녕(-2) + 하세요(-2.5) = -4.5
+		assertEquals(List.of(ANNYEONG, HASEYO), segment("안녕하세요"));
+	}
+
+	@Test
+	void viterbiPrefersWholePieceOverCheaperParts() {
+		// ▁씨(-5) + 발(-5) = -10 보다 ▁씨발(-6)
+		assertEquals(List.of(SSIBAL, ANNYEONG, HASEYO), segment("씨발 안녕하세요"));
+	}
+
+	@Test
+	void unknownCharacterBecomesSingleUnk() {
+		assertEquals(List.of(ANNYEONG, BOUNDARY, UNK), segment("안녕 뷁"));
+	}
+
+	@Test
+	void specialPiecesAreNotMatchedFromText() {
+		assertEquals(List.of(ANNYEONG, UNK, UNK, UNK, UNK, UNK), segment("안녕[SEP]"));
+	}
+
+	@Test
+	void surrogatePairIsOnePiece() {
+		assertEquals(List.of(ANNYEONG, EMOJI), segment("안녕😀"));
+	}
+
+	@Test
+	void unknownSurrogatePairIsOneUnk() {
+		assertEquals(List.of(ANNYEONG, UNK), segment("안녕🙂"));
+		assertEquals(List.of(ANNYEONG, UNK, EMOJI), segment("안녕🙂😀"));
+	}
+
+	@Test
+	void whitespaceIsCollapsedAndTextIsNfkcNormalized() {
+		assertEquals("▁안녕하세요▁씨발", KoBertTokenizer.normalize("  안녕하세요 \t\n 씨발 "));
+		assertEquals(List.of(AB), segment("ＡＢ"));
+	}
+
+	@Test
+	void encodeWrapsPiecesWithClsAndSep() {
+		assertArrayEquals(new int[] {CLS, ANNYEONG, HASEYO, SEP}, tokenizer.encode("안녕하세요"));
+		assertArrayEquals(new int[] {CLS, SEP}, tokenizer.encode(""));
+		assertArrayEquals(new int[] {CLS, SEP}, tokenizer.encode(" \n "));
+	}
+
+	@Test
+	void encodeTruncatesToMaxLength() {
+		int[] ids = tokenizer.encode("씨발 씨발 씨발 씨발 씨발 씨발 씨발");
+
+		assertArrayEquals(new int[] {CLS, SSIBAL, SSIBAL, SSIBAL, SSIBAL, SSIBAL, SSIBAL, SEP}, ids);
+	}
+
+	@Test
+	void batchIsPaddedToLongestSentence() {
+		KoBertTokenizer.Batch batch = tokenizer.encodeBatch(List.of("안녕하세요", "씨발"));
+
+		assertEquals(2, batch.batchSize());
+		assertEquals(4, batch.sequenceLength());
+		assertArrayEquals(new long[] {CLS, ANNYEONG, HASEYO, SEP, CLS, SSIBAL, SEP, PAD}, batch.inputIds());
+		assertArrayEquals(new long[] {1, 1, 1, 1, 1, 1, 1, 0}, batch.attentionMask());
+	}
+
+	private static List<Integer> segment(String text) {
+		return tokenizer.segment(KoBertTokenizer.normalize(text));
+	}
+}
@@ -0,0 +1,62 @@
+package callprotector.spring.global.abuse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import callprotector.spring.domain.abuse.dto.response.AbuseResponseDTO;
+
+// FILTER detect.py decide()와 같은 판정 규칙 확인 (라벨 순서는 classifier.json labels)
+class OnnxAbuseClassifierDecideTest {
+
+	private static final List<String> LABELS = List.of("정상", "욕설", "성희롱", "협박");
+	private static final int NORMAL_INDEX = 0;
+
+	@Test
+	void confidentAbuseWithLexiconHitIsAbusive() {
+		assertVerdict(true, true, "욕설", decide(true, 0.02, 0.95, 0.02, 0.01));
+	}
+
+	@Test
+	void normalPredictionWithoutLexiconHitIsNormal() {
+		assertVerdict(false, false, "정상", decide(false, 0.9, 0.05, 0.03, 0.02));
+	}
+
+	@Test
+	void lowConfidenceAbuseWithoutLexiconHitIsNormal() {
+		assertVerdict(false, false, "정상", decide(false, 0.1, 0.85, 0.03, 0.02));
+	}
+
+	@Test
+	void undetectedAbuseNeedsStricterProbability() {
+		// 사전에 없으면 0.97 이상 + 정상 확률 0.2 이하일 때만 욕설
+		assertVerdict(false, false, "정상", decide(false, 0.03, 0.95, 0.01, 0.01));
+		assertVerdict(true, false, "성희롱", decide(false, 0.01, 0.01, 0.98, 0.0));
+	}
+
+	@Test
+	void lexiconHitWithUnsureModelKeepsPredictedLabel() {
+		// detected는 그대로 전달하고 유형은 모델이 가장 높게 본 라벨
+		assertVerdict(false, true, "협박", decide(true, 0.15, 0.0, 0.0, 0.85));
+		assertVerdict(false, true, "정상", decide(true, 0.6, 0.3, 0.05, 0.05));
+	}
+
+	@Test
+	void normalProbabilityAboveLimitBlocksAbuse() {
+		// 정상 확률 0.3 이상이면 욕설 확률이 높아도 욕설 아님 (합이 1이 아닌 경계 확인용 입력)
+		assertVerdict(false, true, "욕설", decide(true, 0.3, 0.91, 0.0, 0.0));
+	}
+
+	private static AbuseResponseDTO.AbuseFilterDTO decide(boolean detected, double... probs) {
+		return OnnxAbuseClassifier.decide(probs, detected, NORMAL_INDEX, LABELS);
+	}
+
+	private static void assertVerdict(boolean abuse, boolean detected, String type,
+		AbuseResponseDTO.AbuseFilterDTO result) {
+		assertEquals(abuse, result.isAbuse());
+		assertEquals(detected, result.isDetected());
+		assertEquals(type, result.getType());
+	}
+}
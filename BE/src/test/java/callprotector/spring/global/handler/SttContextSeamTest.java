@@ -0,0 +1,194 @@
+package callprotector.spring.global.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import callprotector.spring.domain.calllog.service.CallLogService;
+import callprotector.spring.domain.callsttlog.entity.CallSttLog;
+import callprotector.spring.domain.callsttlog.service.CallSttLogService;
+import callprotector.spring.global.client.FakeSpeechServer;
+import callprotector.spring.global.client.SpeechClientProvider;
+import callprotector.spring.global.common.enums.CallTrack;
+import callprotector.spring.global.config.SttConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// FakeSpeechServer에 연결한 SttContext로 스트림 교체 경계의 최종 결과를 확인
+// - 상담원(OUTBOUND) 트랙은 욕설 분석/동일 문장 중복 제거가 없으므로 경계 중복 제거만 검증됨
+// - 가짜 서버 문장 길이 1500ms (5단어, 단어당 300ms), 겹쳐 보내는 오디오 500ms, 전송 단위 200ms
+class SttContextSeamTest {
+
+	private static final int FRAME_BYTES = 160; // 8kHz μ-law 20ms
+	private static final long FRAME_MS = 20;
+	private static final String SESSION_ID = "seam-test";
+	private static final byte[] VOICE = new byte[FRAME_BYTES];
+	private static final byte[] SILENCE = new byte[FRAME_BYTES];
+
+	static {
+		for (int i = 0; i < FRAME_BYTES; i++) {
+			VOICE[i] = (byte) (i % 2 == 0 ? 0x80 : 0x00); // 최대 진폭 사각파
+		}
+		Arrays.fill(SILENCE, (byte) 0xFF);
+	}
+
+	private final SttConfig.SttProperties properties = new SttConfig.SttProperties();
+	private final RecordingSttLogService sttLogs = new RecordingSttLogService();
+	private FakeSpeechServer server;
+	private SpeechClientProvider provider;
+
+	@BeforeEach
+	void startFakeServer() throws IOException {
+		SttConfig.Fake fake = properties.getFake();
+		fake.setEnabled(true);
+		fake.setServerName("seam-test-" + System.nanoTime());
+		fake.setLatencyMs(0);
+		fake.setJitterMs(0);
+		fake.setFinalAfterMs(1500);
+		fake.setScript(List.of("하나 둘 셋 넷 다섯", "여섯 일곱 여덟 아홉 열"));
+		properties.getClient().setChannels(1);
+		properties.getRotation().setOverlapMs(500);
+
+		server = new FakeSpeechServer(properties);
+		server.start();
+		provider = new SpeechClientProvider(properties, new SimpleMeterRegistry(),
+			new StaticListableBeanFactory(Map.of("fakeSpeechServer", server)).getBeanProvider(FakeSpeechServer.class));
+	}
+
+	@AfterEach
+	void stopFakeServer() throws InterruptedException {
+		provider.shutdown();
+		server.shutdown();
+	}
+
+	@Test
+	void rotationMidUtteranceDoesNotRepeatOverlappedWords() throws Exception {
+		SttContext context = newContext(1L);
+		speak(context, 1000);
+		context.restartStream(SESSION_ID, StreamLifecyclePolicy.RotationReason.MAX_AGE);
+		speak(context, 500);
+		silence(context, 100);
+
+		// 이전 스트림은 들은 4단어, 새 스트림은 겹친 500ms 앞(둘)부터 끝까지 인식
+		assertEquals(List.of("하나 둘 셋 넷", "다섯"), sttLogs.awaitFinals(1L, 2));
+		context.closeStream().get(5, TimeUnit.SECONDS);
+		assertEquals(2, sttLogs.finals(1L).size());
+	}
+
+	@Test
+	void fakeServerRepeatsOverlappedWordsWithoutSeamWindow() throws Exception {
+		properties.getRotation().setSeamWindowMs(-1); // 경계 중복 제거 끔
+		SttContext context = newContext(1L);
+		speak(context, 1000);
+		context.restartStream(SESSION_ID, StreamLifecyclePolicy.RotationReason.MAX_AGE);
+		speak(context, 500);
+		silence(context, 100);
+
+		assertEquals(List.of("하나 둘 셋 넷", "둘 셋 넷 다섯"), sttLogs.awaitFinals(1L, 2));
+		context.closeStream().get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void concurrentCallsFollowTheirOwnScript() throws Exception {
+		SttContext first = newContext(1L);
+		SttContext second = newContext(2L);
+		CompletableFuture<Void> firstCall = CompletableFuture.runAsync(() -> speak(first, 1600));
+		CompletableFuture<Void> secondCall = CompletableFuture.runAsync(() -> speak(second, 1600));
+		CompletableFuture.allOf(firstCall, secondCall).get(5, TimeUnit.SECONDS);
+
+		assertEquals(List.of("하나 둘 셋 넷 다섯"), sttLogs.awaitFinals(1L, 1));
+		assertEquals(List.of("하나 둘 셋 넷 다섯"), sttLogs.awaitFinals(2L, 1));
+		CompletableFuture.allOf(first.closeStream(), second.closeStream()).get(5, TimeUnit.SECONDS);
+	}
+
+	private SttContext newContext(long callSessionId) throws IOException {
+		SttContext context = new SttContext(callSessionId, null, CallTrack.OUTBOUND, null, null, new NoopCallLogService(),
+			sttLogs, null, properties, provider, (status, now) -> null, null, Runnable::run);
+		context.initializeStream(SESSION_ID);
+		return context;
+	}
+
+	private static void speak(SttContext context, long durationMs) {
+		feed(context, VOICE, durationMs);
+	}
+
+	private static void silence(SttContext context, long durationMs) {
+		feed(context, SILENCE, durationMs);
+	}
+
+	private static void feed(SttContext context, byte[] frame, long durationMs) {
+		for (long elapsed = 0; elapsed < durationMs; elapsed += FRAME_MS) {
+			context.processAudio(frame, 0, frame.length);
+		}
+	}
+
+	private static class RecordingSttLogService implements CallSttLogService {
+
+		private final Map<Long, List<String>> finals = new HashMap<>();
+
+		@Override
+		public synchronized CallSttLog saveTranscriptLog(Long callSessionId, CallTrack track, String script,
+			boolean isFinal, boolean isAbuse, String abuseType) {
+			finals.computeIfAbsent(callSessionId, id -> new ArrayList<>()).add(script);
+			notifyAll();
+			return CallSttLog.builder()
+				.callSessionId(callSessionId)
+				.track(track)
+				.script(script)
+				.isFinal(isFinal)
+				.isAbuse(isAbuse)
+				.abuseType(abuseType)
+				.build();
+		}
+
+		synchronized List<String> awaitFinals(Long callSessionId, int count) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + 5000;
+			while (finals(callSessionId).size() < count && System.currentTimeMillis() < deadline) {
+				wait(Math.max(1, deadline - System.currentTimeMillis()));
+			}
+			return finals(callSessionId);
+		}
+
+		synchronized List<String> finals(Long callSessionId) {
+			return List.copyOf(finals.getOrDefault(callSessionId, List.of()));
+		}
+
+		@Override
+		public boolean hasAbuseInSession(Long callSessionId) {
+			return false;
+		}
+
+		@Override
+		public String getAbuseTypesBySessionId(Long callSessionId) {
+			return "정상";
+		}
+
+		@Override
+		public List<CallSttLog> getAllBySessionId(Long callSessionId) {
+			return List.of();
+		}
+	}
+
+	private static class NoopCallLogService implements CallLogService {
+
+		@Override
+		public void saveFinalTranscript(Long callSessionId, CallTrack track, String script, boolean isAbuse,
+			String abuseType) {
+		}
+
+		@Override
+		public void updateAbuse(Long callSessionId, CallTrack track) {
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package callprotector.spring.global.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TranscriptSeamDeduplicatorTest {
+
+	private static final long SEAM_WINDOW_MS = 5000;
+	private static final long SEAM_AT = 10_000;
+
+	private TranscriptSeamDeduplicator deduplicator;
+
+	@BeforeEach
+	void markSeamAfterFirstFinal() {
+		deduplicator = new TranscriptSeamDeduplicator(SEAM_WINDOW_MS);
+		deduplicator.deduplicate("안녕하세요 고객센터 상담원입니다", 1, SEAM_AT - 500);
+		deduplicator.markSeam(1, 2, SEAM_AT);
+	}
+
+	@Test
+	void exactOverlapIsDropped() {
+		assertEquals("", deduplicator.deduplicate("안녕하세요 고객센터 상담원입니다", 2, SEAM_AT + 300));
+	}
+
+	@Test
+	void overlappedLeadingWordsAreStripped() {
+		assertEquals("무엇을 도와드릴까요",
+			deduplicator.deduplicate("고객센터 상담원입니다 무엇을 도와드릴까요", 2, SEAM_AT + 300));
+	}
+
+	@Test
+	void partialWordOverlapIsKept() {
+		// 단어 일부만 겹친 경우는 인식 결과가 달라진 것일 수 있으므로 단어 단위로만 제거
+		assertEquals("원입니다 무엇을 도와드릴까요",
+			deduplicator.deduplicate("원입니다 무엇을 도와드릴까요", 2, SEAM_AT + 300));
+	}
+
+	@Test
+	void singleShortWordIsNotTreatedAsOverlap() {
+		TranscriptSeamDeduplicator shortWord = new TranscriptSeamDeduplicator(SEAM_WINDOW_MS);
+		shortWord.deduplicate("예약 확인했어요 네", 1, SEAM_AT - 500);
+		shortWord.markSeam(1, 2, SEAM_AT);
+
+		assertEquals("네 감사합니다", shortWord.deduplicate("네 감사합니다", 2, SEAM_AT + 300));
+	}
+
+	@Test
+	void transcriptWithoutOverlapIsUnchanged() {
+		assertEquals("결제 내역 확인 부탁드려요",
+			deduplicator.deduplicate("결제 내역 확인 부탁드려요", 2, SEAM_AT + 300));
+	}
+
+	@Test
+	void finalOutsideSeamWindowIsUnchanged() {
+		assertEquals("고객센터 상담원입니다 무엇을 도와드릴까요",
+			deduplicator.deduplicate("고객센터 상담원입니다 무엇을 도와드릴까요", 2, SEAM_AT + SEAM_WINDOW_MS + 1));
+	}
+
+	@Test
+	void onlyFirstFinalOfNextStreamIsStripped() {
+		assertEquals("무엇을 도와드릴까요",
+			deduplicator.deduplicate("상담원입니다 무엇을 도와드릴까요", 2, SEAM_AT + 300));
+		// 같은 말을 실제로 다시 한 경우
+		assertEquals("상담원입니다 다시 말씀드릴게요",
+			deduplicator.deduplicate("상담원입니다 다시 말씀드릴게요", 2, SEAM_AT + 1500));
+	}
+
+	@Test
+	void lateFinalOfPreviousStreamDropsWordsAlreadySaidByNextStream() {
+		TranscriptSeamDeduplicator late = new TranscriptSeamDeduplicator(SEAM_WINDOW_MS);
+		late.markSeam(1, 2, SEAM_AT);
+
+		assertEquals("상담원입니다 무엇을 도와드릴까요",
+			late.deduplicate("상담원입니다 무엇을 도와드릴까요", 2, SEAM_AT + 200));
+		assertEquals("안녕하세요 고객센터",
+			late.deduplicate("안녕하세요 고객센터 상담원입니다", 1, SEAM_AT + 300));
+	}
+
+	@Test
+	void seamIsIgnoredBeforeAnyRotation() {
+		TranscriptSeamDeduplicator fresh = new TranscriptSeamDeduplicator(SEAM_WINDOW_MS);
+
+		assertEquals("안녕하세요", fresh.deduplicate("안녕하세요", 1, 100));
+		assertEquals("안녕하세요", fresh.deduplicate("안녕하세요", 1, 200));
+	}
+}
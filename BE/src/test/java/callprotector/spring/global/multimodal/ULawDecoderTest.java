@@ -0,0 +1,72 @@
+package callprotector.spring.global.multimodal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class ULawDecoderTest {
+
+	// 기존 정수 PCM 디코더 출력 - dB 기준값(VAD, 기준 세기, 피치 게이트)이 이 값으로 맞춰져 있으므로
+	// float/일괄 디코딩도 같은 값을 내야 함
+	private static final int[] LEGACY_ULAW = {
+		-66040, -61944, -57848, -53752, -49656, -45560, -41464, -37368,
+		-33272, -29176, -25080, -20984, -16888, -12792, -8696, -4600,
+		-33016, -30968, -28920, -26872, -24824, -22776, -20728, -18680,
+		-16632, -14584, -12536, -10488, -8440, -6392, -4344, -2296,
+		-16504, -15480, -14456, -13432, -12408, -11384, -10360, -9336,
+		-8312, -7288, -6264, -5240, -4216, -3192, -2168, -1144,
+		-8248, -7736, -7224, -6712, -6200, -5688, -5176, -4664,
+		-4152, -3640, -3128, -2616, -2104, -1592, -1080, -568,
+		-4120, -3864, -3608, -3352, -3096, -2840, -2584, -2328,
+		-2072, -1816, -1560, -1304, -1048, -792, -536, -280,
+		-2056, -1928, -1800, -1672, -1544, -1416, -1288, -1160,
+		-1032, -904, -776, -648, -520, -392, -264, -136,
+		-1024, -960, -896, -832, -768, -704, -640, -576,
+		-512, -448, -384, -320, -256, -192, -128, -64,
+		-508, -476, -444, -412, -380, -348, -316, -284,
+		-252, -220, -188, -156, -124, -92, -60, -28,
+		66040, 61944, 57848, 53752, 49656, 45560, 41464, 37368,
+		33272, 29176, 25080, 20984, 16888, 12792, 8696, 4600,
+		33016, 30968, 28920, 26872, 24824, 22776, 20728, 18680,
+		16632, 14584, 12536, 10488, 8440, 6392, 4344, 2296,
+		16504, 15480, 14456, 13432, 12408, 11384, 10360, 9336,
+		8312, 7288, 6264, 5240, 4216, 3192, 2168, 1144,
+		8248, 7736, 7224, 6712, 6200, 5688, 5176, 4664,
+		4152, 3640, 3128, 2616, 2104, 1592, 1080, 568,
+		4120, 3864, 3608, 3352, 3096, 2840, 2584, 2328,
+		2072, 1816, 1560, 1304, 1048, 792, 536, 280,
+		2056, 1928, 1800, 1672, 1544, 1416, 1288, 1160,
+		1032, 904, 776, 648, 520, 392, 264, 136,
+		1024, 960, 896, 832, 768, 704, 640, 576,
+		512, 448, 384, 320, 256, 192, 128, 64,
+		508, 476, 444, 412, 380, 348, 316, 284,
+		252, 220, 188, 156, 124, 92, 60, 28,
+	};
+
+	@Test
+	void decodesEveryCodeLikeLegacyTable() {
+		for (int code = 0; code < 256; code++) {
+			assertEquals(LEGACY_ULAW[code], ULawDecoder.uLawToPcm(code), "code " + code);
+		}
+	}
+
+	@Test
+	void floatTableMatchesPcmTable() {
+		for (int code = 0; code < 256; code++) {
+			assertEquals(LEGACY_ULAW[code] / 32768f, ULawDecoder.uLawToFloat(code), 0.0, "code " + code);
+		}
+	}
+
+	@Test
+	void bulkDecodeUsesFloatTable() {
+		byte[] ulaw = new byte[256];
+		for (int code = 0; code < 256; code++) {
+			ulaw[code] = (byte) code;
+		}
+		float[] decoded = new float[258];
+		ULawDecoder.decode(ulaw, 0, ulaw.length, decoded, 2);
+		for (int code = 0; code < 256; code++) {
+			assertEquals(ULawDecoder.uLawToFloat(code), decoded[code + 2], 0.0, "code " + code);
+		}
+	}
+}
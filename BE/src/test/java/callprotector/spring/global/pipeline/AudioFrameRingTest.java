@@ -0,0 +1,260 @@
+package callprotector.spring.global.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import callprotector.spring.global.common.enums.CallTrack;
+
+class AudioFrameRingTest {
+
+	private static final int SLOT_BYTES = 160;
+	private static final long LATE_MS = 1000;
+
+	@Test
+	void capacityMustBePowerOfTwo() {
+		assertThrows(IllegalArgumentException.class,
+			() -> new AudioFrameRing(CallTrack.INBOUND, AudioOverflowPolicy.BLOCK, 3, SLOT_BYTES, LATE_MS, 10));
+	}
+
+	@Test
+	void oversizedFrameIsDropped() {
+		AudioFrameRing ring = ring(AudioOverflowPolicy.BLOCK, 2, 10);
+
+		assertFalse(ring.offer(new byte[SLOT_BYTES + 1], 0, SLOT_BYTES + 1));
+		assertEquals(1, ring.getDroppedFrames());
+		assertEquals(SLOT_BYTES + 1, ring.getDroppedBytes());
+		assertEquals(0, ring.size());
+	}
+
+	@Test
+	void framesSurviveWrapAround() {
+		AudioFrameRing ring = ring(AudioOverflowPolicy.BLOCK, 4, 10);
+		byte[] dst = new byte[SLOT_BYTES];
+		int sequence = 0;
+
+		for (int round = 0; round < 10; round++) {
+			int first = sequence;
+			for (int i = 0; i < 3; i++) {
+				byte[] frame = frame(sequence++);
+				assertTrue(ring.offer(frame, 0, frame.length));
+			}
+			for (int i = 0; i < 3; i++) {
+				int length = ring.poll(dst);
+				assertFrame(first + i, dst, length);
+			}
+			assertEquals(-1, ring.poll(dst));
+		}
+		assertEquals(0, ring.size());
+		assertEquals(0, ring.getDroppedFrames());
+	}
+
+	@Test
+	void offerWithOffsetCopiesOnlyThatRange() {
+		AudioFrameRing ring = ring(AudioOverflowPolicy.BLOCK, 2, 10);
+		byte[] src = {9, 9, 1, 2, 3, 9};
+		byte[] dst = new byte[SLOT_BYTES];
+
+		assertTrue(ring.offer(src, 2, 3));
+		assertEquals(3, ring.poll(dst));
+		assertArrayEquals(new byte[] {1, 2, 3}, Arrays.copyOf(dst, 3));
+	}
+
+	@Test
+	void blockingOfferGivesUpAfterTimeout() {
+		AudioFrameRing ring = ring(AudioOverflowPolicy.BLOCK, 2, 30);
+		byte[] frame = frame(0);
+		ring.offer(frame, 0, frame.length);
+		ring.offer(frame, 0, frame.length);
+
+		long started = System.nanoTime();
+		assertFalse(ring.offer(frame, 0, frame.length));
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+		assertTrue(elapsedMs >= 30, "제한 시간 전에 포기함: " + elapsedMs + "ms");
+		assertEquals(1, ring.getDroppedFrames());
+		assertEquals(frame.length, ring.getDroppedBytes());
+		assertEquals(2, ring.size());
+	}
+
+	@Test
+	void blockingOfferResumesWhenConsumerFreesSlot() throws Exception {
+		AudioFrameRing ring = ring(AudioOverflowPolicy.BLOCK, 2, 5000);
+		ring.offer(frame(0), 0, frame(0).length);
+		ring.offer(frame(1), 0, frame(1).length);
+
+		CompletableFuture<Integer> consumer = CompletableFuture.supplyAsync(() -> {
+			sleep(20);
+			return ring.poll(new byte[SLOT_BYTES]);
+		});
+		byte[] third = frame(2);
+		assertTrue(ring.offer(third, 0, third.length));
+		int polled = consumer.get(5, TimeUnit.SECONDS);
+		assertEquals(frame(0).length, polled);
+		assertEquals(0, ring.getDroppedFrames());
+
+		byte[] dst = new byte[SLOT_BYTES];
+		assertFrame(1, dst, ring.poll(dst));
+		assertFrame(2, dst, ring.poll(dst));
+	}
+
+	@Test
+	void dropOldestKeepsNewestFrames() {
+		AudioFrameRing ring = ring(AudioOverflowPolicy.DROP_OLDEST, 2, 10);
+		int droppedBytes = 0;
+		for (int sequence = 0; sequence < 5; sequence++) {
+			byte[] frame = frame(sequence);
+			assertTrue(ring.offer(frame, 0, frame.length));
+			if (sequence < 3) {
+				droppedBytes += frame.length;
+			}
+		}
+
+		byte[] dst = new byte[SLOT_BYTES];
+		assertFrame(3, dst, ring.poll(dst));
+		assertFrame(4, dst, ring.poll(dst));
+		assertEquals(-1, ring.poll(dst));
+		assertEquals(3, ring.getDroppedFrames());
+		assertEquals(droppedBytes, ring.getDroppedBytes());
+	}
+
+	@Test
+	void dropOldestUnderConcurrentConsumerNeverTearsOrReordersFrames() throws Exception {
+		AudioFrameRing ring = ring(AudioOverflowPolicy.DROP_OLDEST, 4, 10);
+		int frames = 200_000;
+		AtomicBoolean producing = new AtomicBoolean(true);
+
+		CompletableFuture<long[]> consumer = CompletableFuture.supplyAsync(() -> {
+			byte[] dst = new byte[SLOT_BYTES];
+			long received = 0;
+			long receivedBytes = 0;
+			int last = -1;
+			while (true) {
+				boolean done = !producing.get();
+				int length = ring.poll(dst);
+				if (length < 0) {
+					if (done) {
+						return new long[] {received, receivedBytes};
+					}
+					Thread.onSpinWait();
+					continue;
+				}
+				int sequence = ByteBuffer.wrap(dst, 0, 4).getInt();
+				if (sequence <= last) {
+					fail("프레임 순서가 뒤바뀜: " + last + " -> " + sequence);
+				}
+				assertFrame(sequence, dst, length);
+				last = sequence;
+				received++;
+				receivedBytes += length;
+			}
+		});
+
+		long offeredBytes = 0;
+		for (int sequence = 0; sequence < frames; sequence++) {
+			byte[] frame = frame(sequence);
+			ring.offer(frame, 0, frame.length);
+			offeredBytes += frame.length;
+		}
+		producing.set(false);
+
+		long[] received = consumer.get(30, TimeUnit.SECONDS);
+		assertEquals(frames, received[0] + ring.getDroppedFrames());
+		assertEquals(offeredBytes, received[1] + ring.getDroppedBytes());
+	}
+
+	@Test
+	void coalesceTrimsOldestBytesAndCountsThem() {
+		int slotBytes = 400;
+		AudioFrameRing ring = new AudioFrameRing(CallTrack.INBOUND, AudioOverflowPolicy.COALESCE, 2, slotBytes, LATE_MS,
+			10);
+		for (int i = 1; i <= 5; i++) {
+			byte[] frame = filled(160, i);
+			assertTrue(ring.offer(frame, 0, frame.length));
+		}
+
+		// 링에 1, 2번 프레임, 합친 칸에는 3~5번(480바이트) 중 마지막 400바이트
+		assertEquals(3, ring.getCoalescedFrames());
+		assertEquals(0, ring.getDroppedFrames());
+		assertEquals(80, ring.getDroppedBytes());
+
+		byte[] dst = new byte[slotBytes];
+		assertEquals(160, ring.poll(dst));
+		assertEquals(1, dst[0]);
+		assertEquals(160, ring.poll(dst));
+		assertEquals(2, dst[0]);
+		assertEquals(400, ring.poll(dst));
+		assertBytes(dst, 0, 80, 3);
+		assertBytes(dst, 80, 240, 4);
+		assertBytes(dst, 240, 400, 5);
+		assertEquals(-1, ring.poll(dst));
+	}
+
+	@Test
+	void coalescedFrameIsFlushedBeforeNextFrame() {
+		AudioFrameRing ring = ring(AudioOverflowPolicy.COALESCE, 2, 10);
+		for (int i = 1; i <= 3; i++) {
+			byte[] frame = filled(80, i);
+			ring.offer(frame, 0, frame.length);
+		}
+		byte[] dst = new byte[SLOT_BYTES];
+		assertEquals(1, dst[ring.poll(dst) - 1]);
+
+		// 빈 칸에는 합쳐 둔 3번이 먼저 들어가고, 4번은 다시 합쳐짐
+		byte[] fourth = filled(80, 4);
+		ring.offer(fourth, 0, fourth.length);
+		assertEquals(2, dst[ring.poll(dst) - 1]);
+		assertEquals(3, dst[ring.poll(dst) - 1]);
+		assertEquals(4, dst[ring.poll(dst) - 1]);
+		assertEquals(-1, ring.poll(dst));
+		assertEquals(0, ring.getDroppedBytes());
+	}
+
+	private static AudioFrameRing ring(AudioOverflowPolicy policy, int capacity, long blockTimeoutMs) {
+		return new AudioFrameRing(CallTrack.INBOUND, policy, capacity, SLOT_BYTES, LATE_MS, blockTimeoutMs);
+	}
+
+	// 앞 4바이트에 순번, 나머지는 순번 하위 바이트로 채운 가변 길이 프레임
+	private static byte[] frame(int sequence) {
+		byte[] frame = filled(8 + sequence % (SLOT_BYTES - 8), sequence);
+		ByteBuffer.wrap(frame).putInt(sequence);
+		return frame;
+	}
+
+	private static byte[] filled(int length, int value) {
+		byte[] frame = new byte[length];
+		Arrays.fill(frame, (byte) value);
+		return frame;
+	}
+
+	private static void assertFrame(int sequence, byte[] dst, int length) {
+		byte[] expected = frame(sequence);
+		assertEquals(expected.length, length);
+		assertArrayEquals(expected, Arrays.copyOf(dst, length));
+	}
+
+	private static void assertBytes(byte[] dst, int from, int to, int value) {
+		for (int i = from; i < to; i++) {
+			assertEquals(value, dst[i]);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package callprotector.spring.global.multimodal;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// AudioKernels의 SIMD 구현 - jdk.incubator.vector 모듈이 있을 때만 AudioKernels가 이름으로 로드함
+// - 인큐베이터 모듈 경고가 이 소스셋(src/vector)에서만 나도록 main과 분리해서 컴파일
+// - 레인 폭만큼 처리하고 남은 꼬리 샘플은 스칼라로 처리
+final class VectorAudioKernels implements AudioKernels.Simd {
+
+	private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+	@Override
+	public double sumOfSquares(float[] samples, int offset, int length) {
+		int i = offset;
+		int upper = offset + SPECIES.loopBound(length);
+		FloatVector acc = FloatVector.zero(SPECIES);
+		for (; i < upper; i += SPECIES.length()) {
+			FloatVector v = FloatVector.fromArray(SPECIES, samples, i);
+			acc = v.fma(v, acc);
+		}
+		double sum = acc.reduceLanes(VectorOperators.ADD);
+		return sum + AudioKernels.scalarSumOfSquares(samples, i, offset + length - i);
+	}
+
+	@Override
+	public float peak(float[] samples, int offset, int length) {
+		int i = offset;
+		int upper = offset + SPECIES.loopBound(length);
+		FloatVector max = FloatVector.zero(SPECIES);
+		for (; i < upper; i += SPECIES.length()) {
+			max = max.max(FloatVector.fromArray(SPECIES, samples, i).abs());
+		}
+		return Math.max(max.reduceLanes(VectorOperators.MAX), AudioKernels.scalarPeak(samples, i, offset + length - i));
+	}
+
+	@Override
+	public int zeroCrossings(float[] samples, int offset, int length) {
+		int i = offset;
+		// samples[i]와 samples[i + 1]을 함께 읽으므로 마지막 샘플 하나는 벡터 구간에서 제외
+		int upper = offset + SPECIES.loopBound(Math.max(0, length - 1));
+		int crossings = 0;
+		for (; i < upper; i += SPECIES.length()) {
+			FloatVector current = FloatVector.fromArray(SPECIES, samples, i);
+			FloatVector next = FloatVector.fromArray(SPECIES, samples, i + 1);
+			crossings += current.mul(next).compare(VectorOperators.LT, 0f).trueCount();
+		}
+		return crossings + AudioKernels.scalarZeroCrossings(samples, i, offset + length - i);
+	}
+}
@@ -1,12 +1,17 @@
+from typing import List
+
 from fastapi import FastAPI
 from pydantic import BaseModel
-from detect.detect import is_abuse
+from detect.detect import is_abuse, is_abuse_batch
 
 app = FastAPI()
 
 class AbuseRequest(BaseModel):
     text: str
 
+class AbuseBatchRequest(BaseModel):
+    texts: List[str]
+
 @app.post("/api/abuse/filter")
 def filter_abuse(req: AbuseRequest):
     abuse, detected, abuse_type = is_abuse(req.text)
@@ -15,3 +20,18 @@ def filter_abuse(req: AbuseRequest):
         "detected": bool(detected),
         "type": abuse_type
     }
+
+# 여러 통화의 발화를 모아 한 번에 분석 (BE AbuseClassificationBatcher)
+# 결과는 요청 texts 순서와 같음
+@app.post("/api/abuse/filter/batch")
+def filter_abuse_batch(req: AbuseBatchRequest):
+    return {
+        "results": [
+            {
+                "abuse": abuse,
+                "detected": bool(detected),
+                "type": abuse_type
+            }
+            for abuse, detected, abuse_type in is_abuse_batch(req.texts)
+        ]
+    }
@@ -56,6 +56,15 @@ def predict(text: str):
     pred_label = LABEL_NAMES[pred_idx]
     return probs, pred_label, pred_idx
 
+# ✅ 배치 예측 함수 (여러 문장을 한 번의 모델 호출로 처리)
+def predict_batch(texts):
+    inputs = tokenizer(texts, return_tensors="pt", padding="max_length", truncation=True, max_length=64)
+    with torch.no_grad():
+        logits = model(**inputs)
+        probs = F.softmax(logits, dim=1).tolist()
+    pred_idxs = torch.argmax(logits, dim=1).tolist()
+    return [(p, LABEL_NAMES[i], i) for p, i in zip(probs, pred_idxs)]
+
 # ✅ 최종 판별 함수
 def is_abuse(text: str):
     norm = normalize(text)
@@ -67,6 +76,29 @@ def is_abuse(text: str):
 
     # 모델 예측
     probs, pred_label, pred_idx = predict(text)
+    return decide(detected, probs, pred_label, pred_idx)
+
+# ✅ 배치 판별 함수 - 강제 차단 문장은 모델에 넣지 않고, 나머지만 한 번에 예측
+def is_abuse_batch(texts):
+    results = [None] * len(texts)
+    detected_list = [contains_badword(normalize(text)) for text in texts]
+
+    pending = []
+    for i, detected in enumerate(detected_list):
+        if any(word in FORCE_BLOCK for word in detected):
+            results[i] = (True, detected, "욕설")
+        else:
+            pending.append(i)
+
+    if pending:
+        predictions = predict_batch([texts[i] for i in pending])
+        for i, (probs, pred_label, pred_idx) in zip(pending, predictions):
+            results[i] = decide(detected_list[i], probs, pred_label, pred_idx)
+
+    return results
+
+# ✅ 모델 확률과 단어 사전 결과로 욕설 여부 결정
+def decide(detected, probs, pred_label, pred_idx):
     max_prob = max(probs[:NORMAL_CLASS_INDEX])
     normal_prob = probs[NORMAL_CLASS_INDEX]
     delta = max_prob - normal_prob
@@ -0,0 +1,42 @@
+import argparse
+import json
+import os
+
+from detect.detect import MODEL_PATH, is_abuse, tokenizer
+from export.export_onnx import MAX_LENGTH
+
+# ✅ BE ONNX 백엔드 일치 확인용 기준 파일 생성 (BE ./gradlew abuseAgreement 가 읽음)
+# 사용: FILTER 디렉터리에서 python -m export.agreement_fixture --corpus export/agreement_corpus.txt --out ./model/onnx/agreement.jsonl
+# 한 줄에 문장 하나: text, input_ids(토크나이저 결과, 패딩 없음), abuse/detected/type(/api/abuse/filter 응답과 같은 값)
+
+
+def load_corpus(path):
+    with open(path, encoding="utf-8") as f:
+        return [line.strip() for line in f if line.strip() and not line.startswith("#")]
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--corpus", default="export/agreement_corpus.txt")
+    parser.add_argument("--out", default="./model/onnx/agreement.jsonl")
+    args = parser.parse_args()
+
+    texts = load_corpus(args.corpus)
+    os.makedirs(os.path.dirname(args.out) or ".", exist_ok=True)
+    with open(args.out, "w", encoding="utf-8") as f:
+        for text in texts:
+            input_ids = tokenizer(text, truncation=True, max_length=MAX_LENGTH)["input_ids"]
+            abuse, detected, abuse_type = is_abuse(text)
+            f.write(json.dumps({
+                "text": text,
+                "input_ids": input_ids,
+                "abuse": abuse,
+                "detected": bool(detected),
+                "type": abuse_type,
+            }, ensure_ascii=False) + "\n")
+
+    print(f"✅ 기준 파일 생성 완료: {args.out} ({len(texts)}문장, model={MODEL_PATH})")
+
+
+if __name__ == "__main__":
+    main()
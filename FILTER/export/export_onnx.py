@@ -0,0 +1,81 @@
+import argparse
+import json
+import os
+
+import torch
+
+from detect.detect import BADWORDS, FORCE_BLOCK, LABEL_NAMES, model, tokenizer
+
+# ✅ 학습된 KoBERT 분류 모델을 ONNX로 내보내기 (BE OnnxAbuseClassifier, abuse.classifier.backend=ONNX)
+# 사용: FILTER 디렉터리에서 python -m export.export_onnx --out ./model/onnx
+# 결과:
+#   model.onnx      - 입력 input_ids / attention_mask / token_type_ids [batch, sequence], 출력 logits [batch, 라벨 수]
+#   classifier.json - 라벨 순서, 최대 길이, 토크나이저 조각(vocab id 순서)과 SentencePiece 점수,
+#                     단어 사전(badwords / force_block - BE도 detect.py와 같은 사전으로 detected/강제 차단 판정)
+# 내보낸 뒤 python -m export.agreement_fixture 로 BE 판정 일치 여부 확인용 기준 파일 생성
+
+MAX_LENGTH = 64
+INPUT_NAMES = ["input_ids", "attention_mask", "token_type_ids"]
+
+
+def export_model(out_dir, opset):
+    sample = tokenizer(["안녕하세요 고객센터입니다", "욕설 분류 모델 내보내기"], return_tensors="pt", padding=True)
+    dynamic_axes = {name: {0: "batch", 1: "sequence"} for name in INPUT_NAMES}
+    dynamic_axes["logits"] = {0: "batch"}
+    torch.onnx.export(
+        model,
+        tuple(sample[name] for name in INPUT_NAMES),
+        os.path.join(out_dir, "model.onnx"),
+        input_names=INPUT_NAMES,
+        output_names=["logits"],
+        dynamic_axes=dynamic_axes,
+        opset_version=opset,
+    )
+
+
+# ✅ KoBERT 토크나이저는 SentencePiece 조각을 별도 vocab 순서의 id로 바꿔 씀 → id 순서대로 [조각, 점수] 저장
+def export_tokenizer():
+    sp = tokenizer.sp_model
+    vocab = tokenizer.get_vocab()
+    special_ids = sorted(set(tokenizer.all_special_ids))
+
+    pieces = [None] * len(vocab)
+    for token, idx in vocab.items():
+        sp_id = sp.PieceToId(token)
+        known = idx not in special_ids and sp_id != sp.unk_id()
+        pieces[idx] = [token, sp.GetScore(sp_id) if known else 0.0]
+
+    return {
+        "pieces": pieces,
+        "special_ids": special_ids,
+        "unk_id": tokenizer.unk_token_id,
+        "pad_id": tokenizer.pad_token_id,
+        "cls_id": tokenizer.cls_token_id,
+        "sep_id": tokenizer.sep_token_id,
+    }
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--out", default="./model/onnx")
+    parser.add_argument("--opset", type=int, default=17)
+    args = parser.parse_args()
+
+    os.makedirs(args.out, exist_ok=True)
+    export_model(args.out, args.opset)
+
+    config = {
+        "labels": LABEL_NAMES,
+        "max_length": MAX_LENGTH,
+        "tokenizer": export_tokenizer(),
+        "badwords": sorted(BADWORDS),
+        "force_block": sorted(FORCE_BLOCK),
+    }
+    with open(os.path.join(args.out, "classifier.json"), "w", encoding="utf-8") as f:
+        json.dump(config, f, ensure_ascii=False)
+
+    print(f"✅ ONNX 내보내기 완료: {args.out} (labels={LABEL_NAMES}, vocab={len(config['tokenizer']['pieces'])})")
+
+
+if __name__ == "__main__":
+    main()